@@ -0,0 +1,983 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.CopticChronology;
+import org.joda.time.chrono.EthiopicChronology;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.GregorianChronology;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.IslamicChronology;
+import org.joda.time.chrono.JulianChronology;
+
+/**
+ * BinaryCodec provides a compact binary format for the main value types.
+ * <p>
+ * Standard Java serialization writes the full object graph of the chronology
+ * for each datetime, which is large and slow to decode. This codec is an
+ * opt-in alternative for caches and replication layers, where many values
+ * are written to the same stream.
+ * <p>
+ * Each value is written as a one byte type tag followed by the content.
+ * Instants and durations are written as zig-zag variable length integers.
+ * Chronologies are written in full the first time they are seen by an encoder
+ * and as an index into a table thereafter, with the zone IDs also held in a table.
+ * As such, the output of an {@link Encoder} can only be read by a single
+ * {@link Decoder} that reads the values in the same order.
+ * <p>
+ * The supported types are {@link DateTime}, {@link MutableDateTime}, {@link Instant},
+ * {@link LocalDate}, {@link LocalDateTime}, {@link LocalTime}, {@link Interval},
+ * {@link Duration} and {@link Period}. The supported chronologies are ISO, Gregorian,
+ * Julian, GJ, Buddhist, Coptic, Ethiopic and Islamic in any time zone.
+ * <p>
+ * BinaryCodec is thread-safe, however each encoder and decoder must only
+ * be used by a single thread.
+ *
+ * @since 2.15
+ */
+public final class BinaryCodec {
+
+    /** Tag for null. */
+    static final int TAG_NULL = 0;
+    /** Tag for DateTime. */
+    static final int TAG_DATE_TIME = 1;
+    /** Tag for MutableDateTime. */
+    static final int TAG_MUTABLE_DATE_TIME = 2;
+    /** Tag for Instant. */
+    static final int TAG_INSTANT = 3;
+    /** Tag for LocalDate. */
+    static final int TAG_LOCAL_DATE = 4;
+    /** Tag for LocalDateTime. */
+    static final int TAG_LOCAL_DATE_TIME = 5;
+    /** Tag for LocalTime. */
+    static final int TAG_LOCAL_TIME = 6;
+    /** Tag for Interval. */
+    static final int TAG_INTERVAL = 7;
+    /** Tag for Duration. */
+    static final int TAG_DURATION = 8;
+    /** Tag for Period. */
+    static final int TAG_PERIOD = 9;
+
+    /** Chronology type for ISO. */
+    static final int CHRONO_ISO = 0;
+    /** Chronology type for Gregorian. */
+    static final int CHRONO_GREGORIAN = 1;
+    /** Chronology type for Julian. */
+    static final int CHRONO_JULIAN = 2;
+    /** Chronology type for GJ. */
+    static final int CHRONO_GJ = 3;
+    /** Chronology type for Buddhist. */
+    static final int CHRONO_BUDDHIST = 4;
+    /** Chronology type for Coptic. */
+    static final int CHRONO_COPTIC = 5;
+    /** Chronology type for Ethiopic. */
+    static final int CHRONO_ETHIOPIC = 6;
+    /** Chronology type for Islamic. */
+    static final int CHRONO_ISLAMIC = 7;
+
+    /** The maximum length of a zone ID accepted when decoding. */
+    private static final int MAX_ZONE_ID_LENGTH = 255;
+
+    /** The Islamic leap year patterns, indexed by code. */
+    private static final IslamicChronology.LeapYearPatternType[] LEAP_YEAR_PATTERNS = {
+        IslamicChronology.LEAP_YEAR_15_BASED,
+        IslamicChronology.LEAP_YEAR_16_BASED,
+        IslamicChronology.LEAP_YEAR_INDIAN,
+        IslamicChronology.LEAP_YEAR_HABASH_AL_HASIB,
+    };
+    /** The period field types, in bit order. */
+    private static final DurationFieldType[] PERIOD_FIELDS = {
+        DurationFieldType.years(),
+        DurationFieldType.months(),
+        DurationFieldType.weeks(),
+        DurationFieldType.days(),
+        DurationFieldType.hours(),
+        DurationFieldType.minutes(),
+        DurationFieldType.seconds(),
+        DurationFieldType.millis(),
+    };
+    /** The period types, indexed by bit mask. */
+    private static final AtomicReferenceArray<PeriodType> PERIOD_TYPES = new AtomicReferenceArray<PeriodType>(256);
+
+    /**
+     * Restricted constructor.
+     */
+    private BinaryCodec() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an encoder that writes to the specified output.
+     *
+     * @param out  the output to write to, not null
+     * @return the encoder, not null
+     */
+    public static Encoder encoder(DataOutput out) {
+        if (out == null) {
+            throw new IllegalArgumentException("DataOutput must not be null");
+        }
+        return new Encoder(out, null);
+    }
+
+    /**
+     * Creates an encoder that writes to the specified buffer.
+     * <p>
+     * A {@code BufferOverflowException} is thrown if the buffer is full.
+     *
+     * @param buffer  the buffer to write to, not null
+     * @return the encoder, not null
+     */
+    public static Encoder encoder(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("ByteBuffer must not be null");
+        }
+        return new Encoder(null, buffer);
+    }
+
+    /**
+     * Creates a decoder that reads from the specified input.
+     *
+     * @param in  the input to read from, not null
+     * @return the decoder, not null
+     */
+    public static Decoder decoder(DataInput in) {
+        if (in == null) {
+            throw new IllegalArgumentException("DataInput must not be null");
+        }
+        return new Decoder(in, null);
+    }
+
+    /**
+     * Creates a decoder that reads from the specified buffer.
+     * <p>
+     * A {@code BufferUnderflowException} is thrown if the buffer is exhausted.
+     *
+     * @param buffer  the buffer to read from, not null
+     * @return the decoder, not null
+     */
+    public static Decoder decoder(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("ByteBuffer must not be null");
+        }
+        return new Decoder(null, buffer);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology type code.
+     *
+     * @param chrono  the chronology, not null
+     * @return the type code, -1 if not supported
+     */
+    static int chronologyType(Chronology chrono) {
+        if (chrono instanceof ISOChronology) {
+            return CHRONO_ISO;
+        } else if (chrono instanceof GregorianChronology) {
+            return CHRONO_GREGORIAN;
+        } else if (chrono instanceof JulianChronology) {
+            return CHRONO_JULIAN;
+        } else if (chrono instanceof GJChronology) {
+            return CHRONO_GJ;
+        } else if (chrono instanceof BuddhistChronology) {
+            return CHRONO_BUDDHIST;
+        } else if (chrono instanceof CopticChronology) {
+            return CHRONO_COPTIC;
+        } else if (chrono instanceof EthiopicChronology) {
+            return CHRONO_ETHIOPIC;
+        } else if (chrono instanceof IslamicChronology) {
+            return CHRONO_ISLAMIC;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the chronology parameter, which is the minimum days in the first week,
+     * or the leap year pattern for Islamic.
+     *
+     * @param type  the chronology type code
+     * @param chrono  the chronology, not null
+     * @return the parameter
+     */
+    static int chronologyParameter(int type, Chronology chrono) {
+        switch (type) {
+            case CHRONO_GREGORIAN:
+                return ((GregorianChronology) chrono).getMinimumDaysInFirstWeek();
+            case CHRONO_JULIAN:
+                return ((JulianChronology) chrono).getMinimumDaysInFirstWeek();
+            case CHRONO_GJ:
+                return ((GJChronology) chrono).getMinimumDaysInFirstWeek();
+            case CHRONO_COPTIC:
+                return ((CopticChronology) chrono).getMinimumDaysInFirstWeek();
+            case CHRONO_ETHIOPIC:
+                return ((EthiopicChronology) chrono).getMinimumDaysInFirstWeek();
+            case CHRONO_ISLAMIC: {
+                IslamicChronology.LeapYearPatternType pattern = ((IslamicChronology) chrono).getLeapYearPatternType();
+                for (int i = 0; i < LEAP_YEAR_PATTERNS.length; i++) {
+                    if (LEAP_YEAR_PATTERNS[i].equals(pattern)) {
+                        return i;
+                    }
+                }
+                return 0;
+            }
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Creates a chronology from its parts.
+     *
+     * @param type  the chronology type code
+     * @param zone  the zone, not null
+     * @param param  the chronology parameter
+     * @param cutover  the GJ cutover, ignored for other types
+     * @return the chronology, not null
+     * @throws IllegalArgumentException if the type or parameter is invalid
+     */
+    static Chronology chronology(int type, DateTimeZone zone, int param, long cutover) {
+        switch (type) {
+            case CHRONO_ISO:
+                return ISOChronology.getInstance(zone);
+            case CHRONO_GREGORIAN:
+                return GregorianChronology.getInstance(zone, param);
+            case CHRONO_JULIAN:
+                return JulianChronology.getInstance(zone, param);
+            case CHRONO_GJ:
+                return GJChronology.getInstance(zone, cutover, param);
+            case CHRONO_BUDDHIST:
+                return BuddhistChronology.getInstance(zone);
+            case CHRONO_COPTIC:
+                return CopticChronology.getInstance(zone, param);
+            case CHRONO_ETHIOPIC:
+                return EthiopicChronology.getInstance(zone, param);
+            case CHRONO_ISLAMIC:
+                if (param < 0 || param >= LEAP_YEAR_PATTERNS.length) {
+                    throw new IllegalArgumentException("Invalid leap year pattern: " + param);
+                }
+                return IslamicChronology.getInstance(zone, LEAP_YEAR_PATTERNS[param]);
+            default:
+                throw new IllegalArgumentException("Invalid chronology type: " + type);
+        }
+    }
+
+    /**
+     * Gets the bit mask of the fields supported by the period type.
+     *
+     * @param type  the period type, not null
+     * @return the bit mask, -1 if the period type is not supported
+     */
+    static int periodMask(PeriodType type) {
+        int mask = 0;
+        for (int i = 0; i < PERIOD_FIELDS.length; i++) {
+            if (type.isSupported(PERIOD_FIELDS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return (Integer.bitCount(mask) == type.size() ? mask : -1);
+    }
+
+    /**
+     * Gets the period type for a bit mask of fields.
+     *
+     * @param mask  the bit mask, from 1 to 255
+     * @return the period type, not null
+     * @throws IllegalArgumentException if the mask is invalid
+     */
+    static PeriodType periodType(int mask) {
+        if (mask <= 0 || mask > 255) {
+            throw new IllegalArgumentException("Invalid period type: " + mask);
+        }
+        PeriodType type = PERIOD_TYPES.get(mask);
+        if (type == null) {
+            DurationFieldType[] types = new DurationFieldType[Integer.bitCount(mask)];
+            for (int i = 0, j = 0; i < PERIOD_FIELDS.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    types[j++] = PERIOD_FIELDS[i];
+                }
+            }
+            type = PeriodType.forFields(types);
+            PERIOD_TYPES.set(mask, type);
+        }
+        return type;
+    }
+
+    /**
+     * Gets the value of a period field by its bit index.
+     *
+     * @param period  the period, not null
+     * @param index  the bit index, from 0 to 7
+     * @return the value
+     */
+    static int periodValue(Period period, int index) {
+        return period.get(PERIOD_FIELDS[index]);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes values in the compact binary format.
+     * <p>
+     * An encoder holds the table of chronologies and zones that have been written.
+     * It must only be used by a single thread.
+     */
+    public static final class Encoder {
+
+        /** The output, null if writing to a buffer. */
+        private final DataOutput iOut;
+        /** The buffer, null if writing to an output. */
+        private final ByteBuffer iBuffer;
+        /** The scratch space for variable length integers. */
+        private final byte[] iScratch = new byte[10];
+        /** The chronologies that have been written, mapped to their index. */
+        private final Map<Chronology, Integer> iChronologies = new HashMap<Chronology, Integer>();
+        /** The zones that have been written, mapped to their index. */
+        private final Map<DateTimeZone, Integer> iZones = new HashMap<DateTimeZone, Integer>();
+        /** The last chronology written. */
+        private Chronology iLastChronology;
+        /** The index of the last chronology written. */
+        private int iLastChronologyIndex;
+
+        Encoder(DataOutput out, ByteBuffer buffer) {
+            iOut = out;
+            iBuffer = buffer;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Writes a supported value, or null.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the type or its chronology is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void write(Object value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else if (value instanceof DateTime) {
+                writeDateTime((DateTime) value);
+            } else if (value instanceof LocalDate) {
+                writeLocalDate((LocalDate) value);
+            } else if (value instanceof LocalDateTime) {
+                writeLocalDateTime((LocalDateTime) value);
+            } else if (value instanceof Instant) {
+                writeInstant((Instant) value);
+            } else if (value instanceof Interval) {
+                writeInterval((Interval) value);
+            } else if (value instanceof Duration) {
+                writeDuration((Duration) value);
+            } else if (value instanceof Period) {
+                writePeriod((Period) value);
+            } else if (value instanceof LocalTime) {
+                writeLocalTime((LocalTime) value);
+            } else if (value instanceof MutableDateTime) {
+                writeMutableDateTime((MutableDateTime) value);
+            } else {
+                throw new IllegalArgumentException("Type not supported by BinaryCodec: " + value.getClass().getName());
+            }
+        }
+
+        /**
+         * Writes a datetime, or null.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the chronology is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void writeDateTime(DateTime value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                writeByte(TAG_DATE_TIME);
+                writeLong(value.getMillis());
+                writeChronology(value.getChronology());
+            }
+        }
+
+        /**
+         * Writes a mutable datetime, or null.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the chronology is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void writeMutableDateTime(MutableDateTime value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                writeByte(TAG_MUTABLE_DATE_TIME);
+                writeLong(value.getMillis());
+                writeChronology(value.getChronology());
+            }
+        }
+
+        /**
+         * Writes an instant, or null.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IOException if an IO error occurs
+         */
+        public void writeInstant(Instant value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                writeByte(TAG_INSTANT);
+                writeLong(value.getMillis());
+            }
+        }
+
+        /**
+         * Writes a local date, or null.
+         * <p>
+         * The date is written as a count of days, which is typically three bytes.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the chronology is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void writeLocalDate(LocalDate value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                writeByte(TAG_LOCAL_DATE);
+                writeLong(value.getLocalMillis() / DateTimeConstants.MILLIS_PER_DAY);
+                writeChronology(value.getChronology());
+            }
+        }
+
+        /**
+         * Writes a local datetime, or null.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the chronology is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void writeLocalDateTime(LocalDateTime value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                writeByte(TAG_LOCAL_DATE_TIME);
+                writeLong(value.getLocalMillis());
+                writeChronology(value.getChronology());
+            }
+        }
+
+        /**
+         * Writes a local time, or null.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the chronology is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void writeLocalTime(LocalTime value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                writeByte(TAG_LOCAL_TIME);
+                writeLong(value.getLocalMillis());
+                writeChronology(value.getChronology());
+            }
+        }
+
+        /**
+         * Writes an interval, or null.
+         * <p>
+         * The end is written relative to the start.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the chronology is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void writeInterval(Interval value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                long start = value.getStartMillis();
+                writeByte(TAG_INTERVAL);
+                writeLong(start);
+                writeLong(value.getEndMillis() - start);
+                writeChronology(value.getChronology());
+            }
+        }
+
+        /**
+         * Writes a duration, or null.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IOException if an IO error occurs
+         */
+        public void writeDuration(Duration value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+            } else {
+                writeByte(TAG_DURATION);
+                writeLong(value.getMillis());
+            }
+        }
+
+        /**
+         * Writes a period, or null.
+         * <p>
+         * The period type is written as a bit mask of the supported fields,
+         * followed by the value of each supported field.
+         *
+         * @param value  the value to write, null permitted
+         * @throws IllegalArgumentException if the period type is not supported
+         * @throws IOException if an IO error occurs
+         */
+        public void writePeriod(Period value) throws IOException {
+            if (value == null) {
+                writeByte(TAG_NULL);
+                return;
+            }
+            int mask = periodMask(value.getPeriodType());
+            if (mask < 0) {
+                throw new IllegalArgumentException("PeriodType not supported by BinaryCodec: " + value.getPeriodType());
+            }
+            writeByte(TAG_PERIOD);
+            writeByte(mask);
+            for (int i = 0; i < PERIOD_FIELDS.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    writeLong(periodValue(value, i));
+                }
+            }
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Writes the chronology, as a table index if it has been written before.
+         *
+         * @param chrono  the chronology, not null
+         * @throws IOException if an IO error occurs
+         */
+        private void writeChronology(Chronology chrono) throws IOException {
+            if (chrono == iLastChronology) {
+                writeVarint(iLastChronologyIndex);
+                return;
+            }
+            Integer index = iChronologies.get(chrono);
+            if (index != null) {
+                writeVarint(index);
+            } else {
+                int type = chronologyType(chrono);
+                if (type < 0) {
+                    throw new IllegalArgumentException("Chronology not supported by BinaryCodec: " + chrono);
+                }
+                index = Integer.valueOf(iChronologies.size());
+                writeVarint(index);
+                writeByte(type);
+                writeZone(chrono.getZone());
+                writeByte(chronologyParameter(type, chrono));
+                if (type == CHRONO_GJ) {
+                    writeLong(((GJChronology) chrono).getGregorianCutover().getMillis());
+                }
+                iChronologies.put(chrono, index);
+            }
+            iLastChronology = chrono;
+            iLastChronologyIndex = index;
+        }
+
+        /**
+         * Writes the zone, as a table index if it has been written before.
+         *
+         * @param zone  the zone, not null
+         * @throws IOException if an IO error occurs
+         */
+        private void writeZone(DateTimeZone zone) throws IOException {
+            Integer index = iZones.get(zone);
+            if (index != null) {
+                writeVarint(index);
+            } else {
+                index = Integer.valueOf(iZones.size());
+                writeVarint(index);
+                String id = zone.getID();
+                writeVarint(id.length());
+                for (int i = 0; i < id.length(); i++) {
+                    writeVarint(id.charAt(i));
+                }
+                iZones.put(zone, index);
+            }
+        }
+
+        /**
+         * Writes a zig-zag encoded variable length integer.
+         *
+         * @param value  the value to write
+         * @throws IOException if an IO error occurs
+         */
+        private void writeLong(long value) throws IOException {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        /**
+         * Writes an unsigned variable length integer.
+         *
+         * @param value  the value to write, treated as unsigned
+         * @throws IOException if an IO error occurs
+         */
+        private void writeVarint(long value) throws IOException {
+            byte[] scratch = iScratch;
+            int pos = 0;
+            while ((value & ~0x7FL) != 0) {
+                scratch[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            scratch[pos++] = (byte) value;
+            if (iBuffer != null) {
+                iBuffer.put(scratch, 0, pos);
+            } else {
+                iOut.write(scratch, 0, pos);
+            }
+        }
+
+        /**
+         * Writes a single byte.
+         *
+         * @param value  the value to write
+         * @throws IOException if an IO error occurs
+         */
+        private void writeByte(int value) throws IOException {
+            if (iBuffer != null) {
+                iBuffer.put((byte) value);
+            } else {
+                iOut.writeByte(value);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads values in the compact binary format.
+     * <p>
+     * A decoder holds the table of chronologies and zones that have been read.
+     * It must only be used by a single thread.
+     */
+    public static final class Decoder {
+
+        /** The input, null if reading from a buffer. */
+        private final DataInput iIn;
+        /** The buffer, null if reading from an input. */
+        private final ByteBuffer iBuffer;
+        /** The chronologies that have been read. */
+        private final List<Chronology> iChronologies = new ArrayList<Chronology>();
+        /** The zones that have been read. */
+        private final List<DateTimeZone> iZones = new ArrayList<DateTimeZone>();
+
+        Decoder(DataInput in, ByteBuffer buffer) {
+            iIn = in;
+            iBuffer = buffer;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Reads a value of any supported type.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public Object read() throws IOException {
+            return read(readByte());
+        }
+
+        /**
+         * Reads a datetime.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public DateTime readDateTime() throws IOException {
+            return (DateTime) read(expect(TAG_DATE_TIME));
+        }
+
+        /**
+         * Reads a mutable datetime.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public MutableDateTime readMutableDateTime() throws IOException {
+            return (MutableDateTime) read(expect(TAG_MUTABLE_DATE_TIME));
+        }
+
+        /**
+         * Reads an instant.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public Instant readInstant() throws IOException {
+            return (Instant) read(expect(TAG_INSTANT));
+        }
+
+        /**
+         * Reads a local date.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public LocalDate readLocalDate() throws IOException {
+            return (LocalDate) read(expect(TAG_LOCAL_DATE));
+        }
+
+        /**
+         * Reads a local datetime.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public LocalDateTime readLocalDateTime() throws IOException {
+            return (LocalDateTime) read(expect(TAG_LOCAL_DATE_TIME));
+        }
+
+        /**
+         * Reads a local time.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public LocalTime readLocalTime() throws IOException {
+            return (LocalTime) read(expect(TAG_LOCAL_TIME));
+        }
+
+        /**
+         * Reads an interval.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public Interval readInterval() throws IOException {
+            return (Interval) read(expect(TAG_INTERVAL));
+        }
+
+        /**
+         * Reads a duration.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public Duration readDuration() throws IOException {
+            return (Duration) read(expect(TAG_DURATION));
+        }
+
+        /**
+         * Reads a period.
+         *
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        public Period readPeriod() throws IOException {
+            return (Period) read(expect(TAG_PERIOD));
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Reads the tag, checking it is null or the expected tag.
+         *
+         * @param expected  the expected tag
+         * @return the tag read
+         * @throws IOException if an IO error occurs or the tag is invalid
+         */
+        private int expect(int expected) throws IOException {
+            int tag = readByte();
+            if (tag != expected && tag != TAG_NULL) {
+                throw new IOException("Invalid BinaryCodec data, expected tag " + expected + " but found " + tag);
+            }
+            return tag;
+        }
+
+        /**
+         * Reads the content following the tag.
+         *
+         * @param tag  the tag that has been read
+         * @return the value, null if null was written
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        private Object read(int tag) throws IOException {
+            try {
+                switch (tag) {
+                    case TAG_NULL:
+                        return null;
+                    case TAG_DATE_TIME: {
+                        long millis = readLong();
+                        return new DateTime(millis, readChronology());
+                    }
+                    case TAG_MUTABLE_DATE_TIME: {
+                        long millis = readLong();
+                        return new MutableDateTime(millis, readChronology());
+                    }
+                    case TAG_INSTANT:
+                        return new Instant(readLong());
+                    case TAG_LOCAL_DATE: {
+                        long days = readLong();
+                        return new LocalDate(days * DateTimeConstants.MILLIS_PER_DAY, readChronology().withUTC());
+                    }
+                    case TAG_LOCAL_DATE_TIME: {
+                        long millis = readLong();
+                        return new LocalDateTime(millis, readChronology().withUTC());
+                    }
+                    case TAG_LOCAL_TIME: {
+                        long millis = readLong();
+                        return new LocalTime(millis, readChronology().withUTC());
+                    }
+                    case TAG_INTERVAL: {
+                        long start = readLong();
+                        long end = start + readLong();
+                        return new Interval(start, end, readChronology());
+                    }
+                    case TAG_DURATION:
+                        return new Duration(readLong());
+                    case TAG_PERIOD:
+                        return readPeriodContent();
+                    default:
+                        throw new IOException("Invalid BinaryCodec data, unknown tag " + tag);
+                }
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("Invalid BinaryCodec data: " + ex.getMessage());
+            }
+        }
+
+        /**
+         * Reads the content of a period.
+         *
+         * @return the period, not null
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        private Period readPeriodContent() throws IOException {
+            int mask = readByte();
+            PeriodType type = periodType(mask);
+            int[] values = new int[PERIOD_FIELDS.length];
+            for (int i = 0; i < PERIOD_FIELDS.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    long value = readLong();
+                    if (value != (int) value) {
+                        throw new IOException("Invalid BinaryCodec data, period value out of range: " + value);
+                    }
+                    values[i] = (int) value;
+                }
+            }
+            return new Period(values[0], values[1], values[2], values[3],
+                    values[4], values[5], values[6], values[7], type);
+        }
+
+        /**
+         * Reads a chronology, from the table if it has been read before.
+         *
+         * @return the chronology, not null
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        private Chronology readChronology() throws IOException {
+            int index = readIndex(iChronologies.size());
+            if (index < iChronologies.size()) {
+                return iChronologies.get(index);
+            }
+            int type = readByte();
+            DateTimeZone zone = readZone();
+            int param = readByte();
+            long cutover = (type == CHRONO_GJ ? readLong() : 0L);
+            Chronology chrono = chronology(type, zone, param, cutover);
+            iChronologies.add(chrono);
+            return chrono;
+        }
+
+        /**
+         * Reads a zone, from the table if it has been read before.
+         *
+         * @return the zone, not null
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        private DateTimeZone readZone() throws IOException {
+            int index = readIndex(iZones.size());
+            if (index < iZones.size()) {
+                return iZones.get(index);
+            }
+            int length = readIndex(MAX_ZONE_ID_LENGTH);
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) readIndex(Character.MAX_VALUE);
+            }
+            DateTimeZone zone = DateTimeZone.forID(new String(chars));
+            iZones.add(zone);
+            return zone;
+        }
+
+        /**
+         * Reads a table index or other bounded non-negative integer.
+         *
+         * @param max  the maximum valid value, inclusive
+         * @return the value
+         * @throws IOException if an IO error occurs or the value is out of range
+         */
+        private int readIndex(int max) throws IOException {
+            long value = readVarint();
+            if (value < 0 || value > max) {
+                throw new IOException("Invalid BinaryCodec data, value out of range: " + value);
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads a zig-zag encoded variable length integer.
+         *
+         * @return the value
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        private long readLong() throws IOException {
+            long zigzag = readVarint();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        /**
+         * Reads an unsigned variable length integer.
+         *
+         * @return the value, treated as unsigned
+         * @throws IOException if an IO error occurs or the data is invalid
+         */
+        private long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Invalid BinaryCodec data, malformed variable length integer");
+        }
+
+        /**
+         * Reads a single unsigned byte.
+         *
+         * @return the value, from 0 to 255
+         * @throws IOException if an IO error occurs
+         */
+        private int readByte() throws IOException {
+            if (iBuffer != null) {
+                return iBuffer.get() & 0xFF;
+            }
+            return iIn.readUnsignedByte();
+        }
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.IOException;
+
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.IsoFastPath;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * Field extraction and printing shared by the columnar arrays.
+ * <p>
+ * The ISO chronology is handled arithmetically for the common fields using {@link IsoFastPath},
+ * other chronologies and fields use the chronology fields.
+ *
+ * @since 2.15
+ */
+final class ColumnFields {
+
+    /**
+     * Restricted constructor.
+     */
+    private ColumnFields() {
+    }
+
+    /** Code for a field that is not calculated arithmetically. */
+    static final int NO_FAST_PATH = -1;
+    /** The field types calculated arithmetically in the ISO chronology, indexed by code. */
+    private static final DateTimeFieldType[] FAST_PATH_TYPES = {
+        DateTimeFieldType.year(),
+        DateTimeFieldType.monthOfYear(),
+        DateTimeFieldType.dayOfMonth(),
+        DateTimeFieldType.dayOfWeek(),
+        DateTimeFieldType.dayOfYear(),
+        DateTimeFieldType.hourOfDay(),
+        DateTimeFieldType.minuteOfHour(),
+        DateTimeFieldType.secondOfMinute(),
+        DateTimeFieldType.millisOfSecond(),
+        DateTimeFieldType.minuteOfDay(),
+        DateTimeFieldType.secondOfDay(),
+        DateTimeFieldType.millisOfDay(),
+    };
+
+    //-----------------------------------------------------------------------
+    /**
+     * Selects how a field is calculated, once for a whole array.
+     *
+     * @param chrono  the chronology in UTC, not null
+     * @param type  the field type, not null
+     * @return the code of the arithmetic calculation, or {@code NO_FAST_PATH}
+     */
+    static int fastPath(Chronology chrono, DateTimeFieldType type) {
+        if (chrono == ISOChronology.getInstanceUTC()) {
+            for (int i = 0; i < FAST_PATH_TYPES.length; i++) {
+                if (FAST_PATH_TYPES[i] == type) {
+                    return i;
+                }
+            }
+        }
+        return NO_FAST_PATH;
+    }
+
+    /**
+     * Gets the value of a field from local millis.
+     *
+     * @param fastPath  the code from {@link #fastPath}
+     * @param chrono  the chronology in UTC, not null
+     * @param field  the field in the chronology, not null
+     * @param localMillis  the local millis
+     * @return the field value
+     */
+    static int get(int fastPath, Chronology chrono, DateTimeField field, long localMillis) {
+        switch (fastPath) {
+            case 0:
+                return IsoFastPath.getYear(chrono, localMillis);
+            case 1:
+                return IsoFastPath.getMonthOfYear(chrono, localMillis);
+            case 2:
+                return IsoFastPath.getDayOfMonth(chrono, localMillis);
+            case 3:
+                return IsoFastPath.getDayOfWeek(chrono, localMillis);
+            case 4:
+                return IsoFastPath.getDayOfYear(chrono, localMillis);
+            case 5:
+                return IsoFastPath.getHourOfDay(chrono, localMillis);
+            case 6:
+                return IsoFastPath.getMinuteOfHour(chrono, localMillis);
+            case 7:
+                return IsoFastPath.getSecondOfMinute(chrono, localMillis);
+            case 8:
+                return IsoFastPath.getMillisOfSecond(chrono, localMillis);
+            case 9:
+                return IsoFastPath.getMinuteOfDay(chrono, localMillis);
+            case 10:
+                return IsoFastPath.getSecondOfDay(chrono, localMillis);
+            case 11:
+                return IsoFastPath.getMillisOfDay(chrono, localMillis);
+            default:
+                return field.get(localMillis);
+        }
+    }
+
+    /**
+     * Gets the value of a date field from an epoch-day.
+     *
+     * @param fastPath  the code from {@link #fastPath}
+     * @param chrono  the chronology in UTC, not null
+     * @param field  the field in the chronology, not null
+     * @param epochDay  the number of days from 1970-01-01
+     * @return the field value
+     */
+    static int getDate(int fastPath, Chronology chrono, DateTimeField field, long epochDay) {
+        return get(fastPath, chrono, field, epochDay * DateTimeConstants.MILLIS_PER_DAY);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks the size of a new array.
+     *
+     * @param size  the size
+     * @throws IllegalArgumentException if negative
+     */
+    static void checkSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative: " + size);
+        }
+    }
+
+    /**
+     * Checks that the field type is supported, returning the field.
+     *
+     * @param type  the field type
+     * @param supported  whether the type is supported
+     * @param chrono  the chronology, not null
+     * @return the field, not null
+     * @throws IllegalArgumentException if the field type is null or unsupported
+     */
+    static DateTimeField field(DateTimeFieldType type, boolean supported, Chronology chrono) {
+        if (type == null) {
+            throw new IllegalArgumentException("The DateTimeFieldType must not be null");
+        }
+        if (supported == false) {
+            throw new IllegalArgumentException("Field '" + type + "' is not supported");
+        }
+        return type.getField(chrono);
+    }
+
+    /**
+     * Prints each millisecond value to a string.
+     *
+     * @param formatter  the formatter, with the chronology and zone set, not null
+     * @param millis  the millisecond values, not null
+     * @return the strings, not null
+     */
+    static String[] print(DateTimeFormatter formatter, long[] millis) {
+        String[] result = new String[millis.length];
+        StringBuilder buf = new StringBuilder(32);
+        for (int i = 0; i < millis.length; i++) {
+            buf.setLength(0);
+            formatter.printTo(buf, millis[i]);
+            result[i] = buf.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Prints each millisecond value to an appendable.
+     *
+     * @param appendable  the destination, not null
+     * @param formatter  the formatter, with the chronology and zone set, not null
+     * @param millis  the millisecond values, not null
+     * @param separator  the separator to write between values, not null
+     * @throws IOException if an IO error occurs
+     */
+    static void printTo(Appendable appendable, DateTimeFormatter formatter, long[] millis, String separator) throws IOException {
+        for (int i = 0; i < millis.length; i++) {
+            if (i > 0) {
+                appendable.append(separator);
+            }
+            formatter.printTo(appendable, millis[i]);
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * The current date and hour in a zone, shared until the next hour or zone transition.
+ * <p>
+ * One instance is held for each zone. Within the range of validity the offset is constant,
+ * thus the local date and hour are the same for every instant in the range.
+ * The range starts at the instant the values were calculated, so a clock that moves
+ * backwards simply causes them to be recalculated.
+ * When the hour changes but the date does not, the date objects are carried over,
+ * so the same instances are returned for the whole day.
+ * <p>
+ * CurrentDate is thread-safe and immutable, apart from the lazily created midnight.
+ *
+ * @since 2.15
+ */
+final class CurrentDate {
+
+    /** The maximum number of zones cached before the cache is cleared. */
+    private static final int MAX_ZONES = 256;
+    /** The current date by zone. */
+    private static final ConcurrentHashMap<DateTimeZone, CurrentDate> cCache =
+            new ConcurrentHashMap<DateTimeZone, CurrentDate>();
+
+    /** The zone. */
+    private final DateTimeZone iZone;
+    /** The first instant that the values are valid for, inclusive. */
+    private final long iFrom;
+    /** The last instant that the values are valid for, exclusive. */
+    private final long iUntil;
+    /** The local epoch day. */
+    private final long iEpochDay;
+    /** The hour of day. */
+    private final int iHourOfDay;
+    /** The date. */
+    private final LocalDate iDate;
+    /** The midnight at the start of the date, created when first requested. */
+    @SuppressWarnings("deprecation")
+    private volatile DateMidnight iMidnight;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current date and hour in the specified zone.
+     *
+     * @param zone  the zone, not null
+     * @return the current date, not null
+     */
+    static CurrentDate get(DateTimeZone zone) {
+        long now = DateTimeUtils.currentTimeMillis();
+        CurrentDate current = cCache.get(zone);
+        if (current == null || now < current.iFrom || now >= current.iUntil) {
+            current = new CurrentDate(zone, now, current);
+            if (cCache.size() >= MAX_ZONES) {
+                cCache.clear();
+            }
+            cCache.put(zone, current);
+        }
+        return current;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param zone  the zone, not null
+     * @param now  the current instant
+     * @param previous  the previous values for the zone, null if none
+     */
+    @SuppressWarnings("deprecation")
+    private CurrentDate(DateTimeZone zone, long now, CurrentDate previous) {
+        iZone = zone;
+        iFrom = now;
+        long localMillis = now + zone.getOffset(now);
+        long millisOfDay = localMillis % DateTimeConstants.MILLIS_PER_DAY;
+        if (millisOfDay < 0) {
+            millisOfDay += DateTimeConstants.MILLIS_PER_DAY;
+        }
+        iEpochDay = (localMillis - millisOfDay) / DateTimeConstants.MILLIS_PER_DAY;
+        iHourOfDay = (int) (millisOfDay / DateTimeConstants.MILLIS_PER_HOUR);
+        if (previous != null && previous.iEpochDay == iEpochDay) {
+            iDate = previous.iDate;
+            iMidnight = previous.iMidnight;
+        } else {
+            iDate = new LocalDate(now, ISOChronology.getInstance(zone));
+        }
+        long until = now + (DateTimeConstants.MILLIS_PER_HOUR - millisOfDay % DateTimeConstants.MILLIS_PER_HOUR);
+        if (until < now) {
+            until = now + 1;
+        }
+        long transition = zone.nextTransition(now);
+        if (transition > now && transition < until) {
+            until = transition;
+        }
+        iUntil = until;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current date.
+     *
+     * @return the date, not null
+     */
+    LocalDate getDate() {
+        return iDate;
+    }
+
+    /**
+     * Gets the midnight at the start of the current date.
+     *
+     * @return the midnight, not null
+     */
+    @SuppressWarnings("deprecation")
+    DateMidnight getMidnight() {
+        DateMidnight midnight = iMidnight;
+        if (midnight == null) {
+            midnight = new DateMidnight(iFrom, ISOChronology.getInstance(iZone));
+            iMidnight = midnight;
+        }
+        return midnight;
+    }
+
+    /**
+     * Gets the current hour of day.
+     *
+     * @return the hour of day, from 0 to 23
+     */
+    int getHourOfDay() {
+        return iHourOfDay;
+    }
+
+}
@@ -92,7 +92,7 @@ public final class DateMidnight
      * @since 2.0
      */
     public static DateMidnight now() {
-        return new DateMidnight();
+        return now(DateTimeZone.getDefault());
     }
 
     /**
@@ -108,7 +108,7 @@ public final class DateMidnight
         if (zone == null) {
             throw new NullPointerException("Zone must not be null");
         }
-        return new DateMidnight(zone);
+        return CurrentDate.get(zone).getMidnight();
     }
 
     /**
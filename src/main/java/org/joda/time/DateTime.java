@@ -535,6 +535,14 @@ public final class DateTime
               hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond, chronology);
     }
 
+    /**
+     * Replaces this object with the compact serialization proxy if enabled.
+     * @return the object to serialize, not null
+     */
+    private Object writeReplace() {
+        return Ser.replace(BinaryCodec.TAG_DATE_TIME, this, getChronology());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Get this object as a DateTime by returning <code>this</code>.
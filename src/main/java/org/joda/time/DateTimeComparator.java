@@ -17,7 +17,10 @@ package org.joda.time;
 
 import java.io.Serializable;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
 
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.convert.ConverterManager;
 import org.joda.time.convert.InstantConverter;
 
@@ -38,6 +41,10 @@ import org.joda.time.convert.InstantConverter;
  * </ul>
  *
  * <p>
+ * Instants are compared directly without looking up a converter.
+ * To sort many instants, {@link #sort(List)} truncates each instant only once.
+ *
+ * <p>
  * DateTimeComparator is thread-safe and immutable.
  *
  * @author Guy Allard
@@ -57,6 +64,9 @@ public class DateTimeComparator implements Comparator<Object>, Serializable {
     /** Singleton instance */
     private static final DateTimeComparator TIME_INSTANCE = new DateTimeComparator(null, DateTimeFieldType.dayOfYear());
 
+    /** The range of millis in which the date and time instances are calculated arithmetically */
+    private static final long MAX_FAST_MILLIS = 1L << 55;
+
     /** The lower limit of fields to compare, null if no limit */
     private final DateTimeFieldType iLowerLimit;
     /** The upper limit of fields to compare, null if no limit */
@@ -189,6 +199,11 @@ public class DateTimeComparator implements Comparator<Object>, Serializable {
      * @throws IllegalArgumentException if either argument is not supported
      */
     public int compare(Object lhsObj, Object rhsObj) {
+        if (lhsObj instanceof ReadableInstant && rhsObj instanceof ReadableInstant) {
+            long lhsKey = getKey((ReadableInstant) lhsObj);
+            long rhsKey = getKey((ReadableInstant) rhsObj);
+            return (lhsKey < rhsKey ? -1 : (lhsKey > rhsKey ? 1 : 0));
+        }
         InstantConverter conv = ConverterManager.getInstance().getInstantConverter(lhsObj);
         Chronology lhsChrono = conv.getChronology(lhsObj, (Chronology) null);
         long lhsMillis = conv.getInstantMillis(lhsObj, lhsChrono);
@@ -222,6 +237,71 @@ public class DateTimeComparator implements Comparator<Object>, Serializable {
         }
     }
 
+    /**
+     * Sorts a list of instants using this comparator.
+     * <p>
+     * The truncated value used for comparison is calculated once for each instant,
+     * rather than twice for each comparison, and the list is then sorted by that value.
+     * The sort is stable, thus instants that compare equal keep their order.
+     *
+     * @param <T>  the type of instant
+     * @param instants  the instants to sort in place, not null, null elements mean now
+     * @throws IllegalArgumentException if the list is null
+     * @throws UnsupportedOperationException if the list cannot be modified
+     * @since 2.15
+     */
+    public <T extends ReadableInstant> void sort(List<T> instants) {
+        if (instants == null) {
+            throw new IllegalArgumentException("Instants must not be null");
+        }
+        Object[] array = instants.toArray();
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = getKey((ReadableInstant) array[i]);
+        }
+        int[] order = InstantSort.order(keys);
+        ListIterator<T> it = instants.listIterator();
+        for (int i = 0; i < order.length; i++) {
+            it.next();
+            @SuppressWarnings("unchecked")
+            T instant = (T) array[order[i]];
+            it.set(instant);
+        }
+    }
+
+    /**
+     * Gets the value of an instant that is compared, truncated to the limits.
+     *
+     * @param instant  the instant, null means now
+     * @return the truncated millis
+     */
+    private long getKey(ReadableInstant instant) {
+        long millis = DateTimeUtils.getInstantMillis(instant);
+        Chronology chrono = DateTimeUtils.getInstantChronology(instant);
+        if (chrono instanceof ISOChronology && millis > -MAX_FAST_MILLIS && millis < MAX_FAST_MILLIS &&
+                chrono.getZone().isFixed()) {
+            if (this == DATE_INSTANCE) {
+                int offset = chrono.getZone().getOffset(millis);
+                long local = millis + offset;
+                return local - millisOfDay(local) - offset;
+            } else if (this == TIME_INSTANCE) {
+                return millisOfDay(millis + chrono.getZone().getOffset(millis));
+            }
+        }
+        if (iLowerLimit != null) {
+            millis = iLowerLimit.getField(chrono).roundFloor(millis);
+        }
+        if (iUpperLimit != null) {
+            millis = iUpperLimit.getField(chrono).remainder(millis);
+        }
+        return millis;
+    }
+
+    private static long millisOfDay(long localMillis) {
+        long millisOfDay = localMillis % DateTimeConstants.MILLIS_PER_DAY;
+        return (millisOfDay < 0 ? millisOfDay + DateTimeConstants.MILLIS_PER_DAY : millisOfDay);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Support serialization singletons.
@@ -612,6 +612,42 @@ public abstract class DateTimeField {
      */
     public abstract long roundFloor(long instant);
 
+    /**
+     * Round each instant to the lowest whole unit of this field.
+     * <p>
+     * This is equivalent to calling {@link #roundFloor(long)} for each instant,
+     * however implementations may reuse the result for instants in the same unit,
+     * which is efficient when the instants are sorted.
+     * The input and output may be the same array.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to store the rounded milliseconds in, at least as long as the input, not null
+     * @throws IllegalArgumentException if either array is null or the results array is too short
+     * @since 2.15
+     */
+    public void roundFloor(long[] instants, long[] results) {
+        checkRoundArrays(instants, results);
+        for (int i = 0; i < instants.length; i++) {
+            results[i] = roundFloor(instants[i]);
+        }
+    }
+
+    /**
+     * Validates the arrays passed to the bulk rounding method.
+     *
+     * @param instants  the instants to round
+     * @param results  the array to store the results in
+     * @throws IllegalArgumentException if either array is null or the results array is too short
+     */
+    private static void checkRoundArrays(long[] instants, long[] results) {
+        if (instants == null || results == null) {
+            throw new IllegalArgumentException("Arrays must not be null");
+        }
+        if (results.length < instants.length) {
+            throw new IllegalArgumentException("Results array must be at least as long as the instants array");
+        }
+    }
+
     /**
      * Round to the highest whole unit of this field. The value of this field
      * and all fields of a higher magnitude may be incremented in order to
@@ -15,6 +15,7 @@
  */
 package org.joda.time;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.text.DateFormatSymbols;
 import java.util.Collections;
@@ -72,6 +73,20 @@ public class DateTimeUtils {
         return cMillisProvider.getMillis();
     }
 
+    /**
+     * Gets the current hour of day in the specified zone using the ISO chronology.
+     * <p>
+     * The hour is calculated from {@link #currentTimeMillis()}, and is cached for each zone
+     * until the next hour or zone transition, making this suitable for stamping log records.
+     *
+     * @param zone  the time zone, null means default zone
+     * @return the current hour of day, from 0 to 23
+     * @since 2.15
+     */
+    public static final int currentHourOfDay(DateTimeZone zone) {
+        return CurrentDate.get(getZone(zone)).getHourOfDay();
+    }
+
     /**
      * Resets the current time to return the system time.
      * <p>
@@ -535,6 +550,122 @@ public class DateTimeUtils {
         long getMillis();
     }
 
+    /**
+     * A millisecond provider that returns a cached time, updated by a background thread.
+     * <p>
+     * Reading the current time is then a single volatile read, at the cost of
+     * the time being out of date by up to the resolution.
+     * This is intended for high volume time-stamping, where a coarse time is acceptable.
+     * It is installed using {@link DateTimeUtils#setCurrentMillisProvider(MillisProvider)}:
+     * <pre>
+     * DateTimeUtils.setCurrentMillisProvider(new CoarseMillisProvider(10));
+     * </pre>
+     * The background thread is a daemon thread that ends when {@link #stop()} is called,
+     * or when the provider is no longer referenced. Once stopped, the provider
+     * returns the system time.
+     * <p>
+     * CoarseMillisProvider is thread-safe.
+     *
+     * @since 2.15
+     */
+    public static final class CoarseMillisProvider implements MillisProvider {
+        /** The resolution in millis. */
+        private final long iResolutionMillis;
+        /** The cached time. */
+        private volatile long iMillis;
+        /** Whether the provider has been stopped. */
+        private volatile boolean iStopped;
+
+        /**
+         * Constructs a provider, starting the background thread.
+         *
+         * @param resolutionMillis  the interval between updates of the time, one or greater
+         * @throws IllegalArgumentException if the resolution is less than one
+         */
+        public CoarseMillisProvider(long resolutionMillis) {
+            if (resolutionMillis < 1) {
+                throw new IllegalArgumentException("Resolution must be one or greater: " + resolutionMillis);
+            }
+            iResolutionMillis = resolutionMillis;
+            iMillis = System.currentTimeMillis();
+            Thread thread = new Thread(new Ticker(this), "joda-time-coarse-clock");
+            thread.setDaemon(true);
+            try {
+                // avoid holding the class loader of the caller, such as a web application
+                thread.setContextClassLoader(null);
+            } catch (SecurityException ex) {
+                // ignore
+            }
+            thread.start();
+        }
+
+        /**
+         * Gets the resolution, which is the interval between updates of the time.
+         *
+         * @return the resolution in millis
+         */
+        public long getResolutionMillis() {
+            return iResolutionMillis;
+        }
+
+        /**
+         * Gets the current time, as last updated by the background thread.
+         *
+         * @return the current time in millis
+         */
+        public long getMillis() {
+            return (iStopped ? System.currentTimeMillis() : iMillis);
+        }
+
+        /**
+         * Stops the background thread, after which the system time is returned.
+         */
+        public void stop() {
+            iStopped = true;
+        }
+
+        /**
+         * Checks whether the background thread has been stopped.
+         *
+         * @return true if stopped
+         */
+        public boolean isStopped() {
+            return iStopped;
+        }
+    }
+
+    /**
+     * Updates the time of a coarse provider, referring to the provider weakly
+     * so that the thread ends when the provider is no longer used.
+     */
+    private static final class Ticker implements Runnable {
+        /** The provider to update. */
+        private final WeakReference<CoarseMillisProvider> iProvider;
+        /** The resolution in millis. */
+        private final long iResolutionMillis;
+
+        Ticker(CoarseMillisProvider provider) {
+            iProvider = new WeakReference<CoarseMillisProvider>(provider);
+            iResolutionMillis = provider.iResolutionMillis;
+        }
+
+        public void run() {
+            while (true) {
+                try {
+                    Thread.sleep(iResolutionMillis);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                CoarseMillisProvider provider = iProvider.get();
+                if (provider == null || provider.iStopped) {
+                    return;
+                }
+                provider.iMillis = System.currentTimeMillis();
+            }
+        }
+    }
+
     /**
      * System millis provider.
      */
@@ -36,6 +36,7 @@ import org.joda.time.field.FieldUtils;
 import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.FormatUtils;
+import org.joda.time.tz.CachedDateTimeZone;
 import org.joda.time.tz.DefaultNameProvider;
 import org.joda.time.tz.FixedDateTimeZone;
 import org.joda.time.tz.NameProvider;
@@ -145,6 +146,15 @@ public abstract class DateTimeZone implements Serializable {
      * This is the default classpath location containing the compiled data files.
      */
     public static final String DEFAULT_TZ_DATA_PATH = "org/joda/time/tz/data";
+    /**
+     * The range either side of now for which the offsets of a pinned default zone are precalculated.
+     */
+    private static final long PIN_WINDOW_MILLIS = 366L * 86400000L;
+    /**
+     * Whether the default zone is pinned, initialized from the system property
+     * {@code org.joda.time.DateTimeZone.PinDefault}.
+     */
+    private static volatile boolean cPinDefault = getDefaultPinned();
 
     //-----------------------------------------------------------------------
     /**
@@ -184,6 +194,8 @@ public abstract class DateTimeZone implements Serializable {
             }
             if (!cDefault.compareAndSet(null, zone)) {
                 zone = cDefault.get();
+            } else if (cPinDefault) {
+                pin(zone);
             }
         }
         return zone;
@@ -206,7 +218,100 @@ public abstract class DateTimeZone implements Serializable {
         if (zone == null) {
             throw new IllegalArgumentException("The datetime zone must not be null");
         }
-        cDefault.set(zone);
+        if (cPinDefault) {
+            pin(zone);
+            DateTimeZone old = cDefault.getAndSet(zone);
+            if (old != null && old != zone) {
+                unpin(old);
+            }
+        } else {
+            cDefault.set(zone);
+        }
+    }
+
+    /**
+     * Checks whether the default time zone is pinned.
+     * 
+     * @return true if the default zone is pinned
+     * @since 2.15
+     */
+    public static boolean isDefaultPinned() {
+        return cPinDefault;
+    }
+
+    /**
+     * Sets whether the default time zone is pinned.
+     * <p>
+     * This is intended for applications that only use the default zone.
+     * When pinned, the offsets of the default zone are precalculated for the year
+     * either side of now, and are then found by scanning a small table of transitions,
+     * rather than looking up the cache of the zone.
+     * The default zone is also pinned when it is set or initialized, and the
+     * precalculated offsets move forward as time passes.
+     * Unpinning, or changing the default zone, clears the precalculated offsets.
+     * Pinning can be enabled at startup by setting the system property
+     * {@code org.joda.time.DateTimeZone.PinDefault} to {@code true}.
+     * <p>
+     * Pinning only affects performance, the offsets are always the same.
+     * 
+     * @param pinned  true to pin the default zone
+     * @throws SecurityException if the application has insufficient security rights
+     * @since 2.15
+     */
+    public static void setDefaultPinned(boolean pinned) throws SecurityException {
+        SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(new JodaTimePermission("DateTimeZone.setDefault"));
+        }
+        cPinDefault = pinned;
+        if (pinned) {
+            pin(getDefault());
+        } else {
+            unpin(getDefault());
+        }
+    }
+
+    /**
+     * Precalculates the offsets of a zone around now.
+     * 
+     * @param zone  the zone to pin, not null
+     */
+    private static void pin(DateTimeZone zone) {
+        if (zone instanceof CachedDateTimeZone) {
+            try {
+                ((CachedDateTimeZone) zone).precalculateOffsetsAroundNow(PIN_WINDOW_MILLIS);
+            } catch (SecurityException ex) {
+                // pinning only affects performance
+            }
+        }
+    }
+
+    /**
+     * Clears the precalculated offsets of a zone.
+     * 
+     * @param zone  the zone to unpin, not null
+     */
+    private static void unpin(DateTimeZone zone) {
+        if (zone instanceof CachedDateTimeZone) {
+            try {
+                ((CachedDateTimeZone) zone).clearPrecalculatedOffsets();
+            } catch (SecurityException ex) {
+                // pinning only affects performance
+            }
+        }
+    }
+
+    /**
+     * Gets whether the default zone is pinned from the system property.
+     * 
+     * @return true if pinned
+     */
+    private static boolean getDefaultPinned() {
+        try {
+            return Boolean.getBoolean("org.joda.time.DateTimeZone.PinDefault");
+        } catch (SecurityException ex) {
+            return false;
+        }
     }
 
     //-----------------------------------------------------------------------
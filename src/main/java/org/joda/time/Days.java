@@ -124,7 +124,7 @@ public final class Days extends BaseSingleFieldPeriod {
      * between the two specified partial datetimes.
      * <p>
      * The two partials must contain the same fields, for example you can specify
-     * two <code>LocalDate</code> objects.
+     * two <code>LocalDate</code> or two <code>LocalDateTime</code> objects.
      *
      * @param start  the start partial date, must not be null
      * @param end  the end partial date, must not be null
@@ -138,6 +138,12 @@ public final class Days extends BaseSingleFieldPeriod {
                     ((LocalDate) end).getLocalMillis(), ((LocalDate) start).getLocalMillis());
             return Days.days(days);
         }
+        if (start instanceof LocalDateTime && end instanceof LocalDateTime)   {
+            Chronology chrono = DateTimeUtils.getChronology(start.getChronology());
+            int days = chrono.days().getDifference(
+                    ((LocalDateTime) end).getLocalMillis(), ((LocalDateTime) start).getLocalMillis());
+            return Days.days(days);
+        }
         int amount = BaseSingleFieldPeriod.between(start, end, ZERO);
         return Days.days(amount);
     }
@@ -212,6 +212,14 @@ public final class Duration
         super(duration);
     }
 
+    /**
+     * Replaces this object with the compact serialization proxy if enabled.
+     * @return the object to serialize, not null
+     */
+    private Object writeReplace() {
+        return Ser.replace(BinaryCodec.TAG_DURATION, this, null);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the length of this duration in days assuming that there are the
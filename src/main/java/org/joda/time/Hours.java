@@ -127,7 +127,7 @@ public final class Hours extends BaseSingleFieldPeriod {
      * between the two specified partial datetimes.
      * <p>
      * The two partials must contain the same fields, for example you can specify
-     * two <code>LocalTime</code> objects.
+     * two <code>LocalTime</code> or two <code>LocalDateTime</code> objects.
      *
      * @param start  the start partial date, must not be null
      * @param end  the end partial date, must not be null
@@ -141,6 +141,12 @@ public final class Hours extends BaseSingleFieldPeriod {
                     ((LocalTime) end).getLocalMillis(), ((LocalTime) start).getLocalMillis());
             return Hours.hours(hours);
         }
+        if (start instanceof LocalDateTime && end instanceof LocalDateTime)   {
+            Chronology chrono = DateTimeUtils.getChronology(start.getChronology());
+            int hours = chrono.hours().getDifference(
+                    ((LocalDateTime) end).getLocalMillis(), ((LocalDateTime) start).getLocalMillis());
+            return Hours.hours(hours);
+        }
         int amount = BaseSingleFieldPeriod.between(start, end, ZERO);
         return Hours.hours(amount);
     }
@@ -166,6 +166,14 @@ public final class Instant
         iMillis = converter.getInstantMillis(instant, ISOChronology.getInstanceUTC());
     }
 
+    /**
+     * Replaces this object with the compact serialization proxy if enabled.
+     * @return the object to serialize, not null
+     */
+    private Object writeReplace() {
+        return Ser.replace(BinaryCodec.TAG_INSTANT, this, null);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Get this object as an Instant by returning <code>this</code>.
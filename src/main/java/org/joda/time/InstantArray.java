@@ -0,0 +1,384 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * InstantArray is a fixed size array of instants sharing a single chronology and time zone.
+ * <p>
+ * Each instant is held as milliseconds from 1970-01-01T00:00:00Z in a {@code long[]},
+ * taking eight bytes per instant rather than a {@link DateTime} object.
+ * Fields are extracted in the time zone of the chronology, and the instants
+ * are compared, sorted and printed, in bulk without creating objects for each element.
+ * For the ISO chronology, the common fields are calculated arithmetically
+ * after applying the offset of the zone.
+ * <p>
+ * InstantArray is mutable and not thread-safe.
+ *
+ * @since 2.15
+ */
+public final class InstantArray {
+
+    /** The millis from 1970-01-01T00:00:00Z. */
+    private final long[] iMillis;
+    /** The chronology, including the zone. */
+    private final Chronology iChronology;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an array from the specified instants using ISO chronology in the default zone.
+     *
+     * @param instants  the instants, not null, no null elements
+     * @return the array, not null
+     * @throws IllegalArgumentException if an instant is null
+     */
+    public static InstantArray of(ReadableInstant... instants) {
+        if (instants == null) {
+            throw new IllegalArgumentException("Instants must not be null");
+        }
+        InstantArray array = new InstantArray(instants.length);
+        for (int i = 0; i < instants.length; i++) {
+            array.set(i, instants[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Obtains an array from milliseconds from 1970-01-01T00:00:00Z.
+     * <p>
+     * The input array is copied.
+     *
+     * @param millis  the millisecond instants, not null
+     * @param chronology  the chronology, null means ISO in the default zone
+     * @return the array, not null
+     * @throws IllegalArgumentException if the input array is null
+     */
+    public static InstantArray ofMillis(long[] millis, Chronology chronology) {
+        if (millis == null) {
+            throw new IllegalArgumentException("Millis must not be null");
+        }
+        InstantArray array = new InstantArray(millis.length, chronology);
+        System.arraycopy(millis, 0, array.iMillis, 0, millis.length);
+        return array;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an array of instants using ISO chronology in the default zone,
+     * all set to 1970-01-01T00:00:00Z.
+     *
+     * @param size  the size of the array, zero or greater
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public InstantArray(int size) {
+        this(size, null);
+    }
+
+    /**
+     * Constructs an array of instants, all set to 1970-01-01T00:00:00Z.
+     *
+     * @param size  the size of the array, zero or greater
+     * @param chronology  the chronology, null means ISO in the default zone
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public InstantArray(int size, Chronology chronology) {
+        ColumnFields.checkSize(size);
+        iMillis = new long[size];
+        iChronology = DateTimeUtils.getChronology(chronology);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of instants in the array.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iMillis.length;
+    }
+
+    /**
+     * Gets the chronology, which includes the zone used to extract fields.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Gets the milliseconds from 1970-01-01T00:00:00Z of an instant.
+     *
+     * @param index  the index
+     * @return the millisecond instant
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getMillis(int index) {
+        return iMillis[index];
+    }
+
+    /**
+     * Sets an instant using milliseconds from 1970-01-01T00:00:00Z.
+     *
+     * @param index  the index
+     * @param millis  the millisecond instant
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public void setMillis(int index, long millis) {
+        iMillis[index] = millis;
+    }
+
+    /**
+     * Gets an instant as a date-time in the chronology of the array.
+     *
+     * @param index  the index
+     * @return the date-time, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public DateTime get(int index) {
+        return new DateTime(iMillis[index], iChronology);
+    }
+
+    /**
+     * Sets an instant, ignoring its chronology.
+     *
+     * @param index  the index
+     * @param instant  the instant, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws IllegalArgumentException if the instant is null
+     */
+    public void set(int index, ReadableInstant instant) {
+        if (instant == null) {
+            throw new IllegalArgumentException("Instant must not be null");
+        }
+        iMillis[index] = instant.getMillis();
+    }
+
+    /**
+     * Gets a copy of the millisecond instants.
+     *
+     * @return the millisecond instants, not null
+     */
+    public long[] toMillisArray() {
+        return iMillis.clone();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the year of each instant in the zone of the array.
+     *
+     * @return the years, not null
+     */
+    public int[] getYears() {
+        return get(DateTimeFieldType.year());
+    }
+
+    /**
+     * Gets the month of year of each instant in the zone of the array.
+     *
+     * @return the months, not null
+     */
+    public int[] getMonthsOfYear() {
+        return get(DateTimeFieldType.monthOfYear());
+    }
+
+    /**
+     * Gets the day of month of each instant in the zone of the array.
+     *
+     * @return the days, not null
+     */
+    public int[] getDaysOfMonth() {
+        return get(DateTimeFieldType.dayOfMonth());
+    }
+
+    /**
+     * Gets the day of week of each instant in the zone of the array.
+     *
+     * @return the days of week, from 1 (Monday) to 7 (Sunday) in ISO, not null
+     */
+    public int[] getDaysOfWeek() {
+        return get(DateTimeFieldType.dayOfWeek());
+    }
+
+    /**
+     * Gets the value of a field for each instant in the zone of the array.
+     *
+     * @param fieldType  the field type, not null
+     * @return the values, not null
+     * @throws IllegalArgumentException if the field type is null or not supported
+     */
+    public int[] get(DateTimeFieldType fieldType) {
+        Chronology chrono = iChronology.withUTC();
+        DateTimeZone zone = iChronology.getZone();
+        boolean supported = (fieldType != null && fieldType.getField(chrono).isSupported());
+        DateTimeField field = ColumnFields.field(fieldType, supported, chrono);
+        int fastPath = ColumnFields.fastPath(chrono, fieldType);
+        long[] millis = iMillis;
+        int[] result = new int[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            result[i] = ColumnFields.get(fastPath, chrono, field, zone.convertUTCToLocal(millis[i]));
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares two instants in the array.
+     *
+     * @param index1  the index of the first instant
+     * @param index2  the index of the second instant
+     * @return negative if the first is earlier, positive if later, zero if equal
+     * @throws IndexOutOfBoundsException if either index is invalid
+     */
+    public int compare(int index1, int index2) {
+        long millis1 = iMillis[index1];
+        long millis2 = iMillis[index2];
+        return (millis1 < millis2 ? -1 : (millis1 == millis2 ? 0 : 1));
+    }
+
+    /**
+     * Sorts the instants into ascending order.
+     */
+    public void sort() {
+        Arrays.sort(iMillis);
+    }
+
+    /**
+     * Sorts the instants by their local date in the zone of the array, ignoring the time.
+     * <p>
+     * The order is the same as {@link DateTimeComparator#getDateOnlyInstance()}.
+     * The sort is stable, thus instants on the same date keep their order.
+     *
+     * @since 2.15
+     */
+    public void sortByDate() {
+        sortByLocalKey(true);
+    }
+
+    /**
+     * Sorts the instants by their local time of day in the zone of the array, ignoring the date.
+     * <p>
+     * The order is the same as {@link DateTimeComparator#getTimeOnlyInstance()}.
+     * The sort is stable, thus instants at the same time keep their order.
+     *
+     * @since 2.15
+     */
+    public void sortByTime() {
+        sortByLocalKey(false);
+    }
+
+    private void sortByLocalKey(boolean date) {
+        DateTimeZone zone = iChronology.getZone();
+        long[] millis = iMillis;
+        long[] keys = new long[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            long localMillis = zone.convertUTCToLocal(millis[i]);
+            long millisOfDay = localMillis % DateTimeConstants.MILLIS_PER_DAY;
+            if (millisOfDay < 0) {
+                millisOfDay += DateTimeConstants.MILLIS_PER_DAY;
+            }
+            keys[i] = (date ? localMillis - millisOfDay : millisOfDay);
+        }
+        InstantSort.sort(millis, keys);
+    }
+
+    /**
+     * Searches the array, which must be sorted, for an instant.
+     *
+     * @param instant  the instant to find, null means now
+     * @return the index of the instant if found, otherwise {@code (-(insertion point) - 1)}
+     */
+    public int binarySearch(ReadableInstant instant) {
+        return Arrays.binarySearch(iMillis, DateTimeUtils.getInstantMillis(instant));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints each instant using the specified formatter.
+     * <p>
+     * The formatter is used with the chronology and zone of the array.
+     *
+     * @param formatter  the formatter, null means ISO date-time format
+     * @return the printed instants, not null
+     */
+    public String[] print(DateTimeFormatter formatter) {
+        return ColumnFields.print(formatter(formatter), iMillis);
+    }
+
+    /**
+     * Prints each instant to an appendable using the specified formatter.
+     * <p>
+     * The formatter is used with the chronology and zone of the array.
+     *
+     * @param appendable  the destination, not null
+     * @param formatter  the formatter, null means ISO date-time format
+     * @param separator  the separator to write between instants, not null
+     * @throws IOException if an IO error occurs
+     */
+    public void printTo(Appendable appendable, DateTimeFormatter formatter, String separator) throws IOException {
+        ColumnFields.printTo(appendable, formatter(formatter), iMillis, separator);
+    }
+
+    private DateTimeFormatter formatter(DateTimeFormatter formatter) {
+        DateTimeFormatter f = (formatter == null ? ISODateTimeFormat.dateTime() : formatter);
+        return f.withChronology(iChronology);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this array with another, checking the instants and chronology.
+     *
+     * @param obj  the object to compare to
+     * @return true if equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof InstantArray == false) {
+            return false;
+        }
+        InstantArray other = (InstantArray) obj;
+        return iChronology.equals(other.iChronology) && Arrays.equals(iMillis, other.iMillis);
+    }
+
+    /**
+     * Gets a hash code for the array.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(iMillis) ^ iChronology.hashCode();
+    }
+
+    /**
+     * Outputs the array as a string, such as {@code [2025-01-01T00:00:00.000Z]}.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(print(null));
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+/**
+ * Stable sorting by precomputed {@code long} keys.
+ * <p>
+ * The keys are calculated once per element by the caller, such as the millis of
+ * a truncated instant, and sorted using a least significant digit radix sort.
+ * Digits that are the same for every key are skipped, thus keys with a small range,
+ * such as a day or a time of day, take few passes.
+ *
+ * @since 2.15
+ */
+final class InstantSort {
+
+    /** The number of bits in each digit. */
+    private static final int DIGIT_BITS = 8;
+    /** The number of buckets for each digit. */
+    private static final int RADIX = 1 << DIGIT_BITS;
+    /** The size below which an insertion sort is used. */
+    private static final int INSERTION_SORT_SIZE = 32;
+
+    /**
+     * Restricted constructor.
+     */
+    private InstantSort() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the order that sorts the keys, keeping equal keys in their original order.
+     *
+     * @param keys  the keys, not null
+     * @return the indices of the keys in sorted order, not null
+     */
+    static int[] order(long[] keys) {
+        int size = keys.length;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (size < INSERTION_SORT_SIZE) {
+            for (int i = 1; i < size; i++) {
+                int index = order[i];
+                long key = keys[index];
+                int j = i - 1;
+                while (j >= 0 && keys[order[j]] > key) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
+            }
+            return order;
+        }
+        int[] buffer = new int[size];
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < 64; shift += DIGIT_BITS) {
+            for (int b = 0; b < RADIX; b++) {
+                counts[b] = 0;
+            }
+            for (int i = 0; i < size; i++) {
+                counts[digit(keys[i], shift)]++;
+            }
+            if (counts[digit(keys[0], shift)] == size) {
+                continue;
+            }
+            int total = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int count = counts[b];
+                counts[b] = total;
+                total += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int index = order[i];
+                buffer[counts[digit(keys[index], shift)]++] = index;
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Sorts millis by their keys, keeping equal keys in their original order.
+     *
+     * @param millis  the millis to sort in place, not null
+     * @param keys  the key of each instant, not null, same length
+     */
+    static void sort(long[] millis, long[] keys) {
+        int[] order = order(keys);
+        long[] sorted = new long[millis.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = millis[order[i]];
+        }
+        System.arraycopy(sorted, 0, millis, 0, sorted.length);
+    }
+
+    /**
+     * Gets a digit of the key, treating the key as unsigned after flipping the sign bit.
+     */
+    private static int digit(long key, int shift) {
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1));
+    }
+
+}
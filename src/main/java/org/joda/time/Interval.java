@@ -291,6 +291,14 @@ public final class Interval
         super(interval, chronology);
     }
 
+    /**
+     * Replaces this object with the compact serialization proxy if enabled.
+     * @return the object to serialize, not null
+     */
+    private Object writeReplace() {
+        return Ser.replace(BinaryCodec.TAG_INTERVAL, this, getChronology());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Get this interval as an immutable <code>Interval</code> object
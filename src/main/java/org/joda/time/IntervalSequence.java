@@ -0,0 +1,709 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.joda.time.field.FieldUtils;
+
+/**
+ * IntervalSequence is a single pass cursor over intervals sorted by start instant.
+ * <p>
+ * A sequence is traversed by calling {@link #next()} and then querying
+ * {@link #getStartMillis()} and {@link #getEndMillis()}, which allows millions of
+ * intervals to be processed without creating objects. The operations, such as
+ * {@link #merge()}, {@link #union(IntervalSequence)} and {@link #complement(long, long)},
+ * wrap one or two sequences and process them in one pass using constant memory.
+ * Interval objects are only created on demand, by {@link #toInterval()} or
+ * by the iterator returned from {@link #asIterator()}.
+ * <p>
+ * The source intervals must be sorted by start instant, but may overlap.
+ * As with {@link Interval}, intervals are inclusive of the start and exclusive of the end.
+ * The set operations first merge overlapping and abutting intervals and
+ * ignore zero duration intervals, thus their output is sorted and non-overlapping.
+ * <p>
+ * To process a large sequence in parallel, split the time-line into ranges and
+ * use {@link #clip(long, long)} on a separate sequence for each range.
+ * <p>
+ * IntervalSequence is mutable and not thread-safe. Each sequence,
+ * including those passed to an operation, can only be traversed once.
+ *
+ * @since 2.15
+ */
+public abstract class IntervalSequence {
+
+    /**
+     * Constructor.
+     */
+    protected IntervalSequence() {
+        super();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a sequence over arrays of start and end instants.
+     * <p>
+     * Element {@code i} of each array holds the start and end of one interval.
+     * The arrays are not copied and must not be altered during traversal.
+     *
+     * @param startMillis  the start of each interval, sorted, not null
+     * @param endMillis  the end of each interval, not null
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the arrays are null or differ in length
+     */
+    public static IntervalSequence of(long[] startMillis, long[] endMillis) {
+        if (startMillis == null || endMillis == null) {
+            throw new IllegalArgumentException("Arrays must not be null");
+        }
+        if (startMillis.length != endMillis.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        return new ArraySequence(startMillis, endMillis, 0, startMillis.length);
+    }
+
+    /**
+     * Creates a sequence over part of the arrays of start and end instants.
+     * <p>
+     * Element {@code i} of each array holds the start and end of one interval.
+     * The arrays are not copied and must not be altered during traversal.
+     *
+     * @param startMillis  the start of each interval, sorted, not null
+     * @param endMillis  the end of each interval, not null
+     * @param fromIndex  the first index, inclusive
+     * @param toIndex  the last index, exclusive
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the arrays are null or differ in length
+     * @throws IndexOutOfBoundsException if the indices are invalid
+     */
+    public static IntervalSequence of(long[] startMillis, long[] endMillis, int fromIndex, int toIndex) {
+        if (startMillis == null || endMillis == null) {
+            throw new IllegalArgumentException("Arrays must not be null");
+        }
+        if (startMillis.length != endMillis.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        if (fromIndex < 0 || toIndex > startMillis.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex);
+        }
+        return new ArraySequence(startMillis, endMillis, fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a sequence over an iterator of intervals.
+     *
+     * @param intervals  the intervals, sorted by start, no null elements, not null
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the iterator is null
+     */
+    public static IntervalSequence of(Iterator<? extends ReadableInterval> intervals) {
+        if (intervals == null) {
+            throw new IllegalArgumentException("Iterator must not be null");
+        }
+        return new IteratorSequence(intervals);
+    }
+
+    /**
+     * Creates a sequence over the intervals of a set.
+     *
+     * @param set  the set, not null
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the set is null
+     */
+    public static IntervalSequence of(IntervalSet set) {
+        if (set == null) {
+            throw new IllegalArgumentException("IntervalSet must not be null");
+        }
+        return new SetSequence(set);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Moves to the next interval.
+     *
+     * @return true if there is a next interval, false if the sequence is exhausted
+     * @throws IllegalArgumentException if the source is not sorted or an interval is invalid
+     */
+    public abstract boolean next();
+
+    /**
+     * Gets the start of the current interval.
+     * <p>
+     * This is only valid after {@link #next()} has returned true.
+     *
+     * @return the start in milliseconds
+     */
+    public abstract long getStartMillis();
+
+    /**
+     * Gets the end of the current interval.
+     * <p>
+     * This is only valid after {@link #next()} has returned true.
+     *
+     * @return the end in milliseconds
+     */
+    public abstract long getEndMillis();
+
+    /**
+     * Gets the current interval as an {@code Interval}.
+     * <p>
+     * This is only valid after {@link #next()} has returned true.
+     *
+     * @return the interval, using ISO chronology in the default zone, not null
+     */
+    public Interval toInterval() {
+        return new Interval(getStartMillis(), getEndMillis());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a sequence that merges overlapping and abutting intervals.
+     * Zero duration intervals are ignored.
+     *
+     * @return the merged sequence, not null
+     */
+    public IntervalSequence merge() {
+        return new MergeSequence(this);
+    }
+
+    /**
+     * Returns a sequence of the instants in this sequence or the other.
+     *
+     * @param other  the other sequence, not null
+     * @return the union, not null
+     * @throws IllegalArgumentException if the other sequence is null
+     */
+    public IntervalSequence union(IntervalSequence other) {
+        checkNotNull(other);
+        return new MergeSequence(new InterleaveSequence(this, other));
+    }
+
+    /**
+     * Returns a sequence of the instants in both this sequence and the other.
+     *
+     * @param other  the other sequence, not null
+     * @return the intersection, not null
+     * @throws IllegalArgumentException if the other sequence is null
+     */
+    public IntervalSequence intersection(IntervalSequence other) {
+        checkNotNull(other);
+        return new IntersectionSequence(merge(), other.merge());
+    }
+
+    /**
+     * Returns a sequence of the instants in this sequence that are not in the other.
+     *
+     * @param other  the other sequence, not null
+     * @return the difference, not null
+     * @throws IllegalArgumentException if the other sequence is null
+     */
+    public IntervalSequence subtract(IntervalSequence other) {
+        checkNotNull(other);
+        return new SubtractSequence(merge(), other.merge());
+    }
+
+    /**
+     * Returns a sequence of the gaps in this sequence within the specified range.
+     *
+     * @param startMillis  the start of the range, inclusive
+     * @param endMillis  the end of the range, exclusive
+     * @return the complement, not null
+     * @throws IllegalArgumentException if the end is before the start
+     */
+    public IntervalSequence complement(long startMillis, long endMillis) {
+        checkRange(startMillis, endMillis);
+        return new ComplementSequence(merge(), startMillis, endMillis);
+    }
+
+    /**
+     * Returns a sequence with each interval restricted to the specified range.
+     * <p>
+     * Intervals outside the range are dropped and the source is not read beyond the range.
+     * Intervals are not merged.
+     *
+     * @param startMillis  the start of the range, inclusive
+     * @param endMillis  the end of the range, exclusive
+     * @return the clipped sequence, not null
+     * @throws IllegalArgumentException if the end is before the start
+     */
+    public IntervalSequence clip(long startMillis, long endMillis) {
+        checkRange(startMillis, endMillis);
+        return new ClipSequence(this, startMillis, endMillis);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the total duration of the instants in the sequence, consuming it.
+     * <p>
+     * Overlapping intervals are only counted once.
+     *
+     * @return the total duration in milliseconds
+     * @throws ArithmeticException if the total overflows a long
+     */
+    public long coverageMillis() {
+        IntervalSequence merged = merge();
+        long total = 0;
+        while (merged.next()) {
+            total = FieldUtils.safeAdd(total, FieldUtils.safeSubtract(merged.getEndMillis(), merged.getStartMillis()));
+        }
+        return total;
+    }
+
+    /**
+     * Collects the instants in the sequence into a set, consuming it.
+     *
+     * @return the set, not null
+     */
+    public IntervalSet toIntervalSet() {
+        IntervalSequence merged = merge();
+        long[] starts = new long[16];
+        long[] ends = new long[16];
+        int size = 0;
+        while (merged.next()) {
+            if (size == starts.length) {
+                long[] newStarts = new long[size * 2];
+                long[] newEnds = new long[size * 2];
+                System.arraycopy(starts, 0, newStarts, 0, size);
+                System.arraycopy(ends, 0, newEnds, 0, size);
+                starts = newStarts;
+                ends = newEnds;
+            }
+            starts[size] = merged.getStartMillis();
+            ends[size] = merged.getEndMillis();
+            size++;
+        }
+        return IntervalSet.create(starts, ends, size);
+    }
+
+    /**
+     * Returns an iterator that consumes the sequence, creating each interval on demand.
+     *
+     * @return the iterator, not null
+     */
+    public Iterator<Interval> asIterator() {
+        return new Iterator<Interval>() {
+            private int iState;  // 0 = unknown, 1 = has next, 2 = exhausted
+            public boolean hasNext() {
+                if (iState == 0) {
+                    iState = (IntervalSequence.this.next() ? 1 : 2);
+                }
+                return iState == 1;
+            }
+            public Interval next() {
+                if (hasNext() == false) {
+                    throw new NoSuchElementException();
+                }
+                iState = 0;
+                return toInterval();
+            }
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    private static void checkNotNull(IntervalSequence other) {
+        if (other == null) {
+            throw new IllegalArgumentException("IntervalSequence must not be null");
+        }
+    }
+
+    private static void checkRange(long startMillis, long endMillis) {
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("The end instant must be greater than or equal to the start");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Base class for sequences that hold the current interval in fields.
+     */
+    private abstract static class StoredSequence extends IntervalSequence {
+        long iStart;
+        long iEnd;
+
+        @Override
+        public long getStartMillis() {
+            return iStart;
+        }
+
+        @Override
+        public long getEndMillis() {
+            return iEnd;
+        }
+    }
+
+    /**
+     * Base class for source sequences that validate the order.
+     */
+    private abstract static class SourceSequence extends StoredSequence {
+        private boolean iStarted;
+
+        boolean validate(long start, long end) {
+            if (end < start) {
+                throw new IllegalArgumentException("The end instant must be greater than or equal to the start");
+            }
+            if (iStarted && start < iStart) {
+                throw new IllegalArgumentException("Intervals must be sorted by start instant");
+            }
+            iStarted = true;
+            iStart = start;
+            iEnd = end;
+            return true;
+        }
+    }
+
+    /**
+     * Sequence over arrays.
+     */
+    private static final class ArraySequence extends SourceSequence {
+        private final long[] iStarts;
+        private final long[] iEnds;
+        private final int iToIndex;
+        private int iIndex;
+
+        ArraySequence(long[] starts, long[] ends, int fromIndex, int toIndex) {
+            iStarts = starts;
+            iEnds = ends;
+            iIndex = fromIndex;
+            iToIndex = toIndex;
+        }
+
+        @Override
+        public boolean next() {
+            if (iIndex >= iToIndex) {
+                return false;
+            }
+            int index = iIndex++;
+            return validate(iStarts[index], iEnds[index]);
+        }
+    }
+
+    /**
+     * Sequence over an iterator.
+     */
+    private static final class IteratorSequence extends SourceSequence {
+        private final Iterator<? extends ReadableInterval> iIterator;
+
+        IteratorSequence(Iterator<? extends ReadableInterval> iterator) {
+            iIterator = iterator;
+        }
+
+        @Override
+        public boolean next() {
+            if (iIterator.hasNext() == false) {
+                return false;
+            }
+            ReadableInterval interval = iIterator.next();
+            if (interval == null) {
+                throw new IllegalArgumentException("Intervals must not contain null");
+            }
+            return validate(interval.getStartMillis(), interval.getEndMillis());
+        }
+    }
+
+    /**
+     * Sequence over an interval set.
+     */
+    private static final class SetSequence extends StoredSequence {
+        private final IntervalSet iSet;
+        private int iIndex;
+
+        SetSequence(IntervalSet set) {
+            iSet = set;
+        }
+
+        @Override
+        public boolean next() {
+            if (iIndex >= iSet.size()) {
+                return false;
+            }
+            iStart = iSet.getStartMillis(iIndex);
+            iEnd = iSet.getEndMillis(iIndex);
+            iIndex++;
+            return true;
+        }
+    }
+
+    /**
+     * Sequence merging overlapping and abutting intervals.
+     */
+    private static final class MergeSequence extends StoredSequence {
+        private final IntervalSequence iSource;
+        private boolean iStarted;
+        private boolean iPending;
+
+        MergeSequence(IntervalSequence source) {
+            iSource = source;
+        }
+
+        @Override
+        public boolean next() {
+            if (iStarted == false) {
+                iPending = iSource.next();
+                iStarted = true;
+            }
+            while (iPending) {
+                long start = iSource.getStartMillis();
+                long end = iSource.getEndMillis();
+                while ((iPending = iSource.next()) && iSource.getStartMillis() <= end) {
+                    end = Math.max(end, iSource.getEndMillis());
+                }
+                if (start < end) {
+                    iStart = start;
+                    iEnd = end;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public IntervalSequence merge() {
+            return this;
+        }
+    }
+
+    /**
+     * Sequence interleaving two sequences by start.
+     */
+    private static final class InterleaveSequence extends StoredSequence {
+        private final IntervalSequence iFirst;
+        private final IntervalSequence iSecond;
+        private boolean iStarted;
+        private boolean iHasFirst;
+        private boolean iHasSecond;
+
+        InterleaveSequence(IntervalSequence first, IntervalSequence second) {
+            iFirst = first;
+            iSecond = second;
+        }
+
+        @Override
+        public boolean next() {
+            if (iStarted == false) {
+                iHasFirst = iFirst.next();
+                iHasSecond = iSecond.next();
+                iStarted = true;
+            }
+            if (iHasFirst && (iHasSecond == false || iFirst.getStartMillis() <= iSecond.getStartMillis())) {
+                iStart = iFirst.getStartMillis();
+                iEnd = iFirst.getEndMillis();
+                iHasFirst = iFirst.next();
+                return true;
+            }
+            if (iHasSecond) {
+                iStart = iSecond.getStartMillis();
+                iEnd = iSecond.getEndMillis();
+                iHasSecond = iSecond.next();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Sequence intersecting two merged sequences.
+     */
+    private static final class IntersectionSequence extends StoredSequence {
+        private final IntervalSequence iFirst;
+        private final IntervalSequence iSecond;
+        private boolean iStarted;
+        private boolean iHasFirst;
+        private boolean iHasSecond;
+
+        IntersectionSequence(IntervalSequence first, IntervalSequence second) {
+            iFirst = first;
+            iSecond = second;
+        }
+
+        @Override
+        public boolean next() {
+            if (iStarted == false) {
+                iHasFirst = iFirst.next();
+                iHasSecond = iSecond.next();
+                iStarted = true;
+            }
+            while (iHasFirst && iHasSecond) {
+                long firstEnd = iFirst.getEndMillis();
+                long secondEnd = iSecond.getEndMillis();
+                long start = Math.max(iFirst.getStartMillis(), iSecond.getStartMillis());
+                long end = Math.min(firstEnd, secondEnd);
+                if (firstEnd <= secondEnd) {
+                    iHasFirst = iFirst.next();
+                } else {
+                    iHasSecond = iSecond.next();
+                }
+                if (start < end) {
+                    iStart = start;
+                    iEnd = end;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public IntervalSequence merge() {
+            return this;
+        }
+    }
+
+    /**
+     * Sequence subtracting one merged sequence from another.
+     */
+    private static final class SubtractSequence extends StoredSequence {
+        private final IntervalSequence iFirst;
+        private final IntervalSequence iSecond;
+        private boolean iStarted;
+        private boolean iHasFirst;
+        private boolean iHasSecond;
+        /** The start of the remaining part of the current interval of the first sequence. */
+        private long iRemainder;
+
+        SubtractSequence(IntervalSequence first, IntervalSequence second) {
+            iFirst = first;
+            iSecond = second;
+        }
+
+        @Override
+        public boolean next() {
+            if (iStarted == false) {
+                advanceFirst();
+                iHasSecond = iSecond.next();
+                iStarted = true;
+            }
+            while (iHasFirst) {
+                long start = iRemainder;
+                long end = iFirst.getEndMillis();
+                while (iHasSecond && iSecond.getEndMillis() <= start) {
+                    iHasSecond = iSecond.next();
+                }
+                if (iHasSecond == false || iSecond.getStartMillis() >= end) {
+                    advanceFirst();
+                    iStart = start;
+                    iEnd = end;
+                    return true;
+                }
+                long secondStart = iSecond.getStartMillis();
+                long secondEnd = iSecond.getEndMillis();
+                if (secondEnd < end) {
+                    iRemainder = secondEnd;
+                } else {
+                    advanceFirst();
+                }
+                if (start < secondStart) {
+                    iStart = start;
+                    iEnd = secondStart;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void advanceFirst() {
+            iHasFirst = iFirst.next();
+            if (iHasFirst) {
+                iRemainder = iFirst.getStartMillis();
+            }
+        }
+
+        @Override
+        public IntervalSequence merge() {
+            return this;
+        }
+    }
+
+    /**
+     * Sequence of the gaps in a merged sequence within a range.
+     */
+    private static final class ComplementSequence extends StoredSequence {
+        private final IntervalSequence iSource;
+        private final long iRangeEnd;
+        private long iPosition;
+
+        ComplementSequence(IntervalSequence source, long rangeStart, long rangeEnd) {
+            iSource = source;
+            iPosition = rangeStart;
+            iRangeEnd = rangeEnd;
+        }
+
+        @Override
+        public boolean next() {
+            while (iPosition < iRangeEnd) {
+                if (iSource.next() == false) {
+                    iStart = iPosition;
+                    iEnd = iRangeEnd;
+                    iPosition = iRangeEnd;
+                    return true;
+                }
+                long start = iSource.getStartMillis();
+                long end = iSource.getEndMillis();
+                if (start > iPosition) {
+                    iStart = iPosition;
+                    iEnd = Math.min(start, iRangeEnd);
+                    iPosition = Math.max(end, iEnd);
+                    return true;
+                }
+                iPosition = Math.max(iPosition, end);
+            }
+            return false;
+        }
+
+        @Override
+        public IntervalSequence merge() {
+            return this;
+        }
+    }
+
+    /**
+     * Sequence restricting another to a range.
+     */
+    private static final class ClipSequence extends StoredSequence {
+        private final IntervalSequence iSource;
+        private final long iRangeStart;
+        private final long iRangeEnd;
+        private boolean iDone;
+
+        ClipSequence(IntervalSequence source, long rangeStart, long rangeEnd) {
+            iSource = source;
+            iRangeStart = rangeStart;
+            iRangeEnd = rangeEnd;
+        }
+
+        @Override
+        public boolean next() {
+            while (iDone == false && iSource.next()) {
+                long start = iSource.getStartMillis();
+                if (start >= iRangeEnd) {
+                    iDone = true;
+                    break;
+                }
+                start = Math.max(start, iRangeStart);
+                long end = Math.min(iSource.getEndMillis(), iRangeEnd);
+                if (start < end) {
+                    iStart = start;
+                    iEnd = end;
+                    return true;
+                }
+            }
+            iDone = true;
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,679 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.joda.time.field.FieldUtils;
+
+/**
+ * IntervalSet is an immutable set of instants, held as a sorted array of
+ * non-overlapping intervals.
+ * <p>
+ * The set is formed from the union of the intervals it is created from.
+ * Intervals that overlap or abut are merged and zero duration intervals are ignored.
+ * The start and end of each merged interval are stored in sorted {@code long} arrays,
+ * allowing overlap, containment and coverage queries to be answered in O(log N)
+ * without creating any objects. Union, intersection and subtraction of whole sets
+ * are performed in a single linear pass.
+ * <p>
+ * As with {@link Interval}, the intervals are inclusive of the start and exclusive of the end.
+ * Only the instants of the intervals are held, the chronology is not retained.
+ * Intervals returned by this class use ISO chronology in the default time zone.
+ * <p>
+ * IntervalSet is thread-safe and immutable.
+ *
+ * @since 2.15
+ */
+public final class IntervalSet {
+
+    /** The empty set. */
+    private static final IntervalSet EMPTY = new IntervalSet(new long[0], new long[0], 0);
+
+    /** Operation for union. */
+    private static final int UNION = 0;
+    /** Operation for intersection. */
+    private static final int INTERSECTION = 1;
+    /** Operation for subtraction. */
+    private static final int SUBTRACTION = 2;
+
+    /** The start of each interval, sorted. */
+    private final long[] iStarts;
+    /** The end of each interval, sorted. */
+    private final long[] iEnds;
+    /** The cumulative duration before each interval, null if the total overflows. */
+    private final long[] iCumulative;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the empty set.
+     *
+     * @return the empty set, not null
+     */
+    public static IntervalSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a set from the union of the specified intervals.
+     * <p>
+     * The intervals may be in any order and may overlap.
+     *
+     * @param intervals  the intervals, not null, no null elements
+     * @return the set, not null
+     * @throws IllegalArgumentException if the array or an element is null
+     */
+    public static IntervalSet of(ReadableInterval... intervals) {
+        if (intervals == null) {
+            throw new IllegalArgumentException("Intervals must not be null");
+        }
+        return of(Arrays.asList(intervals));
+    }
+
+    /**
+     * Creates a set from the union of the specified intervals.
+     * <p>
+     * The intervals may be in any order and may overlap.
+     *
+     * @param intervals  the intervals, not null, no null elements
+     * @return the set, not null
+     * @throws IllegalArgumentException if the collection or an element is null
+     */
+    public static IntervalSet of(Collection<? extends ReadableInterval> intervals) {
+        if (intervals == null) {
+            throw new IllegalArgumentException("Intervals must not be null");
+        }
+        long[] starts = new long[intervals.size()];
+        long[] ends = new long[starts.length];
+        int i = 0;
+        for (ReadableInterval interval : intervals) {
+            if (interval == null) {
+                throw new IllegalArgumentException("Intervals must not contain null");
+            }
+            starts[i] = interval.getStartMillis();
+            ends[i] = interval.getEndMillis();
+            i++;
+        }
+        return ofSorted(sort(starts), sort(ends));
+    }
+
+    /**
+     * Creates a set from the union of the specified intervals expressed in milliseconds.
+     * <p>
+     * Element {@code i} of each array holds the start and end of one interval.
+     * The intervals may be in any order and may overlap.
+     * The arrays are not altered.
+     *
+     * @param startMillis  the start of each interval, not null
+     * @param endMillis  the end of each interval, not null
+     * @return the set, not null
+     * @throws IllegalArgumentException if the arrays differ in length or an end is before its start
+     */
+    public static IntervalSet ofMillis(long[] startMillis, long[] endMillis) {
+        if (startMillis == null || endMillis == null) {
+            throw new IllegalArgumentException("Arrays must not be null");
+        }
+        if (startMillis.length != endMillis.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        for (int i = 0; i < startMillis.length; i++) {
+            if (endMillis[i] < startMillis[i]) {
+                throw new IllegalArgumentException("The end instant must be greater than or equal to the start");
+            }
+        }
+        return ofSorted(sort(startMillis.clone()), sort(endMillis.clone()));
+    }
+
+    private static long[] sort(long[] array) {
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * Creates a set by sweeping over the independently sorted starts and ends.
+     * <p>
+     * The union of a group of intervals is the same whichever start is paired with
+     * whichever end, so the two arrays can be sorted separately.
+     * A start is processed before an end at the same instant so that abutting intervals merge.
+     *
+     * @param starts  the sorted starts, not null
+     * @param ends  the sorted ends, same length as starts, not null
+     * @return the set, not null
+     */
+    private static IntervalSet ofSorted(long[] starts, long[] ends) {
+        int length = starts.length;
+        long[] resultStarts = new long[length];
+        long[] resultEnds = new long[length];
+        int size = 0;
+        int depth = 0;
+        long spanStart = 0;
+        for (int i = 0, j = 0; j < length; ) {
+            if (i < length && starts[i] <= ends[j]) {
+                if (depth++ == 0) {
+                    spanStart = starts[i];
+                }
+                i++;
+            } else {
+                if (--depth == 0 && spanStart < ends[j]) {
+                    resultStarts[size] = spanStart;
+                    resultEnds[size] = ends[j];
+                    size++;
+                }
+                j++;
+            }
+        }
+        return create(resultStarts, resultEnds, size);
+    }
+
+    /**
+     * Creates a set from normalized arrays, trimming if necessary.
+     * The arrays must not be altered after calling this method.
+     *
+     * @param starts  the starts, not null
+     * @param ends  the ends, not null
+     * @param size  the number of valid elements
+     * @return the set, not null
+     */
+    static IntervalSet create(long[] starts, long[] ends, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (size < starts.length) {
+            long[] trimmedStarts = new long[size];
+            long[] trimmedEnds = new long[size];
+            System.arraycopy(starts, 0, trimmedStarts, 0, size);
+            System.arraycopy(ends, 0, trimmedEnds, 0, size);
+            starts = trimmedStarts;
+            ends = trimmedEnds;
+        }
+        return new IntervalSet(starts, ends, size);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Restricted constructor.
+     *
+     * @param starts  the normalized starts, not null
+     * @param ends  the normalized ends, not null
+     * @param size  the number of elements, equal to the array length
+     */
+    private IntervalSet(long[] starts, long[] ends, int size) {
+        iStarts = starts;
+        iEnds = ends;
+        long[] cumulative = new long[size + 1];
+        for (int i = 0; i < size; i++) {
+            long duration = ends[i] - starts[i];
+            long total = cumulative[i] + duration;
+            if (duration < 0 || total < 0) {
+                cumulative = null;
+                break;
+            }
+            cumulative[i + 1] = total;
+        }
+        iCumulative = cumulative;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of non-overlapping intervals in the set.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return iStarts.length;
+    }
+
+    /**
+     * Checks if the set is empty.
+     *
+     * @return true if the set contains no instants
+     */
+    public boolean isEmpty() {
+        return iStarts.length == 0;
+    }
+
+    /**
+     * Gets the start of the interval at the specified index.
+     *
+     * @param index  the index, from zero to size - 1
+     * @return the start in milliseconds
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getStartMillis(int index) {
+        return iStarts[index];
+    }
+
+    /**
+     * Gets the end of the interval at the specified index.
+     *
+     * @param index  the index, from zero to size - 1
+     * @return the end in milliseconds
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEndMillis(int index) {
+        return iEnds[index];
+    }
+
+    /**
+     * Gets the interval at the specified index.
+     *
+     * @param index  the index, from zero to size - 1
+     * @return the interval, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval getInterval(int index) {
+        return new Interval(iStarts[index], iEnds[index]);
+    }
+
+    /**
+     * Gets the intervals in the set, in order.
+     *
+     * @return the unmodifiable list of intervals, not null
+     */
+    public List<Interval> toIntervals() {
+        List<Interval> list = new ArrayList<Interval>(iStarts.length);
+        for (int i = 0; i < iStarts.length; i++) {
+            list.add(new Interval(iStarts[i], iEnds[i]));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the set contains the specified instant.
+     *
+     * @param millisInstant  the instant to check
+     * @return true if one of the intervals contains the instant
+     */
+    public boolean contains(long millisInstant) {
+        int index = floorIndex(millisInstant);
+        return index >= 0 && millisInstant < iEnds[index];
+    }
+
+    /**
+     * Checks if the set contains the specified instant.
+     *
+     * @param instant  the instant to check, null means now
+     * @return true if one of the intervals contains the instant
+     */
+    public boolean contains(ReadableInstant instant) {
+        return contains(DateTimeUtils.getInstantMillis(instant));
+    }
+
+    /**
+     * Checks if the set fully contains the specified interval.
+     * <p>
+     * This follows the rules of {@link Interval#contains(ReadableInterval)},
+     * thus the interval must be contained within a single interval of the set.
+     *
+     * @param interval  the interval to check, null means a zero duration interval now
+     * @return true if the interval is contained
+     */
+    public boolean contains(ReadableInterval interval) {
+        if (interval == null) {
+            return contains(DateTimeUtils.currentTimeMillis());
+        }
+        long start = interval.getStartMillis();
+        int index = floorIndex(start);
+        return index >= 0 && start < iEnds[index] && interval.getEndMillis() <= iEnds[index];
+    }
+
+    /**
+     * Checks if the set overlaps the specified interval.
+     * <p>
+     * This follows the rules of {@link Interval#overlaps(ReadableInterval)},
+     * thus abutting intervals do not overlap.
+     *
+     * @param interval  the interval to check, null means a zero duration interval now
+     * @return true if any interval in the set overlaps the interval
+     */
+    public boolean overlaps(ReadableInterval interval) {
+        long start;
+        long end;
+        if (interval == null) {
+            start = end = DateTimeUtils.currentTimeMillis();
+        } else {
+            start = interval.getStartMillis();
+            end = interval.getEndMillis();
+        }
+        int index = higherEndIndex(start);
+        return index < iEnds.length && iStarts[index] < end;
+    }
+
+    /**
+     * Gets the part of the set that overlaps the specified interval.
+     *
+     * @param interval  the interval to query, not null
+     * @return the overlapping part of the set, not null
+     * @throws IllegalArgumentException if the interval is null
+     */
+    public IntervalSet overlap(ReadableInterval interval) {
+        if (interval == null) {
+            throw new IllegalArgumentException("Interval must not be null");
+        }
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        int first = higherEndIndex(start);
+        int last = lowerStartIndex(end);
+        if (first > last || start == end) {
+            return EMPTY;
+        }
+        int size = last - first + 1;
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        System.arraycopy(iStarts, first, starts, 0, size);
+        System.arraycopy(iEnds, first, ends, 0, size);
+        starts[0] = Math.max(starts[0], start);
+        ends[size - 1] = Math.min(ends[size - 1], end);
+        return new IntervalSet(starts, ends, size);
+    }
+
+    /**
+     * Gets the gaps in the set within the specified interval.
+     * <p>
+     * The result contains those instants of the interval that are not in this set.
+     *
+     * @param interval  the interval to query, not null
+     * @return the gaps, not null
+     * @throws IllegalArgumentException if the interval is null
+     */
+    public IntervalSet gaps(ReadableInterval interval) {
+        if (interval == null) {
+            throw new IllegalArgumentException("Interval must not be null");
+        }
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        int first = higherEndIndex(start);
+        int last = lowerStartIndex(end);
+        int max = Math.max(last - first + 2, 1);
+        long[] starts = new long[max];
+        long[] ends = new long[max];
+        int size = 0;
+        long gapStart = start;
+        for (int i = first; i <= last; i++) {
+            if (gapStart < iStarts[i]) {
+                starts[size] = gapStart;
+                ends[size] = iStarts[i];
+                size++;
+            }
+            gapStart = iEnds[i];
+        }
+        if (gapStart < end) {
+            starts[size] = gapStart;
+            ends[size] = end;
+            size++;
+        }
+        return create(starts, ends, size);
+    }
+
+    /**
+     * Gets the total duration of the intervals in the set.
+     *
+     * @return the total duration in milliseconds
+     * @throws ArithmeticException if the total overflows a long
+     */
+    public long getCoverageMillis() {
+        if (iCumulative == null) {
+            throw new ArithmeticException("Coverage of IntervalSet overflows a long");
+        }
+        return iCumulative[iStarts.length];
+    }
+
+    /**
+     * Gets the duration of the part of the specified interval that is in the set.
+     * <p>
+     * This is calculated in O(log N) without creating any objects.
+     *
+     * @param interval  the interval to query, not null
+     * @return the covered duration in milliseconds
+     * @throws IllegalArgumentException if the interval is null
+     * @throws ArithmeticException if the result overflows a long
+     */
+    public long getCoverageMillis(ReadableInterval interval) {
+        if (interval == null) {
+            throw new IllegalArgumentException("Interval must not be null");
+        }
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        int first = higherEndIndex(start);
+        int last = lowerStartIndex(end);
+        if (first > last) {
+            return 0;
+        }
+        if (iCumulative == null) {
+            long total = 0;
+            for (int i = first; i <= last; i++) {
+                long spanStart = Math.max(iStarts[i], start);
+                long spanEnd = Math.min(iEnds[i], end);
+                total = FieldUtils.safeAdd(total, FieldUtils.safeSubtract(spanEnd, spanStart));
+            }
+            return total;
+        }
+        long total = iCumulative[last + 1] - iCumulative[first];
+        total -= Math.max(start - iStarts[first], 0);
+        total -= Math.max(iEnds[last] - end, 0);
+        return total;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a set containing the instants in this set or the other set.
+     *
+     * @param other  the other set, not null
+     * @return the union, not null
+     * @throws IllegalArgumentException if the other set is null
+     */
+    public IntervalSet union(IntervalSet other) {
+        return combine(other, UNION);
+    }
+
+    /**
+     * Returns a set containing the instants in both this set and the other set.
+     *
+     * @param other  the other set, not null
+     * @return the intersection, not null
+     * @throws IllegalArgumentException if the other set is null
+     */
+    public IntervalSet intersection(IntervalSet other) {
+        return combine(other, INTERSECTION);
+    }
+
+    /**
+     * Returns a set containing the instants in this set that are not in the other set.
+     *
+     * @param other  the other set, not null
+     * @return the difference, not null
+     * @throws IllegalArgumentException if the other set is null
+     */
+    public IntervalSet subtract(IntervalSet other) {
+        return combine(other, SUBTRACTION);
+    }
+
+    /**
+     * Combines two sets in a single pass over their boundaries.
+     * <p>
+     * The boundaries of each set form a strictly increasing sequence,
+     * with the set containing the instants after an odd number of boundaries.
+     *
+     * @param other  the other set, not null
+     * @param operation  the operation
+     * @return the combined set, not null
+     */
+    private IntervalSet combine(IntervalSet other, int operation) {
+        if (other == null) {
+            throw new IllegalArgumentException("IntervalSet must not be null");
+        }
+        long[] aStarts = iStarts;
+        long[] aEnds = iEnds;
+        long[] bStarts = other.iStarts;
+        long[] bEnds = other.iEnds;
+        int aCount = aStarts.length * 2;
+        int bCount = bStarts.length * 2;
+        int max = aStarts.length + bStarts.length;
+        long[] starts = new long[max];
+        long[] ends = new long[max];
+        int size = 0;
+        boolean in = false;
+        int a = 0;
+        int b = 0;
+        while (a < aCount || b < bCount) {
+            long aNext = (a < aCount ? ((a & 1) == 0 ? aStarts[a >> 1] : aEnds[a >> 1]) : Long.MAX_VALUE);
+            long bNext = (b < bCount ? ((b & 1) == 0 ? bStarts[b >> 1] : bEnds[b >> 1]) : Long.MAX_VALUE);
+            long instant;
+            if (b >= bCount || (a < aCount && aNext <= bNext)) {
+                instant = aNext;
+                a++;
+                if (b < bCount && bNext == aNext) {
+                    b++;
+                }
+            } else {
+                instant = bNext;
+                b++;
+            }
+            boolean inA = (a & 1) == 1;
+            boolean inB = (b & 1) == 1;
+            boolean result;
+            switch (operation) {
+                case UNION:
+                    result = inA || inB;
+                    break;
+                case INTERSECTION:
+                    result = inA && inB;
+                    break;
+                default:
+                    result = inA && !inB;
+                    break;
+            }
+            if (result != in) {
+                if (result) {
+                    starts[size] = instant;
+                } else {
+                    ends[size++] = instant;
+                }
+                in = result;
+            }
+        }
+        return create(starts, ends, size);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the index of the last interval starting at or before the instant.
+     *
+     * @param instant  the instant
+     * @return the index, -1 if none
+     */
+    private int floorIndex(long instant) {
+        long[] starts = iStarts;
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= instant) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Finds the index of the first interval ending after the instant.
+     *
+     * @param instant  the instant
+     * @return the index, size if none
+     */
+    private int higherEndIndex(long instant) {
+        long[] ends = iEnds;
+        int low = 0;
+        int high = ends.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= instant) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the index of the last interval starting before the instant.
+     *
+     * @param instant  the instant
+     * @return the index, -1 if none
+     */
+    private int lowerStartIndex(long instant) {
+        long[] starts = iStarts;
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < instant) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this set to another based on the instants.
+     *
+     * @param obj  the object to compare to
+     * @return true if equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof IntervalSet) {
+            IntervalSet other = (IntervalSet) obj;
+            return Arrays.equals(iStarts, other.iStarts) && Arrays.equals(iEnds, other.iEnds);
+        }
+        return false;
+    }
+
+    /**
+     * Gets a hash code compatible with equals.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(iStarts) * 31 + Arrays.hashCode(iEnds);
+    }
+
+    /**
+     * Outputs the set as a list of ISO8601 intervals.
+     *
+     * @return the string, such as '[2025-06-30T10:00:00.000Z/2025-06-30T11:00:00.000Z]'
+     */
+    @Override
+    public String toString() {
+        return toIntervals().toString();
+    }
+
+}
@@ -0,0 +1,310 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * JodaTimeWarmup fills the internal caches of Joda-Time at application startup.
+ * <p>
+ * Many objects in Joda-Time are created on first use and cached thereafter,
+ * such as time zones, chronologies, locale specific text and formatters.
+ * As such, the first use of a zone, locale or pattern is noticeably slower
+ * than subsequent uses. Applications that are sensitive to latency can call
+ * {@link #warmup(Collection, Collection, Collection)} during startup
+ * with the zones, locales and patterns they use to avoid this.
+ * <p>
+ * The work for each zone, locale and pattern is performed in parallel,
+ * using one thread per available processor. Each step is timed and the
+ * timings are returned in a {@link Report}.
+ * <p>
+ * JodaTimeWarmup is thread-safe.
+ *
+ * @since 2.15
+ */
+public final class JodaTimeWarmup {
+
+    /** The styles to warm up for each locale. */
+    private static final String[] STYLES = {"SS", "MM", "LL", "FF", "S-", "M-", "L-", "F-", "-S", "-M", "-L", "-F"};
+
+    /**
+     * Restricted constructor.
+     */
+    private JodaTimeWarmup() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Fills the caches for the specified zones, locales and patterns.
+     * <p>
+     * For each zone ID, the zone is loaded, the ISO chronology in the zone
+     * is created and the offset around the current time is queried.
+     * For each locale, the localized text of the ISO chronology and the
+     * style based formatters are initialized.
+     * For each pattern, the formatter is created and used to print in each locale.
+     * <p>
+     * The steps are performed in the order zones, locales, patterns.
+     * The work within each step is performed in parallel.
+     *
+     * @param zoneIds  the zone IDs to load, null treated as empty
+     * @param locales  the locales to load, null treated as empty
+     * @param patterns  the formatter patterns to load, null treated as empty
+     * @return the report of the time taken, not null
+     * @throws IllegalArgumentException if a zone ID or pattern is invalid
+     */
+    public static Report warmup(Collection<String> zoneIds, Collection<Locale> locales, Collection<String> patterns) {
+        final List<String> zoneList = toList(zoneIds);
+        final List<Locale> localeList = toList(locales);
+        final List<String> patternList = toList(patterns);
+        final long now = DateTimeUtils.currentTimeMillis();
+        int tasks = Math.max(zoneList.size(), Math.max(localeList.size(), patternList.size()));
+        int threads = Math.max(1, Math.min(tasks, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "joda-time-warmup");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            long start = System.nanoTime();
+            List<Callable<Object>> zoneTasks = new ArrayList<Callable<Object>>();
+            for (final String zoneId : zoneList) {
+                zoneTasks.add(new Callable<Object>() {
+                    public Object call() {
+                        DateTimeZone zone = DateTimeZone.forID(zoneId);
+                        zone.getOffset(now);
+                        zone.nextTransition(now);
+                        return ISOChronology.getInstance(zone);
+                    }
+                });
+            }
+            run(executor, zoneTasks);
+            long zonesEnd = System.nanoTime();
+
+            List<Callable<Object>> localeTasks = new ArrayList<Callable<Object>>();
+            for (final Locale locale : localeList) {
+                localeTasks.add(new Callable<Object>() {
+                    public Object call() {
+                        Chronology chrono = ISOChronology.getInstanceUTC();
+                        chrono.monthOfYear().getMaximumTextLength(locale);
+                        chrono.dayOfWeek().getMaximumTextLength(locale);
+                        chrono.halfdayOfDay().getMaximumTextLength(locale);
+                        chrono.era().getMaximumTextLength(locale);
+                        for (String style : STYLES) {
+                            DateTimeFormat.forStyle(style).withLocale(locale).print(now);
+                        }
+                        return null;
+                    }
+                });
+            }
+            run(executor, localeTasks);
+            long localesEnd = System.nanoTime();
+
+            List<Callable<Object>> patternTasks = new ArrayList<Callable<Object>>();
+            for (final String pattern : patternList) {
+                patternTasks.add(new Callable<Object>() {
+                    public Object call() {
+                        DateTimeFormatter formatter = DateTimeFormat.forPattern(pattern);
+                        formatter.print(now);
+                        for (Locale locale : localeList) {
+                            formatter.withLocale(locale).print(now);
+                        }
+                        return formatter;
+                    }
+                });
+            }
+            run(executor, patternTasks);
+            long patternsEnd = System.nanoTime();
+
+            return new Report(
+                zoneList.size(), zonesEnd - start,
+                localeList.size(), localesEnd - zonesEnd,
+                patternList.size(), patternsEnd - localesEnd);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Copies the collection to a list.
+     *
+     * @param coll  the collection, may be null
+     * @return the list, not null
+     */
+    private static <T> List<T> toList(Collection<T> coll) {
+        if (coll == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<T>(coll);
+    }
+
+    /**
+     * Runs the tasks, waiting for all to complete.
+     *
+     * @param executor  the executor to use, not null
+     * @param tasks  the tasks to run, not null
+     */
+    private static void run(ExecutorService executor, List<Callable<Object>> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        try {
+            List<Future<Object>> futures = executor.invokeAll(tasks);
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Warmup interrupted");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause.toString());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The report of the time taken to warm up each area.
+     * <p>
+     * Report is thread-safe and immutable.
+     */
+    public static final class Report {
+
+        /** The number of zones. */
+        private final int iZoneCount;
+        /** The time taken for zones. */
+        private final long iZoneNanos;
+        /** The number of locales. */
+        private final int iLocaleCount;
+        /** The time taken for locales. */
+        private final long iLocaleNanos;
+        /** The number of patterns. */
+        private final int iPatternCount;
+        /** The time taken for patterns. */
+        private final long iPatternNanos;
+
+        Report(int zoneCount, long zoneNanos, int localeCount, long localeNanos, int patternCount, long patternNanos) {
+            iZoneCount = zoneCount;
+            iZoneNanos = zoneNanos;
+            iLocaleCount = localeCount;
+            iLocaleNanos = localeNanos;
+            iPatternCount = patternCount;
+            iPatternNanos = patternNanos;
+        }
+
+        /**
+         * Gets the number of zones that were loaded.
+         *
+         * @return the number of zones
+         */
+        public int getZoneCount() {
+            return iZoneCount;
+        }
+
+        /**
+         * Gets the time taken to load the zones.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getZoneNanos() {
+            return iZoneNanos;
+        }
+
+        /**
+         * Gets the number of locales that were loaded.
+         *
+         * @return the number of locales
+         */
+        public int getLocaleCount() {
+            return iLocaleCount;
+        }
+
+        /**
+         * Gets the time taken to load the locales.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getLocaleNanos() {
+            return iLocaleNanos;
+        }
+
+        /**
+         * Gets the number of patterns that were loaded.
+         *
+         * @return the number of patterns
+         */
+        public int getPatternCount() {
+            return iPatternCount;
+        }
+
+        /**
+         * Gets the time taken to load the patterns.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getPatternNanos() {
+            return iPatternNanos;
+        }
+
+        /**
+         * Gets the total time taken.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getTotalNanos() {
+            return iZoneNanos + iLocaleNanos + iPatternNanos;
+        }
+
+        /**
+         * Outputs the report, with the times in milliseconds.
+         *
+         * @return the report, such as 'JodaTimeWarmup[zones=2 in 5.2ms, locales=1 in 1.1ms, patterns=0 in 0.0ms]'
+         */
+        @Override
+        public String toString() {
+            return "JodaTimeWarmup[zones=" + iZoneCount + " in " + toMillis(iZoneNanos) +
+                "ms, locales=" + iLocaleCount + " in " + toMillis(iLocaleNanos) +
+                "ms, patterns=" + iPatternCount + " in " + toMillis(iPatternNanos) + "ms]";
+        }
+
+        private static String toMillis(long nanos) {
+            long tenths = nanos / 100000;
+            return (tenths / 10) + "." + (tenths % 10);
+        }
+    }
+
+}
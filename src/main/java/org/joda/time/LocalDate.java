@@ -31,6 +31,7 @@ import org.joda.convert.FromString;
 import org.joda.convert.ToString;
 import org.joda.time.base.BaseLocal;
 import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.IsoFastPath;
 import org.joda.time.convert.ConverterManager;
 import org.joda.time.convert.PartialConverter;
 import org.joda.time.field.AbstractReadableInstantFieldProperty;
@@ -105,12 +106,19 @@ public final class LocalDate
         DATE_DURATION_TYPES.add(DurationFieldType.eras());
     }
 
+    /** The minimum epoch-day supported by the ISO chronology. */
+    private static final long MIN_ISO_EPOCH_DAY = PackedDate.epochDay(-292275054, 1, 1);
+    /** The maximum epoch-day supported by the ISO chronology. */
+    private static final long MAX_ISO_EPOCH_DAY = PackedDate.epochDay(292278993, 12, 31);
+
     /** The local millis from 1970-01-01T00:00:00 */
     private final long iLocalMillis;
     /** The chronology to use in UTC. */
     private final Chronology iChronology;
     /** The cached hash code. */
     private transient int iHash;
+    /** The cached year, month and day, packed into an int, zero if not yet calculated. */
+    private transient int iYearMonthDay;
 
     //-----------------------------------------------------------------------
     /**
@@ -121,7 +129,7 @@ public final class LocalDate
      * @since 2.0
      */
     public static LocalDate now() {
-        return new LocalDate();
+        return now(DateTimeZone.getDefault());
     }
 
     /**
@@ -136,7 +144,7 @@ public final class LocalDate
         if (zone == null) {
             throw new NullPointerException("Zone must not be null");
         }
-        return new LocalDate(zone);
+        return CurrentDate.get(zone).getDate();
     }
 
     /**
@@ -256,6 +264,24 @@ public final class LocalDate
         );
     }
 
+    /**
+     * Obtains a {@code LocalDate} from the number of days since 1970-01-01
+     * using <code>ISOChronology</code>.
+     * <p>
+     * The date is calculated arithmetically, without using the chronology fields.
+     *
+     * @param epochDay  the number of days since 1970-01-01, negative for earlier dates
+     * @return the local date, not null
+     * @throws IllegalArgumentException if the day is outside the range of the ISO chronology
+     * @since 2.15
+     */
+    public static LocalDate ofEpochDay(long epochDay) {
+        if (epochDay < MIN_ISO_EPOCH_DAY || epochDay > MAX_ISO_EPOCH_DAY) {
+            throw new IllegalArgumentException("Epoch day is outside the supported range: " + epochDay);
+        }
+        return new LocalDate(epochDay * DateTimeConstants.MILLIS_PER_DAY, ISOChronology.getInstanceUTC(), PackedDate.yearMonthDay(epochDay));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance set to the current local time evaluated using
@@ -456,9 +482,38 @@ public final class LocalDate
             Chronology chronology) {
         super();
         chronology = DateTimeUtils.getChronology(chronology).withUTC();
-        long instant = chronology.getDateTimeMillis(year, monthOfYear, dayOfMonth, 0);
+        if (chronology == ISOChronology.getInstanceUTC() && year > -PackedDate.PACKED_YEAR_LIMIT && year < PackedDate.PACKED_YEAR_LIMIT &&
+                monthOfYear >= 1 && monthOfYear <= 12 && dayOfMonth >= 1 &&
+                (dayOfMonth <= 28 || dayOfMonth <= PackedDate.lengthOfMonth(year, monthOfYear))) {
+            // fast path for valid ISO dates, avoiding the field validation
+            iLocalMillis = PackedDate.epochDay(year, monthOfYear, dayOfMonth) * DateTimeConstants.MILLIS_PER_DAY;
+            iYearMonthDay = PackedDate.pack(year, monthOfYear, dayOfMonth);
+        } else {
+            iLocalMillis = chronology.getDateTimeMillis(year, monthOfYear, dayOfMonth, 0);
+        }
         iChronology = chronology;
-        iLocalMillis = instant;
+    }
+
+    /**
+     * Constructs an instance from validated ISO values.
+     *
+     * @param localMillis  the local millis, at midnight
+     * @param chronology  the ISO chronology in UTC
+     * @param yearMonthDay  the packed year, month and day, zero if not known
+     */
+    private LocalDate(long localMillis, Chronology chronology, int yearMonthDay) {
+        super();
+        iLocalMillis = localMillis;
+        iChronology = chronology;
+        iYearMonthDay = yearMonthDay;
+    }
+
+    /**
+     * Replaces this object with the compact serialization proxy if enabled.
+     * @return the object to serialize, not null
+     */
+    private Object writeReplace() {
+        return Ser.replace(BinaryCodec.TAG_LOCAL_DATE, this, iChronology);
     }
 
     /**
@@ -526,11 +581,11 @@ public final class LocalDate
     public int getValue(int index) {
         switch (index) {
             case YEAR:
-                return getChronology().year().get(getLocalMillis());
+                return getYear();
             case MONTH_OF_YEAR:
-                return getChronology().monthOfYear().get(getLocalMillis());
+                return getMonthOfYear();
             case DAY_OF_MONTH:
-                return getChronology().dayOfMonth().get(getLocalMillis());
+                return getDayOfMonth();
             default:
                 throw new IndexOutOfBoundsException("Invalid index: " + index);
         }
@@ -572,14 +627,25 @@ public final class LocalDate
      */
     @Override
     public boolean isSupported(DateTimeFieldType type) {
+        return isSupported(type, getChronology());
+    }
+
+    /**
+     * Checks if the field type specified is supported by local dates in a chronology.
+     *
+     * @param type  a field type, usually obtained from DateTimeFieldType
+     * @param chrono  the chronology in UTC, not null
+     * @return true if the field type is supported
+     */
+    static boolean isSupported(DateTimeFieldType type, Chronology chrono) {
         if (type == null) {
             return false;
         }
         DurationFieldType durType = type.getDurationType();
         if (DATE_DURATION_TYPES.contains(durType) ||
-                durType.getField(getChronology()).getUnitMillis() >=
-                    getChronology().days().getUnitMillis()) {
-            return type.getField(getChronology()).isSupported();
+                durType.getField(chrono).getUnitMillis() >=
+                    chrono.days().getUnitMillis()) {
+            return type.getField(chrono).isSupported();
         }
         return false;
     }
@@ -616,6 +682,51 @@ public final class LocalDate
         return iLocalMillis;
     }
 
+    /**
+     * Gets the number of days from the Java epoch of 1970-01-01.
+     * <p>
+     * This is the same for all chronologies, as the local millis of a date
+     * are always at midnight.
+     *
+     * @return the number of days since 1970-01-01, negative for earlier dates
+     * @since 2.15
+     */
+    public long toEpochDay() {
+        long millis = iLocalMillis;
+        long days = millis / DateTimeConstants.MILLIS_PER_DAY;
+        return (millis < 0 && days * DateTimeConstants.MILLIS_PER_DAY != millis ? days - 1 : days);
+    }
+
+    /**
+     * Gets the year, month and day packed into an int, calculating and caching them if necessary.
+     * <p>
+     * The ISO chronology is calculated arithmetically. Other chronologies use their fields.
+     * Values that cannot be packed are not cached.
+     *
+     * @return the packed fields, zero if the year cannot be packed
+     */
+    private int yearMonthDay() {
+        int packed = iYearMonthDay;
+        if (packed == 0) {
+            Chronology chrono = iChronology;
+            if (chrono == ISOChronology.getInstanceUTC()) {
+                packed = PackedDate.yearMonthDay(toEpochDay());
+            } else {
+                long millis = iLocalMillis;
+                int year = chrono.year().get(millis);
+                int month = chrono.monthOfYear().get(millis);
+                int day = chrono.dayOfMonth().get(millis);
+                // custom chronologies may have values that do not fit
+                if (year > -PackedDate.PACKED_YEAR_LIMIT && year < PackedDate.PACKED_YEAR_LIMIT &&
+                        month >= 1 && month <= 15 && day >= 1 && day <= 31) {
+                    packed = PackedDate.pack(year, month, day);
+                }
+            }
+            iYearMonthDay = packed;
+        }
+        return packed;
+    }
+
     /**
      * Gets the chronology of the date.
      * 
@@ -1481,7 +1592,11 @@ public final class LocalDate
      * @return the year
      */
     public int getYear() {
-        return getChronology().year().get(getLocalMillis());
+        int packed = yearMonthDay();
+        if (packed == 0) {
+            return getChronology().year().get(getLocalMillis());
+        }
+        return packed >> 9;
     }
 
     /**
@@ -1505,7 +1620,11 @@ public final class LocalDate
      * @return the month of year
      */
     public int getMonthOfYear() {
-        return getChronology().monthOfYear().get(getLocalMillis());
+        int packed = yearMonthDay();
+        if (packed == 0) {
+            return getChronology().monthOfYear().get(getLocalMillis());
+        }
+        return (packed >> 5) & 0x0F;
     }
 
     /**
@@ -1528,7 +1647,7 @@ public final class LocalDate
      * @return the day of year
      */
     public int getDayOfYear() {
-        return getChronology().dayOfYear().get(getLocalMillis());
+        return IsoFastPath.getDayOfYear(getChronology(), getLocalMillis());
     }
 
     /**
@@ -1539,7 +1658,11 @@ public final class LocalDate
      * @return the day of month
      */
     public int getDayOfMonth() {
-        return getChronology().dayOfMonth().get(getLocalMillis());
+        int packed = yearMonthDay();
+        if (packed == 0) {
+            return getChronology().dayOfMonth().get(getLocalMillis());
+        }
+        return packed & 0x1F;
     }
 
     /**
@@ -1550,7 +1673,7 @@ public final class LocalDate
      * @return the day of week
      */
     public int getDayOfWeek() {
-        return getChronology().dayOfWeek().get(getLocalMillis());
+        return IsoFastPath.getDayOfWeek(getChronology(), getLocalMillis());
     }
 
     //-----------------------------------------------------------------------
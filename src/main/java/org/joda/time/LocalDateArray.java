@@ -0,0 +1,385 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * LocalDateArray is a fixed size array of dates sharing a single chronology.
+ * <p>
+ * Each date is held as the number of days from 1970-01-01 in an {@code int[]},
+ * taking four bytes per date rather than a {@link LocalDate} object.
+ * Fields are extracted, compared, sorted and printed in bulk without creating
+ * objects for each element. For the ISO chronology, the year, month, day and
+ * day-of-week are calculated arithmetically.
+ * <p>
+ * The dates can represent years up to approximately five million before or after 1970.
+ * <p>
+ * LocalDateArray is mutable and not thread-safe.
+ *
+ * @since 2.15
+ */
+public final class LocalDateArray {
+
+    /** The days from 1970-01-01. */
+    private final int[] iEpochDays;
+    /** The chronology in UTC. */
+    private final Chronology iChronology;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an array from the specified dates.
+     * <p>
+     * The chronology is taken from the first date, or ISO if there are none.
+     *
+     * @param dates  the dates, not null, no null elements
+     * @return the array, not null
+     * @throws IllegalArgumentException if a date is null or has a different chronology
+     */
+    public static LocalDateArray of(LocalDate... dates) {
+        if (dates == null) {
+            throw new IllegalArgumentException("Dates must not be null");
+        }
+        Chronology chrono = (dates.length > 0 && dates[0] != null ? dates[0].getChronology() : null);
+        LocalDateArray array = new LocalDateArray(dates.length, chrono);
+        for (int i = 0; i < dates.length; i++) {
+            array.set(i, dates[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Obtains an array from the number of days from 1970-01-01.
+     * <p>
+     * The input array is copied.
+     *
+     * @param epochDays  the days from 1970-01-01, not null
+     * @param chronology  the chronology, null means ISO, the zone is ignored
+     * @return the array, not null
+     * @throws IllegalArgumentException if the input array is null
+     */
+    public static LocalDateArray ofEpochDays(int[] epochDays, Chronology chronology) {
+        if (epochDays == null) {
+            throw new IllegalArgumentException("Epoch days must not be null");
+        }
+        LocalDateArray array = new LocalDateArray(epochDays.length, chronology);
+        System.arraycopy(epochDays, 0, array.iEpochDays, 0, epochDays.length);
+        return array;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an array of ISO dates, all set to 1970-01-01.
+     *
+     * @param size  the size of the array, zero or greater
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LocalDateArray(int size) {
+        this(size, null);
+    }
+
+    /**
+     * Constructs an array of dates, all set to 1970-01-01.
+     *
+     * @param size  the size of the array, zero or greater
+     * @param chronology  the chronology, null means ISO, the zone is ignored
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LocalDateArray(int size, Chronology chronology) {
+        ColumnFields.checkSize(size);
+        iEpochDays = new int[size];
+        iChronology = (chronology == null ? ISOChronology.getInstanceUTC() : chronology.withUTC());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of dates in the array.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iEpochDays.length;
+    }
+
+    /**
+     * Gets the chronology of the dates, which is in UTC.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Gets the number of days from 1970-01-01 of a date.
+     *
+     * @param index  the index
+     * @return the epoch-day
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getEpochDay(int index) {
+        return iEpochDays[index];
+    }
+
+    /**
+     * Sets a date using the number of days from 1970-01-01.
+     *
+     * @param index  the index
+     * @param epochDay  the epoch-day
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public void setEpochDay(int index, int epochDay) {
+        iEpochDays[index] = epochDay;
+    }
+
+    /**
+     * Gets a date.
+     *
+     * @param index  the index
+     * @return the date, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate get(int index) {
+        return new LocalDate(iEpochDays[index] * (long) DateTimeConstants.MILLIS_PER_DAY, iChronology);
+    }
+
+    /**
+     * Sets a date.
+     *
+     * @param index  the index
+     * @param date  the date, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws IllegalArgumentException if the date is null, has a different chronology or is out of range
+     */
+    public void set(int index, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date must not be null");
+        }
+        if (date.getChronology().equals(iChronology) == false) {
+            throw new IllegalArgumentException("Date must have the chronology of the array: " + date.getChronology());
+        }
+        long epochDay = date.toEpochDay();
+        if (epochDay != (int) epochDay) {
+            throw new IllegalArgumentException("Date is outside the supported range: " + date);
+        }
+        iEpochDays[index] = (int) epochDay;
+    }
+
+    /**
+     * Gets a copy of the days from 1970-01-01.
+     *
+     * @return the epoch-days, not null
+     */
+    public int[] toEpochDayArray() {
+        return iEpochDays.clone();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the year of each date.
+     *
+     * @return the years, not null
+     */
+    public int[] getYears() {
+        return get(DateTimeFieldType.year());
+    }
+
+    /**
+     * Gets the month of year of each date.
+     *
+     * @return the months, not null
+     */
+    public int[] getMonthsOfYear() {
+        return get(DateTimeFieldType.monthOfYear());
+    }
+
+    /**
+     * Gets the day of month of each date.
+     *
+     * @return the days, not null
+     */
+    public int[] getDaysOfMonth() {
+        return get(DateTimeFieldType.dayOfMonth());
+    }
+
+    /**
+     * Gets the day of week of each date.
+     *
+     * @return the days of week, from 1 (Monday) to 7 (Sunday) in ISO, not null
+     */
+    public int[] getDaysOfWeek() {
+        return get(DateTimeFieldType.dayOfWeek());
+    }
+
+    /**
+     * Gets the value of a field for each date.
+     *
+     * @param fieldType  the field type, not null
+     * @return the values, not null
+     * @throws IllegalArgumentException if the field type is null or not supported by {@code LocalDate}
+     */
+    public int[] get(DateTimeFieldType fieldType) {
+        Chronology chrono = iChronology;
+        boolean supported = LocalDate.isSupported(fieldType, chrono);
+        DateTimeField field = ColumnFields.field(fieldType, supported, chrono);
+        int fastPath = ColumnFields.fastPath(chrono, fieldType);
+        int[] epochDays = iEpochDays;
+        int[] result = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = ColumnFields.getDate(fastPath, chrono, field, epochDays[i]);
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares two dates in the array.
+     *
+     * @param index1  the index of the first date
+     * @param index2  the index of the second date
+     * @return negative if the first is earlier, positive if later, zero if equal
+     * @throws IndexOutOfBoundsException if either index is invalid
+     */
+    public int compare(int index1, int index2) {
+        int day1 = iEpochDays[index1];
+        int day2 = iEpochDays[index2];
+        return (day1 < day2 ? -1 : (day1 == day2 ? 0 : 1));
+    }
+
+    /**
+     * Sorts the dates into ascending order.
+     */
+    public void sort() {
+        Arrays.sort(iEpochDays);
+    }
+
+    /**
+     * Searches the array, which must be sorted, for a date.
+     *
+     * @param date  the date to find, not null
+     * @return the index of the date if found, otherwise {@code (-(insertion point) - 1)}
+     * @throws IllegalArgumentException if the date is null or has a different chronology
+     */
+    public int binarySearch(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date must not be null");
+        }
+        if (date.getChronology().equals(iChronology) == false) {
+            throw new IllegalArgumentException("Date must have the chronology of the array: " + date.getChronology());
+        }
+        long epochDay = date.toEpochDay();
+        if (epochDay > Integer.MAX_VALUE) {
+            return -iEpochDays.length - 1;
+        }
+        if (epochDay < Integer.MIN_VALUE) {
+            return -1;
+        }
+        return Arrays.binarySearch(iEpochDays, (int) epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints each date using the specified formatter.
+     * <p>
+     * The formatter is used with the chronology of the array and the UTC zone.
+     *
+     * @param formatter  the formatter, null means ISO date format
+     * @return the printed dates, not null
+     */
+    public String[] print(DateTimeFormatter formatter) {
+        DateTimeFormatter f = formatter(formatter);
+        int[] epochDays = iEpochDays;
+        String[] result = new String[epochDays.length];
+        StringBuilder buf = new StringBuilder(16);
+        for (int i = 0; i < epochDays.length; i++) {
+            buf.setLength(0);
+            f.printTo(buf, epochDays[i] * (long) DateTimeConstants.MILLIS_PER_DAY);
+            result[i] = buf.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Prints each date to an appendable using the specified formatter.
+     * <p>
+     * The formatter is used with the chronology of the array and the UTC zone.
+     *
+     * @param appendable  the destination, not null
+     * @param formatter  the formatter, null means ISO date format
+     * @param separator  the separator to write between dates, not null
+     * @throws IOException if an IO error occurs
+     */
+    public void printTo(Appendable appendable, DateTimeFormatter formatter, String separator) throws IOException {
+        DateTimeFormatter f = formatter(formatter);
+        int[] epochDays = iEpochDays;
+        for (int i = 0; i < epochDays.length; i++) {
+            if (i > 0) {
+                appendable.append(separator);
+            }
+            f.printTo(appendable, epochDays[i] * (long) DateTimeConstants.MILLIS_PER_DAY);
+        }
+    }
+
+    private DateTimeFormatter formatter(DateTimeFormatter formatter) {
+        DateTimeFormatter f = (formatter == null ? ISODateTimeFormat.date() : formatter);
+        return f.withChronology(iChronology).withZoneUTC();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this array with another, checking the dates and chronology.
+     *
+     * @param obj  the object to compare to
+     * @return true if equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LocalDateArray == false) {
+            return false;
+        }
+        LocalDateArray other = (LocalDateArray) obj;
+        return iChronology.equals(other.iChronology) && Arrays.equals(iEpochDays, other.iEpochDays);
+    }
+
+    /**
+     * Gets a hash code for the array.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(iEpochDays) ^ iChronology.hashCode();
+    }
+
+    /**
+     * Outputs the array as a string, such as {@code [2025-01-01, 2025-01-02]}.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(print(null));
+    }
+
+}
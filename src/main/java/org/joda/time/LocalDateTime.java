@@ -516,6 +516,14 @@ public final class LocalDateTime
         iLocalMillis = instant;
     }
 
+    /**
+     * Replaces this object with the compact serialization proxy if enabled.
+     * @return the object to serialize, not null
+     */
+    private Object writeReplace() {
+        return Ser.replace(BinaryCodec.TAG_LOCAL_DATE_TIME, this, iChronology);
+    }
+
     /**
      * Handle broken serialization from other tools.
      * @return the resolved object, not null
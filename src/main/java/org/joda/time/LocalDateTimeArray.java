@@ -0,0 +1,365 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * LocalDateTimeArray is a fixed size array of local date-times sharing a single chronology.
+ * <p>
+ * Each date-time is held as local milliseconds from 1970-01-01T00:00:00 in a {@code long[]},
+ * taking eight bytes per date-time rather than a {@link LocalDateTime} object.
+ * Fields are extracted, compared, sorted and printed in bulk without creating
+ * objects for each element. For the ISO chronology, the common fields are
+ * calculated arithmetically.
+ * <p>
+ * LocalDateTimeArray is mutable and not thread-safe.
+ *
+ * @since 2.15
+ */
+public final class LocalDateTimeArray {
+
+    /** The local millis from 1970-01-01T00:00:00. */
+    private final long[] iLocalMillis;
+    /** The chronology in UTC. */
+    private final Chronology iChronology;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an array from the specified date-times.
+     * <p>
+     * The chronology is taken from the first date-time, or ISO if there are none.
+     *
+     * @param dateTimes  the date-times, not null, no null elements
+     * @return the array, not null
+     * @throws IllegalArgumentException if a date-time is null or has a different chronology
+     */
+    public static LocalDateTimeArray of(LocalDateTime... dateTimes) {
+        if (dateTimes == null) {
+            throw new IllegalArgumentException("Date-times must not be null");
+        }
+        Chronology chrono = (dateTimes.length > 0 && dateTimes[0] != null ? dateTimes[0].getChronology() : null);
+        LocalDateTimeArray array = new LocalDateTimeArray(dateTimes.length, chrono);
+        for (int i = 0; i < dateTimes.length; i++) {
+            array.set(i, dateTimes[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Obtains an array from local milliseconds from 1970-01-01T00:00:00.
+     * <p>
+     * The input array is copied.
+     *
+     * @param localMillis  the local millis, not null
+     * @param chronology  the chronology, null means ISO, the zone is ignored
+     * @return the array, not null
+     * @throws IllegalArgumentException if the input array is null
+     */
+    public static LocalDateTimeArray ofLocalMillis(long[] localMillis, Chronology chronology) {
+        if (localMillis == null) {
+            throw new IllegalArgumentException("Local millis must not be null");
+        }
+        LocalDateTimeArray array = new LocalDateTimeArray(localMillis.length, chronology);
+        System.arraycopy(localMillis, 0, array.iLocalMillis, 0, localMillis.length);
+        return array;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an array of ISO date-times, all set to 1970-01-01T00:00:00.
+     *
+     * @param size  the size of the array, zero or greater
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LocalDateTimeArray(int size) {
+        this(size, null);
+    }
+
+    /**
+     * Constructs an array of date-times, all set to 1970-01-01T00:00:00.
+     *
+     * @param size  the size of the array, zero or greater
+     * @param chronology  the chronology, null means ISO, the zone is ignored
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LocalDateTimeArray(int size, Chronology chronology) {
+        ColumnFields.checkSize(size);
+        iLocalMillis = new long[size];
+        iChronology = (chronology == null ? ISOChronology.getInstanceUTC() : chronology.withUTC());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of date-times in the array.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iLocalMillis.length;
+    }
+
+    /**
+     * Gets the chronology of the date-times, which is in UTC.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Gets the local milliseconds from 1970-01-01T00:00:00 of a date-time.
+     *
+     * @param index  the index
+     * @return the local millis
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getLocalMillis(int index) {
+        return iLocalMillis[index];
+    }
+
+    /**
+     * Sets a date-time using local milliseconds from 1970-01-01T00:00:00.
+     *
+     * @param index  the index
+     * @param localMillis  the local millis
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public void setLocalMillis(int index, long localMillis) {
+        iLocalMillis[index] = localMillis;
+    }
+
+    /**
+     * Gets a date-time.
+     *
+     * @param index  the index
+     * @return the date-time, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDateTime get(int index) {
+        return new LocalDateTime(iLocalMillis[index], iChronology);
+    }
+
+    /**
+     * Sets a date-time.
+     *
+     * @param index  the index
+     * @param dateTime  the date-time, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws IllegalArgumentException if the date-time is null or has a different chronology
+     */
+    public void set(int index, LocalDateTime dateTime) {
+        if (dateTime == null) {
+            throw new IllegalArgumentException("Date-time must not be null");
+        }
+        if (dateTime.getChronology().equals(iChronology) == false) {
+            throw new IllegalArgumentException("Date-time must have the chronology of the array: " + dateTime.getChronology());
+        }
+        iLocalMillis[index] = dateTime.getLocalMillis();
+    }
+
+    /**
+     * Gets a copy of the local millis.
+     *
+     * @return the local millis, not null
+     */
+    public long[] toLocalMillisArray() {
+        return iLocalMillis.clone();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the year of each date-time.
+     *
+     * @return the years, not null
+     */
+    public int[] getYears() {
+        return get(DateTimeFieldType.year());
+    }
+
+    /**
+     * Gets the month of year of each date-time.
+     *
+     * @return the months, not null
+     */
+    public int[] getMonthsOfYear() {
+        return get(DateTimeFieldType.monthOfYear());
+    }
+
+    /**
+     * Gets the day of month of each date-time.
+     *
+     * @return the days, not null
+     */
+    public int[] getDaysOfMonth() {
+        return get(DateTimeFieldType.dayOfMonth());
+    }
+
+    /**
+     * Gets the day of week of each date-time.
+     *
+     * @return the days of week, from 1 (Monday) to 7 (Sunday) in ISO, not null
+     */
+    public int[] getDaysOfWeek() {
+        return get(DateTimeFieldType.dayOfWeek());
+    }
+
+    /**
+     * Gets the hour of day of each date-time.
+     *
+     * @return the hours, not null
+     */
+    public int[] getHoursOfDay() {
+        return get(DateTimeFieldType.hourOfDay());
+    }
+
+    /**
+     * Gets the value of a field for each date-time.
+     *
+     * @param fieldType  the field type, not null
+     * @return the values, not null
+     * @throws IllegalArgumentException if the field type is null or not supported
+     */
+    public int[] get(DateTimeFieldType fieldType) {
+        Chronology chrono = iChronology;
+        boolean supported = (fieldType != null && fieldType.getField(chrono).isSupported());
+        DateTimeField field = ColumnFields.field(fieldType, supported, chrono);
+        int fastPath = ColumnFields.fastPath(chrono, fieldType);
+        long[] localMillis = iLocalMillis;
+        int[] result = new int[localMillis.length];
+        for (int i = 0; i < localMillis.length; i++) {
+            result[i] = ColumnFields.get(fastPath, chrono, field, localMillis[i]);
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares two date-times in the array.
+     *
+     * @param index1  the index of the first date-time
+     * @param index2  the index of the second date-time
+     * @return negative if the first is earlier, positive if later, zero if equal
+     * @throws IndexOutOfBoundsException if either index is invalid
+     */
+    public int compare(int index1, int index2) {
+        long millis1 = iLocalMillis[index1];
+        long millis2 = iLocalMillis[index2];
+        return (millis1 < millis2 ? -1 : (millis1 == millis2 ? 0 : 1));
+    }
+
+    /**
+     * Sorts the date-times into ascending order.
+     */
+    public void sort() {
+        Arrays.sort(iLocalMillis);
+    }
+
+    /**
+     * Searches the array, which must be sorted, for a date-time.
+     *
+     * @param dateTime  the date-time to find, not null
+     * @return the index of the date-time if found, otherwise {@code (-(insertion point) - 1)}
+     * @throws IllegalArgumentException if the date-time is null or has a different chronology
+     */
+    public int binarySearch(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            throw new IllegalArgumentException("Date-time must not be null");
+        }
+        if (dateTime.getChronology().equals(iChronology) == false) {
+            throw new IllegalArgumentException("Date-time must have the chronology of the array: " + dateTime.getChronology());
+        }
+        return Arrays.binarySearch(iLocalMillis, dateTime.getLocalMillis());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints each date-time using the specified formatter.
+     * <p>
+     * The formatter is used with the chronology of the array and the UTC zone.
+     *
+     * @param formatter  the formatter, null means ISO local date-time format
+     * @return the printed date-times, not null
+     */
+    public String[] print(DateTimeFormatter formatter) {
+        return ColumnFields.print(formatter(formatter), iLocalMillis);
+    }
+
+    /**
+     * Prints each date-time to an appendable using the specified formatter.
+     * <p>
+     * The formatter is used with the chronology of the array and the UTC zone.
+     *
+     * @param appendable  the destination, not null
+     * @param formatter  the formatter, null means ISO local date-time format
+     * @param separator  the separator to write between date-times, not null
+     * @throws IOException if an IO error occurs
+     */
+    public void printTo(Appendable appendable, DateTimeFormatter formatter, String separator) throws IOException {
+        ColumnFields.printTo(appendable, formatter(formatter), iLocalMillis, separator);
+    }
+
+    private DateTimeFormatter formatter(DateTimeFormatter formatter) {
+        DateTimeFormatter f = (formatter == null ? ISODateTimeFormat.dateHourMinuteSecondFraction() : formatter);
+        return f.withChronology(iChronology).withZoneUTC();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this array with another, checking the date-times and chronology.
+     *
+     * @param obj  the object to compare to
+     * @return true if equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LocalDateTimeArray == false) {
+            return false;
+        }
+        LocalDateTimeArray other = (LocalDateTimeArray) obj;
+        return iChronology.equals(other.iChronology) && Arrays.equals(iLocalMillis, other.iLocalMillis);
+    }
+
+    /**
+     * Gets a hash code for the array.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(iLocalMillis) ^ iChronology.hashCode();
+    }
+
+    /**
+     * Outputs the array as a string, such as {@code [2025-01-01T00:00:00.000]}.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(print(null));
+    }
+
+}
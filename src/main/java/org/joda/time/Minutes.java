@@ -107,7 +107,7 @@ public final class Minutes extends BaseSingleFieldPeriod {
      * between the two specified partial datetimes.
      * <p>
      * The two partials must contain the same fields, for example you can specify
-     * two <code>LocalTime</code> objects.
+     * two <code>LocalTime</code> or two <code>LocalDateTime</code> objects.
      *
      * @param start  the start partial date, must not be null
      * @param end  the end partial date, must not be null
@@ -121,6 +121,12 @@ public final class Minutes extends BaseSingleFieldPeriod {
                     ((LocalTime) end).getLocalMillis(), ((LocalTime) start).getLocalMillis());
             return Minutes.minutes(minutes);
         }
+        if (start instanceof LocalDateTime && end instanceof LocalDateTime)   {
+            Chronology chrono = DateTimeUtils.getChronology(start.getChronology());
+            int minutes = chrono.minutes().getDifference(
+                    ((LocalDateTime) end).getLocalMillis(), ((LocalDateTime) start).getLocalMillis());
+            return Minutes.minutes(minutes);
+        }
         int amount = BaseSingleFieldPeriod.between(start, end, ZERO);
         return Minutes.minutes(amount);
     }
@@ -728,6 +728,143 @@ public class MutablePeriod
         add(new Period(duration, getPeriodType(), chrono));
     }
 
+    /**
+     * Subtracts a period from this one by subtracting each field in turn.
+     * <p>
+     * This is the mutable equivalent of {@link Period#minus(ReadablePeriod)}.
+     * The fields are updated in place, without allocating an intermediate period.
+     * 
+     * @param period  the period to subtract, null means subtract nothing
+     * @throws IllegalArgumentException if the period being subtracted contains a field
+     * not supported by this period
+     * @throws ArithmeticException if the subtraction exceeds the capacity of the period
+     * @since 2.15
+     */
+    public void subtract(ReadablePeriod period) {
+        super.subtractPeriod(period);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Multiplies each field in this period by the specified scalar.
+     * <p>
+     * This is the mutable equivalent of {@link Period#multipliedBy(int)}.
+     * If the multiplication overflows, an exception is thrown and this
+     * period is left unaltered.
+     * 
+     * @param scalar  the scalar to multiply by, 1 has no effect
+     * @throws ArithmeticException if the capacity of any field is exceeded
+     * @since 2.15
+     */
+    public void multiply(int scalar) {
+        if (scalar == 1) {
+            return;
+        }
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            FieldUtils.safeMultiply(getValue(i), scalar);
+        }
+        for (int i = 0; i < size; i++) {
+            super.setValue(i, getValue(i) * scalar);
+        }
+    }
+
+    /**
+     * Negates each field in this period.
+     * <p>
+     * This is the mutable equivalent of {@link Period#negated()}.
+     * 
+     * @throws ArithmeticException if any field has the minimum value
+     * @since 2.15
+     */
+    public void negate() {
+        multiply(-1);
+    }
+
+    /**
+     * Normalizes this period in place using standard rules, assuming a 12 month year,
+     * 7 day week, 24 hour day, 60 minute hour and 60 second minute.
+     * <p>
+     * This is the mutable equivalent of {@link Period#normalizedStandard(PeriodType)}
+     * using the period type of this period. The result is identical, but is
+     * calculated without creating any intermediate periods.
+     * If an exception is thrown, this period is left unaltered.
+     * 
+     * @throws ArithmeticException if any field is too large to be represented
+     * @since 2.15
+     */
+    public void normalizeStandard() {
+        PeriodType type = getPeriodType();
+        long millis = getMillis();  // no overflow can happen, even with Integer.MAX_VALUEs
+        millis += (((long) getSeconds()) * ((long) DateTimeConstants.MILLIS_PER_SECOND));
+        millis += (((long) getMinutes()) * ((long) DateTimeConstants.MILLIS_PER_MINUTE));
+        millis += (((long) getHours()) * ((long) DateTimeConstants.MILLIS_PER_HOUR));
+        millis += (((long) getDays()) * ((long) DateTimeConstants.MILLIS_PER_DAY));
+        millis += (((long) getWeeks()) * ((long) DateTimeConstants.MILLIS_PER_WEEK));
+        
+        // months can only be non-zero if supported by the type, so only years need checking
+        int normalizedYears = 0;
+        long totalMonths = getYears() * 12L + getMonths();
+        if (totalMonths != 0 && type.isSupported(DurationFieldType.YEARS_TYPE)) {
+            normalizedYears = FieldUtils.safeToInt(totalMonths / 12);
+            totalMonths = totalMonths - (normalizedYears * 12L);
+        }
+        int normalizedMonths = (int) totalMonths;
+        
+        // validate the precise fields, as per splitting the millis using ISO UTC
+        int size = size();
+        long remainder = millis;
+        for (int i = 0; i < size; i++) {
+            long unitMillis = standardUnitMillis(type.getFieldType(i));
+            if (unitMillis > 0) {
+                long value = remainder / unitMillis;
+                FieldUtils.safeToInt(value);
+                remainder -= value * unitMillis;
+            }
+        }
+        
+        // update
+        remainder = millis;
+        for (int i = 0; i < size; i++) {
+            DurationFieldType fieldType = type.getFieldType(i);
+            long unitMillis = standardUnitMillis(fieldType);
+            if (unitMillis > 0) {
+                long value = remainder / unitMillis;
+                remainder -= value * unitMillis;
+                super.setValue(i, (int) value);
+            } else if (fieldType == DurationFieldType.YEARS_TYPE) {
+                super.setValue(i, normalizedYears);
+            } else if (fieldType == DurationFieldType.MONTHS_TYPE) {
+                super.setValue(i, normalizedMonths);
+            } else {
+                super.setValue(i, 0);
+            }
+        }
+    }
+
+    /**
+     * Gets the standard length of a field type, zero if imprecise.
+     * 
+     * @param type  the field type
+     * @return the standard length in millis, zero if the field is not precise in ISO UTC
+     */
+    private static long standardUnitMillis(DurationFieldType type) {
+        if (type == DurationFieldType.WEEKS_TYPE) {
+            return DateTimeConstants.MILLIS_PER_WEEK;
+        } else if (type == DurationFieldType.DAYS_TYPE) {
+            return DateTimeConstants.MILLIS_PER_DAY;
+        } else if (type == DurationFieldType.HOURS_TYPE) {
+            return DateTimeConstants.MILLIS_PER_HOUR;
+        } else if (type == DurationFieldType.MINUTES_TYPE) {
+            return DateTimeConstants.MILLIS_PER_MINUTE;
+        } else if (type == DurationFieldType.SECONDS_TYPE) {
+            return DateTimeConstants.MILLIS_PER_SECOND;
+        } else if (type == DurationFieldType.MILLIS_TYPE) {
+            return 1;
+        }
+        return 0;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Merges all the fields from the specified period into this one.
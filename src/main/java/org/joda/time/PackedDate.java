@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+/**
+ * The ISO calendar arithmetic used by {@link LocalDate}, and the packed form of
+ * the year, month and day that it caches.
+ * <p>
+ * PackedDate is thread-safe and immutable.
+ *
+ * @since 2.15
+ */
+final class PackedDate {
+
+    /** The limit of the year that can be packed, exclusive. */
+    static final int PACKED_YEAR_LIMIT = 1 << 22;
+
+    /**
+     * Restricted constructor.
+     */
+    private PackedDate() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the epoch-day from the proleptic ISO year, month and day.
+     * <p>
+     * The values are not validated.
+     *
+     * @param year  the proleptic year
+     * @param month  the month of year, from 1 to 12
+     * @param day  the day of month, from 1 to 31
+     * @return the number of days since 1970-01-01
+     */
+    static long epochDay(long year, int month, int day) {
+        long y = (month <= 2 ? year - 1 : year);
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Calculates the packed ISO year, month and day from the epoch-day.
+     * <p>
+     * The fields are packed as described by {@link #pack(int, int, int)}.
+     *
+     * @param epochDay  the number of days since 1970-01-01
+     * @return the packed fields, zero if the year is outside the packed year limit
+     */
+    static int yearMonthDay(long epochDay) {
+        long z = epochDay + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (int) ((5 * dayOfYear + 2) / 153);
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year <= -PACKED_YEAR_LIMIT || year >= PACKED_YEAR_LIMIT) {
+            return 0;
+        }
+        return pack((int) year, month, day);
+    }
+
+    /**
+     * Packs a year, month and day into an int that is never zero.
+     * <p>
+     * The year is held in the top 23 bits, the month in the next four and the day in the last five.
+     *
+     * @param year  the year, within the packed year limit
+     * @param month  the month, from 1 to 15
+     * @param day  the day, from 1 to 31
+     * @return the packed fields
+     */
+    static int pack(int year, int month, int day) {
+        return (year << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Gets the length of an ISO month.
+     *
+     * @param year  the proleptic year
+     * @param month  the month of year, from 1 to 12
+     * @return the number of days in the month
+     */
+    static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28);
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31);
+    }
+
+}
@@ -739,6 +739,14 @@ public final class Period
         super(values, type);
     }
 
+    /**
+     * Replaces this object with the compact serialization proxy if enabled.
+     * @return the object to serialize, not null
+     */
+    private Object writeReplace() {
+        return Ser.replace(BinaryCodec.TAG_PERIOD, this, null);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Get this period as an immutable <code>Period</code> object
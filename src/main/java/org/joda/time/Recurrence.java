@@ -0,0 +1,441 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.NoSuchElementException;
+
+import org.joda.time.field.FieldUtils;
+
+/**
+ * Recurrence is an immutable rule generating a series of instants that share
+ * the same local time in a time zone, such as every second Tuesday at 09:00 in London.
+ * <p>
+ * Occurrence {@code n} is obtained by adding the period {@code n} times to the
+ * local start date-time, and then converting the result to an instant in the zone.
+ * Adding from the start, rather than from the previous occurrence, means that
+ * a monthly recurrence starting on the 31st returns to the 31st in months that have one.
+ * <p>
+ * The arithmetic is performed on local millis in the UTC chronology, so no zone
+ * conversion occurs during field arithmetic. Where the period only contains precise
+ * fields, such as weeks, days and hours, each occurrence is a simple multiple of the step.
+ * The local millis are then converted to instants in a single forward pass,
+ * reusing the offset of the previous occurrence until the next zone transition
+ * is approached, so the zone is only queried close to transitions.
+ * <p>
+ * A local time that falls in a daylight savings gap resolves to the instant at the end of the gap,
+ * so the occurrences never go backwards, although several may share the same instant.
+ * A local time that falls in an overlap uses the earlier offset, as per
+ * {@link DateTimeZone#getOffsetFromLocal(long)}.
+ * <p>
+ * Recurrence is thread-safe and immutable.
+ *
+ * @since 2.15
+ */
+public final class Recurrence {
+
+    /** The distance from a transition beyond which the offset is unambiguous. */
+    private static final long MARGIN = 2L * DateTimeConstants.MILLIS_PER_DAY;
+
+    /** The local millis of the first occurrence. */
+    private final long iStartLocal;
+    /** The period between occurrences. */
+    private final Period iPeriod;
+    /** The chronology in UTC. */
+    private final Chronology iChronology;
+    /** The time zone. */
+    private final DateTimeZone iZone;
+    /** The step in millis if the period is precise, zero otherwise. */
+    private final long iStepMillis;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a recurrence starting at a local date-time and repeating at the period.
+     * <p>
+     * The period must not be negative and must have at least one non-zero field.
+     *
+     * @param start  the first local date-time, not null
+     * @param period  the period between occurrences, not null
+     * @param zone  the time zone, null means default zone
+     * @return the recurrence, not null
+     * @throws IllegalArgumentException if the start or period is null or the period is invalid
+     */
+    public static Recurrence of(LocalDateTime start, ReadablePeriod period, DateTimeZone zone) {
+        if (start == null) {
+            throw new IllegalArgumentException("Start must not be null");
+        }
+        if (period == null) {
+            throw new IllegalArgumentException("Period must not be null");
+        }
+        return new Recurrence(start.getLocalMillis(), period.toPeriod(),
+                start.getChronology().withUTC(), DateTimeUtils.getZone(zone));
+    }
+
+    /**
+     * Restricted constructor.
+     */
+    private Recurrence(long startLocal, Period period, Chronology chrono, DateTimeZone zone) {
+        boolean positive = false;
+        long step = 0;
+        for (int i = 0, isize = period.size(); i < isize; i++) {
+            int value = period.getValue(i);
+            if (value < 0) {
+                throw new IllegalArgumentException("Period must not be negative: " + period);
+            }
+            if (value > 0) {
+                positive = true;
+                DurationField field = period.getFieldType(i).getField(chrono);
+                if (step >= 0 && field.isPrecise()) {
+                    step = FieldUtils.safeAdd(step, FieldUtils.safeMultiply(field.getUnitMillis(), value));
+                } else {
+                    step = -1;
+                }
+            }
+        }
+        if (positive == false) {
+            throw new IllegalArgumentException("Period must not be zero: " + period);
+        }
+        iStartLocal = startLocal;
+        iPeriod = period;
+        iChronology = chrono;
+        iZone = zone;
+        iStepMillis = (step > 0 ? step : 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the first local date-time.
+     *
+     * @return the start, not null
+     */
+    public LocalDateTime getStart() {
+        return new LocalDateTime(iStartLocal, iChronology);
+    }
+
+    /**
+     * Gets the period between occurrences.
+     *
+     * @return the period, not null
+     */
+    public Period getPeriod() {
+        return iPeriod;
+    }
+
+    /**
+     * Gets the time zone.
+     *
+     * @return the zone, not null
+     */
+    public DateTimeZone getZone() {
+        return iZone;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the instant of the occurrence at the specified index.
+     *
+     * @param index  the zero-based index of the occurrence, zero or greater
+     * @return the millisecond instant
+     * @throws IndexOutOfBoundsException if the index is negative
+     * @throws ArithmeticException if the occurrence is outside the supported range
+     */
+    public long getMillis(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return toUTC(iZone, localMillis(index));
+    }
+
+    /**
+     * Gets the occurrence at the specified index as a date-time.
+     *
+     * @param index  the zero-based index of the occurrence, zero or greater
+     * @return the date-time, not null
+     * @throws IndexOutOfBoundsException if the index is negative
+     * @throws ArithmeticException if the occurrence is outside the supported range
+     */
+    public DateTime getDateTime(int index) {
+        return new DateTime(getMillis(index), iChronology.withZone(iZone));
+    }
+
+    /**
+     * Gets the instants of the first occurrences.
+     *
+     * @param count  the number of occurrences, zero or greater
+     * @return the millisecond instants in ascending order, equal within a gap, not null
+     * @throws IllegalArgumentException if the count is negative
+     * @throws ArithmeticException if an occurrence is outside the supported range
+     */
+    public long[] toMillisArray(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        long[] result = new long[count];
+        Resolver resolver = new Resolver(iZone);
+        for (int i = 0; i < count; i++) {
+            result[i] = resolver.resolve(localMillis(i));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the instants of all occurrences before the specified end.
+     *
+     * @param end  the end instant, exclusive, null means now
+     * @return the millisecond instants in ascending order, equal within a gap, not null
+     * @throws ArithmeticException if an occurrence is outside the supported range
+     */
+    public long[] toMillisArray(ReadableInstant end) {
+        long endMillis = DateTimeUtils.getInstantMillis(end);
+        long[] result = new long[initialCapacity(endMillis)];
+        int size = 0;
+        Resolver resolver = new Resolver(iZone);
+        for (int i = 0; ; i++) {
+            long millis = resolver.resolve(localMillis(i));
+            if (millis >= endMillis) {
+                break;
+            }
+            if (size == result.length) {
+                long[] grown = new long[size + (size >> 1) + 8];
+                System.arraycopy(result, 0, grown, 0, size);
+                result = grown;
+            }
+            result[size++] = millis;
+        }
+        if (size == result.length) {
+            return result;
+        }
+        long[] trimmed = new long[size];
+        System.arraycopy(result, 0, trimmed, 0, size);
+        return trimmed;
+    }
+
+    /**
+     * Gets a cursor over the occurrences before the specified end.
+     * <p>
+     * The cursor computes each occurrence as it is requested, avoiding
+     * the need to hold the whole series in memory.
+     *
+     * @param end  the end instant, exclusive, null means now
+     * @return the cursor, not null
+     */
+    public Cursor cursor(ReadableInstant end) {
+        return new Cursor(this, DateTimeUtils.getInstantMillis(end));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the local millis of the occurrence at the specified index.
+     *
+     * @param index  the index, zero or greater
+     * @return the local millis
+     */
+    private long localMillis(int index) {
+        if (iStepMillis > 0) {
+            return FieldUtils.safeAdd(iStartLocal, FieldUtils.safeMultiply(iStepMillis, index));
+        }
+        return iChronology.add(iPeriod, iStartLocal, index);
+    }
+
+    /**
+     * Converts local millis to an instant, using the earlier offset in an overlap
+     * and the end of the gap in a gap.
+     *
+     * @param zone  the zone, not null
+     * @param localMillis  the local millis
+     * @return the millisecond instant
+     */
+    private static long toUTC(DateTimeZone zone, long localMillis) {
+        int offset = zone.getOffsetFromLocal(localMillis);
+        long instant = localMillis - offset;
+        if ((localMillis ^ instant) < 0 && (localMillis ^ offset) < 0) {
+            throw new ArithmeticException("Subtracting time zone offset caused overflow");
+        }
+        int actual = zone.getOffset(instant);
+        if (actual != offset) {
+            // in a gap, the local millis are before the transition at the later offset
+            return zone.nextTransition(localMillis - actual);
+        }
+        return instant;
+    }
+
+    /**
+     * Estimates the number of occurrences before the end.
+     *
+     * @param endMillis  the end instant
+     * @return the estimated size
+     */
+    private int initialCapacity(long endMillis) {
+        long span = endMillis - (iStartLocal - iZone.getOffset(iStartLocal));
+        if (span <= 0 || iStepMillis == 0) {
+            return 16;
+        }
+        return (int) Math.min(span / iStepMillis + 2, 1 << 20);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this recurrence with another.
+     *
+     * @param obj  the object to compare to
+     * @return true if equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof Recurrence == false) {
+            return false;
+        }
+        Recurrence other = (Recurrence) obj;
+        return iStartLocal == other.iStartLocal &&
+                iPeriod.equals(other.iPeriod) &&
+                iChronology.equals(other.iChronology) &&
+                iZone.equals(other.iZone);
+    }
+
+    /**
+     * Gets a hash code for the recurrence.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return (int) (iStartLocal ^ (iStartLocal >>> 32)) ^ iPeriod.hashCode() * 31 ^ iZone.hashCode() * 17;
+    }
+
+    /**
+     * Outputs the recurrence as a string, such as {@code 2025-01-07T09:00:00.000/P2W[Europe/London]}.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return getStart() + "/" + iPeriod + "[" + iZone + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A cursor over the occurrences of a recurrence.
+     * <p>
+     * The cursor is initially positioned before the first occurrence.
+     * Calling {@link #next()} moves to the next occurrence.
+     * <p>
+     * Cursor is mutable and not thread-safe.
+     */
+    public static final class Cursor {
+        /** The recurrence. */
+        private final Recurrence iRecurrence;
+        /** The end instant, exclusive. */
+        private final long iEndMillis;
+        /** The zone resolver. */
+        private final Resolver iResolver;
+        /** The index of the next occurrence. */
+        private int iIndex;
+        /** The current instant. */
+        private long iMillis;
+        /** The state, 0 before the first, 1 on an occurrence, 2 at the end. */
+        private int iState;
+
+        Cursor(Recurrence recurrence, long endMillis) {
+            iRecurrence = recurrence;
+            iEndMillis = endMillis;
+            iResolver = new Resolver(recurrence.iZone);
+        }
+
+        /**
+         * Moves to the next occurrence.
+         *
+         * @return true if there is an occurrence, false if the end has been reached
+         */
+        public boolean next() {
+            if (iState == 2) {
+                return false;
+            }
+            long millis = iResolver.resolve(iRecurrence.localMillis(iIndex));
+            if (millis >= iEndMillis) {
+                iState = 2;
+                return false;
+            }
+            iIndex++;
+            iMillis = millis;
+            iState = 1;
+            return true;
+        }
+
+        /**
+         * Gets the instant of the current occurrence.
+         *
+         * @return the millisecond instant
+         * @throws NoSuchElementException if not positioned on an occurrence
+         */
+        public long getMillis() {
+            if (iState != 1) {
+                throw new NoSuchElementException("Cursor is not positioned on an occurrence");
+            }
+            return iMillis;
+        }
+
+        /**
+         * Gets the current occurrence as a date-time.
+         *
+         * @return the date-time, not null
+         * @throws NoSuchElementException if not positioned on an occurrence
+         */
+        public DateTime toDateTime() {
+            return new DateTime(getMillis(), iRecurrence.iChronology.withZone(iRecurrence.iZone));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts ascending local millis to instants, caching the offset between transitions.
+     */
+    private static final class Resolver {
+        /** The zone. */
+        private final DateTimeZone iZone;
+        /** The cached offset. */
+        private int iOffset;
+        /** The first local millis that can use the cached offset. */
+        private long iSafeFrom = Long.MAX_VALUE;
+        /** The local millis, exclusive, up to which the cached offset can be used. */
+        private long iSafeTo = Long.MIN_VALUE;
+
+        Resolver(DateTimeZone zone) {
+            iZone = zone;
+            if (zone.isFixed()) {
+                iOffset = zone.getOffset(0L);
+                iSafeFrom = Long.MIN_VALUE + MARGIN;
+                iSafeTo = Long.MAX_VALUE - MARGIN;
+            }
+        }
+
+        long resolve(long localMillis) {
+            if (localMillis >= iSafeFrom && localMillis < iSafeTo) {
+                return localMillis - iOffset;
+            }
+            long instant = toUTC(iZone, localMillis);
+            int offset = iZone.getOffset(instant);
+            long previous = iZone.previousTransition(instant);
+            long next = iZone.nextTransition(instant);
+            iOffset = offset;
+            iSafeFrom = (previous == instant ? Long.MIN_VALUE : previous + offset) + MARGIN;
+            iSafeTo = (next == instant ? Long.MAX_VALUE : next + offset) - MARGIN;
+            return instant;
+        }
+    }
+
+}
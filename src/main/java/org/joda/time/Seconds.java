@@ -107,7 +107,7 @@ public final class Seconds extends BaseSingleFieldPeriod {
      * between the two specified partial datetimes.
      * <p>
      * The two partials must contain the same fields, for example you can specify
-     * two <code>LocalTime</code> objects.
+     * two <code>LocalTime</code> or two <code>LocalDateTime</code> objects.
      *
      * @param start  the start partial date, must not be null
      * @param end  the end partial date, must not be null
@@ -121,6 +121,12 @@ public final class Seconds extends BaseSingleFieldPeriod {
                     ((LocalTime) end).getLocalMillis(), ((LocalTime) start).getLocalMillis());
             return Seconds.seconds(seconds);
         }
+        if (start instanceof LocalDateTime && end instanceof LocalDateTime)   {
+            Chronology chrono = DateTimeUtils.getChronology(start.getChronology());
+            int seconds = chrono.seconds().getDifference(
+                    ((LocalDateTime) end).getLocalMillis(), ((LocalDateTime) start).getLocalMillis());
+            return Seconds.seconds(seconds);
+        }
         int amount = BaseSingleFieldPeriod.between(start, end, ZERO);
         return Seconds.seconds(amount);
     }
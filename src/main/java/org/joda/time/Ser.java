@@ -0,0 +1,362 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.joda.time.chrono.GJChronology;
+
+/**
+ * The compact serialization proxy for the main immutable value types.
+ * <p>
+ * By default, the value types are serialized using their standard serialized form,
+ * which includes the full object graph of the chronology. When the system property
+ * {@code org.joda.time.CompactSerialization} is set to {@code true}, the value types
+ * are instead replaced by this proxy, which writes the millisecond instant and a one
+ * byte chronology code, followed by the zone ID if the zone is not UTC.
+ * <p>
+ * The proxy format starts with a version byte. Streams written by the proxy can
+ * only be read by Joda-Time 2.15 or later, whereas the standard serialized form
+ * can always be read, whatever the setting of the system property.
+ * <p>
+ * When reading, the chronology is resolved using lock-free arrays indexed by the
+ * chronology code and a hash of the zone ID, avoiding the zone provider and the
+ * chronology caches on the common path.
+ * <p>
+ * The chronology code holds the chronology type in bits 0 to 2, the minimum days
+ * in the first week or Islamic leap year pattern in bits 3 to 5, and a flag in bit 6
+ * indicating that the zone ID follows. GJ chronologies also write the cutover.
+ * Values using other chronologies or period types use the standard serialized form.
+ *
+ * @since 2.15
+ */
+final class Ser implements Externalizable {
+
+    /** Serialization version. */
+    private static final long serialVersionUID = 1L;
+    /** The version of the proxy format. */
+    private static final int VERSION = 1;
+    /** The flag in the chronology code indicating that a zone ID follows. */
+    private static final int ZONE_FLAG = 0x40;
+    /** The number of zone entries to cache, must be a power of two. */
+    private static final int ZONE_CACHE_SIZE = 512;
+    /** The chronologies in UTC, indexed by chronology code. */
+    private static final AtomicReferenceArray<Chronology> cUTCChronologies = new AtomicReferenceArray<Chronology>(ZONE_FLAG);
+    /** The zone entries, indexed by a hash of the zone ID. */
+    private static final AtomicReferenceArray<ZoneEntry> cZones = new AtomicReferenceArray<ZoneEntry>(ZONE_CACHE_SIZE);
+    /** Whether the proxy is enabled. */
+    private static final boolean ENABLED = isEnabledByProperty();
+
+    /** The type, using the tags of BinaryCodec. */
+    private int iType;
+    /** The object being serialized or deserialized. */
+    private Object iObject;
+
+    /**
+     * Checks the system property.
+     *
+     * @return true if enabled
+     */
+    private static boolean isEnabledByProperty() {
+        try {
+            return "true".equals(System.getProperty("org.joda.time.CompactSerialization"));
+        } catch (SecurityException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the object to serialize in place of the specified value.
+     *
+     * @param type  the type, using the tags of BinaryCodec
+     * @param value  the value being serialized, not null
+     * @param chrono  the chronology of the value, null if none
+     * @return the proxy if enabled and supported, otherwise the value
+     */
+    static Object replace(int type, Object value, Chronology chrono) {
+        return replace(ENABLED, type, value, chrono);
+    }
+
+    /**
+     * Gets the object to serialize in place of the specified value.
+     *
+     * @param enabled  whether the proxy is enabled
+     * @param type  the type, using the tags of BinaryCodec
+     * @param value  the value being serialized, not null
+     * @param chrono  the chronology of the value, null if none
+     * @return the proxy if enabled and supported, otherwise the value
+     */
+    static Object replace(boolean enabled, int type, Object value, Chronology chrono) {
+        if (enabled == false) {
+            return value;
+        }
+        if (chrono != null && BinaryCodec.chronologyType(chrono) < 0) {
+            return value;
+        }
+        if (type == BinaryCodec.TAG_PERIOD && BinaryCodec.periodMask(((Period) value).getPeriodType()) < 0) {
+            return value;
+        }
+        return new Ser(type, value);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor for deserialization.
+     */
+    public Ser() {
+    }
+
+    /**
+     * Constructor for serialization.
+     *
+     * @param type  the type, using the tags of BinaryCodec
+     * @param object  the object being serialized, not null
+     */
+    Ser(int type, Object object) {
+        iType = type;
+        iObject = object;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the proxy.
+     *
+     * @param out  the output, not null
+     * @throws IOException if an IO error occurs
+     */
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeByte(iType);
+        switch (iType) {
+            case BinaryCodec.TAG_DATE_TIME: {
+                DateTime dt = (DateTime) iObject;
+                out.writeLong(dt.getMillis());
+                writeChronology(out, dt.getChronology());
+                break;
+            }
+            case BinaryCodec.TAG_INSTANT:
+                out.writeLong(((Instant) iObject).getMillis());
+                break;
+            case BinaryCodec.TAG_LOCAL_DATE: {
+                LocalDate date = (LocalDate) iObject;
+                out.writeLong(date.getLocalMillis());
+                writeChronology(out, date.getChronology());
+                break;
+            }
+            case BinaryCodec.TAG_LOCAL_DATE_TIME: {
+                LocalDateTime ldt = (LocalDateTime) iObject;
+                out.writeLong(ldt.getLocalMillis());
+                writeChronology(out, ldt.getChronology());
+                break;
+            }
+            case BinaryCodec.TAG_INTERVAL: {
+                Interval interval = (Interval) iObject;
+                out.writeLong(interval.getStartMillis());
+                out.writeLong(interval.getEndMillis());
+                writeChronology(out, interval.getChronology());
+                break;
+            }
+            case BinaryCodec.TAG_DURATION:
+                out.writeLong(((Duration) iObject).getMillis());
+                break;
+            case BinaryCodec.TAG_PERIOD: {
+                Period period = (Period) iObject;
+                int mask = BinaryCodec.periodMask(period.getPeriodType());
+                out.writeByte(mask);
+                for (int i = 0; i < 8; i++) {
+                    if ((mask & (1 << i)) != 0) {
+                        out.writeInt(BinaryCodec.periodValue(period, i));
+                    }
+                }
+                break;
+            }
+            default:
+                throw new InvalidObjectException("Unknown serialized type: " + iType);
+        }
+    }
+
+    /**
+     * Writes the chronology code, and the zone ID and cutover if necessary.
+     *
+     * @param out  the output, not null
+     * @param chrono  the chronology, not null
+     * @throws IOException if an IO error occurs
+     */
+    private static void writeChronology(ObjectOutput out, Chronology chrono) throws IOException {
+        int type = BinaryCodec.chronologyType(chrono);
+        int code = type | (BinaryCodec.chronologyParameter(type, chrono) << 3);
+        DateTimeZone zone = chrono.getZone();
+        if (zone == DateTimeZone.UTC) {
+            out.writeByte(code);
+        } else {
+            out.writeByte(code | ZONE_FLAG);
+            out.writeUTF(zone.getID());
+        }
+        if (type == BinaryCodec.CHRONO_GJ) {
+            out.writeLong(((GJChronology) chrono).getGregorianCutover().getMillis());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the proxy.
+     *
+     * @param in  the input, not null
+     * @throws IOException if an IO error occurs
+     */
+    public void readExternal(ObjectInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new InvalidObjectException("Unsupported serialization version: " + version);
+        }
+        iType = in.readUnsignedByte();
+        try {
+            switch (iType) {
+                case BinaryCodec.TAG_DATE_TIME: {
+                    long millis = in.readLong();
+                    iObject = new DateTime(millis, readChronology(in));
+                    break;
+                }
+                case BinaryCodec.TAG_INSTANT:
+                    iObject = new Instant(in.readLong());
+                    break;
+                case BinaryCodec.TAG_LOCAL_DATE: {
+                    long millis = in.readLong();
+                    iObject = new LocalDate(millis, readChronology(in).withUTC());
+                    break;
+                }
+                case BinaryCodec.TAG_LOCAL_DATE_TIME: {
+                    long millis = in.readLong();
+                    iObject = new LocalDateTime(millis, readChronology(in).withUTC());
+                    break;
+                }
+                case BinaryCodec.TAG_INTERVAL: {
+                    long start = in.readLong();
+                    long end = in.readLong();
+                    iObject = new Interval(start, end, readChronology(in));
+                    break;
+                }
+                case BinaryCodec.TAG_DURATION:
+                    iObject = new Duration(in.readLong());
+                    break;
+                case BinaryCodec.TAG_PERIOD: {
+                    int mask = in.readUnsignedByte();
+                    PeriodType type = BinaryCodec.periodType(mask);
+                    int[] values = new int[8];
+                    for (int i = 0; i < 8; i++) {
+                        if ((mask & (1 << i)) != 0) {
+                            values[i] = in.readInt();
+                        }
+                    }
+                    iObject = new Period(values[0], values[1], values[2], values[3],
+                            values[4], values[5], values[6], values[7], type);
+                    break;
+                }
+                default:
+                    throw new InvalidObjectException("Unknown serialized type: " + iType);
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidObjectException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Reads the chronology.
+     *
+     * @param in  the input, not null
+     * @return the chronology, not null
+     * @throws IOException if an IO error occurs
+     */
+    private static Chronology readChronology(ObjectInput in) throws IOException {
+        int code = in.readUnsignedByte();
+        int type = code & 0x07;
+        int param = (code >> 3) & 0x07;
+        if ((code & ZONE_FLAG) == 0) {
+            if (type == BinaryCodec.CHRONO_GJ) {
+                return BinaryCodec.chronology(type, DateTimeZone.UTC, param, in.readLong());
+            }
+            Chronology chrono = cUTCChronologies.get(code);
+            if (chrono == null) {
+                chrono = BinaryCodec.chronology(type, DateTimeZone.UTC, param, 0L);
+                cUTCChronologies.set(code, chrono);
+            }
+            return chrono;
+        }
+        ZoneEntry entry = zoneEntry(in.readUTF());
+        if (type == BinaryCodec.CHRONO_GJ) {
+            return BinaryCodec.chronology(type, entry.iZone, param, in.readLong());
+        }
+        int index = code & ~ZONE_FLAG;
+        Chronology chrono = entry.iChronologies.get(index);
+        if (chrono == null) {
+            chrono = BinaryCodec.chronology(type, entry.iZone, param, 0L);
+            entry.iChronologies.set(index, chrono);
+        }
+        return chrono;
+    }
+
+    /**
+     * Gets the cached entry for a zone ID.
+     *
+     * @param id  the zone ID, not null
+     * @return the entry, not null
+     */
+    private static ZoneEntry zoneEntry(String id) {
+        int hash = id.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (ZONE_CACHE_SIZE - 1);
+        ZoneEntry entry = cZones.get(index);
+        if (entry == null || entry.iID.equals(id) == false) {
+            entry = new ZoneEntry(id, DateTimeZone.forID(id));
+            cZones.set(index, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the deserialized object.
+     *
+     * @return the object, not null
+     * @throws ObjectStreamException never
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return iObject;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A cached zone, together with the chronologies in that zone.
+     */
+    private static final class ZoneEntry {
+        /** The zone ID as serialized. */
+        final String iID;
+        /** The zone. */
+        final DateTimeZone iZone;
+        /** The chronologies in the zone, indexed by chronology code. */
+        final AtomicReferenceArray<Chronology> iChronologies = new AtomicReferenceArray<Chronology>(ZONE_FLAG);
+
+        ZoneEntry(String id, DateTimeZone zone) {
+            iID = id;
+            iZone = zone;
+        }
+    }
+
+}
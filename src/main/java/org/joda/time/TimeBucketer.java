@@ -0,0 +1,296 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Arrays;
+
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * TimeBucketer divides a range of the time-line into consecutive buckets,
+ * such as the hours or days of a month in a time zone, and maps instants to buckets.
+ * <p>
+ * The bucket boundaries are calculated once, when the bucketer is created,
+ * taking account of daylight savings in the time zone. Mapping an instant to
+ * a bucket is then a search of the boundaries, with no zone or field arithmetic.
+ * When a batch of instants is sorted, each instant is mapped by scanning forward
+ * from the bucket of the previous instant.
+ * <p>
+ * A bucket that would start at a local time that does not exist due to a daylight
+ * savings gap starts at the end of the gap instead, which may leave it empty.
+ * A bucket starting at a local time that occurs twice due to an overlap
+ * starts at the earlier occurrence, and thus includes both occurrences.
+ * <p>
+ * TimeBucketer is thread-safe and immutable.
+ *
+ * @since 2.15
+ */
+public final class TimeBucketer {
+
+    /** The field types that buckets may be aligned to, largest first. */
+    private static final DateTimeFieldType[] ALIGNMENT_FIELDS = {
+        DateTimeFieldType.year(),
+        DateTimeFieldType.monthOfYear(),
+        DateTimeFieldType.weekOfWeekyear(),
+        DateTimeFieldType.dayOfMonth(),
+        DateTimeFieldType.halfdayOfDay(),
+        DateTimeFieldType.hourOfDay(),
+        DateTimeFieldType.minuteOfHour(),
+        DateTimeFieldType.secondOfMinute(),
+    };
+
+    /** The boundaries, one more than the number of buckets. */
+    private final long[] iBoundaries;
+    /** The chronology used to create intervals. */
+    private final Chronology iChronology;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a bucketer that covers an interval with buckets of the specified period.
+     * <p>
+     * The first bucket starts at the start of the interval in the zone,
+     * rounded down to the smallest unit of the period. For example, a period of
+     * six hours and an interval starting at 09:30 results in buckets starting at
+     * 09:00, 15:00, 21:00 and so on. Buckets are added until the end of the interval
+     * is covered, thus the last bucket may extend beyond the interval.
+     *
+     * @param interval  the interval to cover, null means now
+     * @param period  the period of each bucket, not null
+     * @param zone  the time zone, null means default zone
+     * @return the bucketer, not null
+     * @throws IllegalArgumentException if the period is null or invalid
+     */
+    public static TimeBucketer of(ReadableInterval interval, ReadablePeriod period, DateTimeZone zone) {
+        if (period == null) {
+            throw new IllegalArgumentException("Period must not be null");
+        }
+        zone = DateTimeUtils.getZone(zone);
+        ReadableInterval range = DateTimeUtils.getReadableInterval(interval);
+        Chronology chrono = ISOChronology.getInstanceUTC();
+        long startLocal = zone.convertUTCToLocal(range.getStartMillis());
+        DurationFieldType unit = null;
+        for (int i = 0, isize = period.size(); i < isize; i++) {
+            if (period.getValue(i) != 0) {
+                unit = period.getFieldType(i);
+            }
+        }
+        for (DateTimeFieldType fieldType : ALIGNMENT_FIELDS) {
+            if (fieldType.getDurationType() == unit) {
+                startLocal = fieldType.getField(chrono).roundFloor(startLocal);
+                break;
+            }
+        }
+        Recurrence recurrence = Recurrence.of(new LocalDateTime(startLocal, chrono), period, zone);
+        return of(recurrence, new Instant(range.getEndMillis()));
+    }
+
+    /**
+     * Obtains a bucketer with boundaries at the occurrences of a recurrence.
+     * <p>
+     * Each bucket runs from one occurrence to the next.
+     * Buckets are added until the end is covered, thus the last bucket may extend beyond the end.
+     *
+     * @param recurrence  the recurrence defining the boundaries, not null
+     * @param end  the instant that must be covered up to, exclusive, null means now
+     * @return the bucketer, not null
+     * @throws IllegalArgumentException if the recurrence is null
+     */
+    public static TimeBucketer of(Recurrence recurrence, ReadableInstant end) {
+        if (recurrence == null) {
+            throw new IllegalArgumentException("Recurrence must not be null");
+        }
+        long[] starts = recurrence.toMillisArray(end);
+        long[] boundaries = new long[starts.length + 1];
+        System.arraycopy(starts, 0, boundaries, 0, starts.length);
+        boundaries[starts.length] = recurrence.getMillis(starts.length);
+        for (int i = 1; i < boundaries.length; i++) {
+            // buckets within a daylight savings gap become empty, keeping the boundaries sorted
+            boundaries[i] = Math.max(boundaries[i], boundaries[i - 1]);
+        }
+        Chronology chrono = recurrence.getStart().getChronology().withZone(recurrence.getZone());
+        return new TimeBucketer(boundaries, chrono);
+    }
+
+    /**
+     * Restricted constructor.
+     */
+    private TimeBucketer(long[] boundaries, Chronology chrono) {
+        iBoundaries = boundaries;
+        iChronology = chrono;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of buckets.
+     *
+     * @return the number of buckets
+     */
+    public int size() {
+        return iBoundaries.length - 1;
+    }
+
+    /**
+     * Gets the start of a bucket.
+     *
+     * @param index  the index of the bucket
+     * @return the start millisecond instant, inclusive
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getStartMillis(int index) {
+        checkIndex(index);
+        return iBoundaries[index];
+    }
+
+    /**
+     * Gets the end of a bucket.
+     *
+     * @param index  the index of the bucket
+     * @return the end millisecond instant, exclusive
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEndMillis(int index) {
+        checkIndex(index);
+        return iBoundaries[index + 1];
+    }
+
+    /**
+     * Gets a bucket as an interval in the time zone of the bucketer.
+     *
+     * @param index  the index of the bucket
+     * @return the interval, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval getBucket(int index) {
+        checkIndex(index);
+        return new Interval(iBoundaries[index], iBoundaries[index + 1], iChronology);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= iBoundaries.length - 1) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the index of the bucket containing an instant.
+     *
+     * @param instant  the millisecond instant
+     * @return the index of the bucket, -1 if not within any bucket
+     */
+    public int indexOf(long instant) {
+        long[] boundaries = iBoundaries;
+        if (instant < boundaries[0] || instant >= boundaries[boundaries.length - 1]) {
+            return -1;
+        }
+        return search(instant);
+    }
+
+    /**
+     * Gets the index of the bucket containing each instant.
+     * <p>
+     * The instants may be in any order, but sorted instants are processed most efficiently,
+     * as each instant is found by scanning forward from the previous bucket.
+     *
+     * @param instants  the millisecond instants, not null
+     * @param results  the array to store the bucket indices in, -1 if not within any bucket,
+     *  at least as long as the input, not null
+     * @throws IllegalArgumentException if either array is null or the results array is too short
+     */
+    public void indexOf(long[] instants, int[] results) {
+        if (instants == null || results == null) {
+            throw new IllegalArgumentException("Arrays must not be null");
+        }
+        if (results.length < instants.length) {
+            throw new IllegalArgumentException("Results array must be at least as long as the instants array");
+        }
+        long[] boundaries = iBoundaries;
+        long first = boundaries[0];
+        long last = boundaries[boundaries.length - 1];
+        int bucket = 0;
+        for (int i = 0; i < instants.length; i++) {
+            long instant = instants[i];
+            if (instant < first || instant >= last) {
+                results[i] = -1;
+                continue;
+            }
+            if (instant < boundaries[bucket]) {
+                bucket = search(instant);
+            } else if (instant >= boundaries[bucket + 1]) {
+                bucket++;
+                if (instant >= boundaries[bucket + 1]) {
+                    bucket = search(instant);
+                }
+            }
+            results[i] = bucket;
+        }
+    }
+
+    /**
+     * Counts the number of instants in each bucket.
+     * <p>
+     * Instants that are not within any bucket are ignored.
+     *
+     * @param instants  the millisecond instants, not null
+     * @return the count for each bucket, not null
+     * @throws IllegalArgumentException if the array is null
+     */
+    public int[] counts(long[] instants) {
+        if (instants == null) {
+            throw new IllegalArgumentException("Instants must not be null");
+        }
+        int[] indices = new int[instants.length];
+        indexOf(instants, indices);
+        int[] counts = new int[size()];
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] >= 0) {
+                counts[indices[i]]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Searches the boundaries for an instant known to be within a bucket.
+     *
+     * @param instant  the millisecond instant
+     * @return the bucket index
+     */
+    private int search(long instant) {
+        long[] boundaries = iBoundaries;
+        int index = Arrays.binarySearch(boundaries, instant);
+        if (index < 0) {
+            return -index - 2;
+        }
+        // skip empty buckets caused by daylight savings gaps
+        while (boundaries[index + 1] == instant) {
+            index++;
+        }
+        return index;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the bucketer as a string.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return "TimeBucketer[" + size() + " buckets from " + new DateTime(iBoundaries[0], iChronology) + "]";
+    }
+
+}
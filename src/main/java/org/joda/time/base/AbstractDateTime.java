@@ -23,6 +23,7 @@ import org.joda.convert.ToString;
 import org.joda.time.DateTimeFieldType;
 import org.joda.time.DateTimeZone;
 import org.joda.time.ReadableDateTime;
+import org.joda.time.chrono.IsoFastPath;
 import org.joda.time.format.DateTimeFormat;
 
 /**
@@ -114,7 +115,7 @@ public abstract class AbstractDateTime
      * @return the year
      */
     public int getYear() {
-        return getChronology().year().get(getMillis());
+        return IsoFastPath.getYear(getChronology(), getMillis());
     }
 
     /**
@@ -138,7 +139,7 @@ public abstract class AbstractDateTime
      * @return the month of year
      */
     public int getMonthOfYear() {
-        return getChronology().monthOfYear().get(getMillis());
+        return IsoFastPath.getMonthOfYear(getChronology(), getMillis());
     }
 
     /**
@@ -161,7 +162,7 @@ public abstract class AbstractDateTime
      * @return the day of year
      */
     public int getDayOfYear() {
-        return getChronology().dayOfYear().get(getMillis());
+        return IsoFastPath.getDayOfYear(getChronology(), getMillis());
     }
 
     /**
@@ -172,7 +173,7 @@ public abstract class AbstractDateTime
      * @return the day of month
      */
     public int getDayOfMonth() {
-        return getChronology().dayOfMonth().get(getMillis());
+        return IsoFastPath.getDayOfMonth(getChronology(), getMillis());
     }
 
     /**
@@ -183,7 +184,7 @@ public abstract class AbstractDateTime
      * @return the day of week
      */
     public int getDayOfWeek() {
-        return getChronology().dayOfWeek().get(getMillis());
+        return IsoFastPath.getDayOfWeek(getChronology(), getMillis());
     }
 
     //-----------------------------------------------------------------------
@@ -193,7 +194,7 @@ public abstract class AbstractDateTime
      * @return the hour of day
      */
     public int getHourOfDay() {
-        return getChronology().hourOfDay().get(getMillis());
+        return IsoFastPath.getHourOfDay(getChronology(), getMillis());
     }
 
     /**
@@ -202,7 +203,7 @@ public abstract class AbstractDateTime
      * @return the minute of day
      */
     public int getMinuteOfDay() {
-        return getChronology().minuteOfDay().get(getMillis());
+        return IsoFastPath.getMinuteOfDay(getChronology(), getMillis());
     }
 
     /**
@@ -211,7 +212,7 @@ public abstract class AbstractDateTime
      * @return the minute of hour
      */
     public int getMinuteOfHour() {
-        return getChronology().minuteOfHour().get(getMillis());
+        return IsoFastPath.getMinuteOfHour(getChronology(), getMillis());
     }
 
     /**
@@ -220,7 +221,7 @@ public abstract class AbstractDateTime
      * @return the second of day
      */
     public int getSecondOfDay() {
-        return getChronology().secondOfDay().get(getMillis());
+        return IsoFastPath.getSecondOfDay(getChronology(), getMillis());
     }
 
     /**
@@ -229,7 +230,7 @@ public abstract class AbstractDateTime
      * @return the second of minute
      */
     public int getSecondOfMinute() {
-        return getChronology().secondOfMinute().get(getMillis());
+        return IsoFastPath.getSecondOfMinute(getChronology(), getMillis());
     }
 
     /**
@@ -238,7 +239,7 @@ public abstract class AbstractDateTime
      * @return the millis of day
      */
     public int getMillisOfDay() {
-        return getChronology().millisOfDay().get(getMillis());
+        return IsoFastPath.getMillisOfDay(getChronology(), getMillis());
     }
 
     /**
@@ -247,7 +248,7 @@ public abstract class AbstractDateTime
      * @return the millis of second
      */
     public int getMillisOfSecond() {
-        return getChronology().millisOfSecond().get(getMillis());
+        return IsoFastPath.getMillisOfSecond(getChronology(), getMillis());
     }
 
     //-----------------------------------------------------------------------
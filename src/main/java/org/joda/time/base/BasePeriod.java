@@ -562,7 +562,58 @@ public abstract class BasePeriod
      */
     protected void addPeriod(ReadablePeriod period) {
         if (period != null) {
-            setValues(addPeriodInto(getValues(), period));
+            addPeriodInPlace(period, 1);
+        }
+    }
+
+    /**
+     * Subtracts the fields of another period.
+     * 
+     * @param period  the period to subtract, not null
+     * @throws IllegalArgumentException if an unsupported field's value is non-zero
+     * @throws ArithmeticException if the subtraction exceeds the capacity of the period
+     * @since 2.15
+     */
+    protected void subtractPeriod(ReadablePeriod period) {
+        if (period != null) {
+            addPeriodInPlace(period, -1);
+        }
+    }
+
+    /**
+     * Adds the fields from another period directly to the values of this period.
+     * <p>
+     * The period is validated in full before any value is changed, thus this
+     * period is unaltered if an exception is thrown.
+     * No intermediate array is allocated.
+     * 
+     * @param period  the period to add, not null
+     * @param sign  either 1 to add or -1 to subtract
+     */
+    private void addPeriodInPlace(ReadablePeriod period, int sign) {
+        int[] values = iValues;
+        int isize = period.size();
+        for (int i = 0; i < isize; i++) {
+            int value = period.getValue(i);
+            if (value != 0) {
+                int index = indexOf(period.getFieldType(i));
+                if (index == -1) {
+                    throw new IllegalArgumentException(
+                        "Period does not support field '" + period.getFieldType(i).getName() + "'");
+                }
+                if (sign > 0) {
+                    FieldUtils.safeAdd(values[index], value);
+                } else {
+                    FieldUtils.safeToInt(FieldUtils.safeSubtract(values[index], value));
+                }
+            }
+        }
+        for (int i = 0; i < isize; i++) {
+            int value = period.getValue(i);
+            if (value != 0) {
+                int index = indexOf(period.getFieldType(i));
+                values[index] = (sign > 0 ? values[index] + value : values[index] - value);
+            }
         }
     }
 
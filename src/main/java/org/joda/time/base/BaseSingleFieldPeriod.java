@@ -18,6 +18,7 @@ package org.joda.time.base;
 import java.io.Serializable;
 
 import org.joda.time.Chronology;
+import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeUtils;
 import org.joda.time.DurationField;
 import org.joda.time.DurationFieldType;
@@ -69,10 +70,41 @@ public abstract class BaseSingleFieldPeriod
             throw new IllegalArgumentException("ReadableInstant objects must not be null");
         }
         Chronology chrono = DateTimeUtils.getInstantChronology(start);
+        long unitMillis = preciseUnitMillis(chrono, field);
+        if (unitMillis > 0) {
+            return FieldUtils.safeToInt(FieldUtils.safeSubtract(end.getMillis(), start.getMillis()) / unitMillis);
+        }
         int amount = field.getField(chrono).getDifference(end.getMillis(), start.getMillis());
         return amount;
     }
 
+    /**
+     * Gets the length of a unit when it is fixed for the chronology.
+     * <p>
+     * In the ISO chronology with a fixed offset, days, hours, minutes and seconds
+     * always have the same length, so the difference between two instants
+     * is simply the difference in millis divided by the length of the unit.
+     *
+     * @param chrono  the chronology, not null
+     * @param field  the field type
+     * @return the length of the unit in millis, zero if not fixed
+     */
+    private static long preciseUnitMillis(Chronology chrono, DurationFieldType field) {
+        if (chrono instanceof ISOChronology == false || chrono.getZone().isFixed() == false) {
+            return 0;
+        }
+        if (field == DurationFieldType.days()) {
+            return DateTimeConstants.MILLIS_PER_DAY;
+        } else if (field == DurationFieldType.hours()) {
+            return DateTimeConstants.MILLIS_PER_HOUR;
+        } else if (field == DurationFieldType.minutes()) {
+            return DateTimeConstants.MILLIS_PER_MINUTE;
+        } else if (field == DurationFieldType.seconds()) {
+            return DateTimeConstants.MILLIS_PER_SECOND;
+        }
+        return 0;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Calculates the number of whole units between the two specified partial datetimes.
@@ -103,8 +103,10 @@ public final class GJChronology extends AssembledChronology {
      */
     static final Instant DEFAULT_CUTOVER = new Instant(-12219292800000L);
 
-    /** Cache of zone to chronology list */
-    private static final ConcurrentHashMap<GJCacheKey, GJChronology> cCache = new ConcurrentHashMap<GJCacheKey, GJChronology>();
+    /** Cache of zone to chronology arrays using the default cutover, indexed by minimum days in first week */
+    private static final ConcurrentHashMap<DateTimeZone, GJChronology[]> cCache = new ConcurrentHashMap<DateTimeZone, GJChronology[]>();
+    /** Cache of zone to chronologies using other cutovers, the arrays are copied on write */
+    private static final ConcurrentHashMap<DateTimeZone, GJChronology[]> cCutoverCache = new ConcurrentHashMap<DateTimeZone, GJChronology[]>();
 
     /**
      * Factory method returns instances of the default GJ cutover
@@ -192,45 +194,16 @@ public final class GJChronology extends AssembledChronology {
             ReadableInstant gregorianCutover,
             int minDaysInFirstWeek) {
         
-        zone = DateTimeUtils.getZone(zone);
-        Instant cutoverInstant;
-        if (gregorianCutover == null) {
-            cutoverInstant = DEFAULT_CUTOVER;
-        } else {
-            cutoverInstant = gregorianCutover.toInstant();
-            LocalDate cutoverDate = new LocalDate(cutoverInstant.getMillis(), GregorianChronology.getInstance(zone));
-            if (cutoverDate.getYear() <= 0) {
-                throw new IllegalArgumentException("Cutover too early. Must be on or after 0001-01-01.");
-            }
-        }
-
-        GJCacheKey cacheKey = new GJCacheKey(zone, cutoverInstant, minDaysInFirstWeek);
-        GJChronology chrono = cCache.get(cacheKey);
-        if (chrono == null) {
-            if (zone == DateTimeZone.UTC) {
-                chrono = new GJChronology
-                    (JulianChronology.getInstance(zone, minDaysInFirstWeek),
-                     GregorianChronology.getInstance(zone, minDaysInFirstWeek),
-                     cutoverInstant);
-            } else {
-                chrono = getInstance(DateTimeZone.UTC, cutoverInstant, minDaysInFirstWeek);
-                chrono = new GJChronology
-                    (ZonedChronology.getInstance(chrono, zone),
-                     chrono.iJulianChronology,
-                     chrono.iGregorianChronology,
-                     chrono.iCutoverInstant);
-            }
-            GJChronology oldChrono = cCache.putIfAbsent(cacheKey, chrono);
-            if (oldChrono != null) {
-                chrono = oldChrono;
-            }
-        }
-        return chrono;
+        long cutover = (gregorianCutover == null ? DEFAULT_CUTOVER.getMillis() : gregorianCutover.getMillis());
+        return getInstance(zone, cutover, minDaysInFirstWeek);
     }
 
     /**
      * Factory method returns instances of the GJ cutover chronology. Any
      * cutover date may be specified.
+     * <p>
+     * The cache is searched before the cutover is validated, so obtaining
+     * a chronology that has been used before does not create any objects.
      *
      * @param zone  the time zone to use, null is default
      * @param gregorianCutover  the cutover to use
@@ -242,13 +215,120 @@ public final class GJChronology extends AssembledChronology {
             long gregorianCutover,
             int minDaysInFirstWeek) {
         
-        Instant cutoverInstant;
+        zone = DateTimeUtils.getZone(zone);
         if (gregorianCutover == DEFAULT_CUTOVER.getMillis()) {
-            cutoverInstant = null;
-        } else {
-            cutoverInstant = new Instant(gregorianCutover);
+            return getDefaultCutoverInstance(zone, minDaysInFirstWeek);
         }
-        return getInstance(zone, cutoverInstant, minDaysInFirstWeek);
+        
+        GJChronology[] chronos = cCutoverCache.get(zone);
+        GJChronology chrono = findCutoverInstance(chronos, gregorianCutover, minDaysInFirstWeek);
+        if (chrono != null) {
+            return chrono;
+        }
+        Instant cutoverInstant = new Instant(gregorianCutover);
+        LocalDate cutoverDate = new LocalDate(gregorianCutover, GregorianChronology.getInstance(zone));
+        if (cutoverDate.getYear() <= 0) {
+            throw new IllegalArgumentException("Cutover too early. Must be on or after 0001-01-01.");
+        }
+        chrono = create(zone, cutoverInstant, minDaysInFirstWeek);
+        while (true) {
+            GJChronology oldChrono = findCutoverInstance(chronos, gregorianCutover, minDaysInFirstWeek);
+            if (oldChrono != null) {
+                return oldChrono;
+            }
+            if (chronos == null) {
+                if (cCutoverCache.putIfAbsent(zone, new GJChronology[] {chrono}) == null) {
+                    return chrono;
+                }
+            } else {
+                GJChronology[] newChronos = new GJChronology[chronos.length + 1];
+                System.arraycopy(chronos, 0, newChronos, 0, chronos.length);
+                newChronos[chronos.length] = chrono;
+                if (cCutoverCache.replace(zone, chronos, newChronos)) {
+                    return chrono;
+                }
+            }
+            chronos = cCutoverCache.get(zone);
+        }
+    }
+
+    /**
+     * Gets an instance using the default cutover.
+     *
+     * @param zone  the time zone to use, not null
+     * @param minDaysInFirstWeek  minimum number of days in first week of the year
+     * @return the chronology, not null
+     */
+    private static GJChronology getDefaultCutoverInstance(DateTimeZone zone, int minDaysInFirstWeek) {
+        GJChronology chrono;
+        GJChronology[] chronos = cCache.get(zone);
+        if (chronos == null) {
+            chronos = new GJChronology[7];
+            GJChronology[] oldChronos = cCache.putIfAbsent(zone, chronos);
+            if (oldChronos != null) {
+                chronos = oldChronos;
+            }
+        }
+        try {
+            chrono = chronos[minDaysInFirstWeek - 1];
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException
+                ("Invalid min days in first week: " + minDaysInFirstWeek);
+        }
+        if (chrono == null) {
+            synchronized (chronos) {
+                chrono = chronos[minDaysInFirstWeek - 1];
+                if (chrono == null) {
+                    chrono = create(zone, DEFAULT_CUTOVER, minDaysInFirstWeek);
+                    chronos[minDaysInFirstWeek - 1] = chrono;
+                }
+            }
+        }
+        return chrono;
+    }
+
+    /**
+     * Finds a cached instance using a cutover other than the default.
+     *
+     * @param chronos  the cached chronologies for the zone, may be null
+     * @param gregorianCutover  the cutover to find
+     * @param minDaysInFirstWeek  minimum number of days in first week of the year
+     * @return the chronology, null if not cached
+     */
+    private static GJChronology findCutoverInstance(GJChronology[] chronos, long gregorianCutover, int minDaysInFirstWeek) {
+        if (chronos != null) {
+            for (int i = 0; i < chronos.length; i++) {
+                GJChronology chrono = chronos[i];
+                if (chrono.iCutoverMillis == gregorianCutover &&
+                        chrono.getMinimumDaysInFirstWeek() == minDaysInFirstWeek) {
+                    return chrono;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a new instance, without using the cache for the zone.
+     *
+     * @param zone  the time zone to use, not null
+     * @param cutoverInstant  the cutover to use, not null
+     * @param minDaysInFirstWeek  minimum number of days in first week of the year
+     * @return the chronology, not null
+     */
+    private static GJChronology create(DateTimeZone zone, Instant cutoverInstant, int minDaysInFirstWeek) {
+        if (zone == DateTimeZone.UTC) {
+            return new GJChronology
+                (JulianChronology.getInstance(zone, minDaysInFirstWeek),
+                 GregorianChronology.getInstance(zone, minDaysInFirstWeek),
+                 cutoverInstant);
+        }
+        GJChronology chrono = getInstance(DateTimeZone.UTC, cutoverInstant.getMillis(), minDaysInFirstWeek);
+        return new GJChronology
+            (ZonedChronology.getInstance(chrono, zone),
+             chrono.iJulianChronology,
+             chrono.iGregorianChronology,
+             chrono.iCutoverInstant);
     }
 
     //-----------------------------------------------------------------------
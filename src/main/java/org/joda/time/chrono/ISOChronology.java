@@ -55,6 +55,9 @@ public final class ISOChronology extends AssembledChronology {
 
     /** Cache of zone to chronology */
     private static final ConcurrentHashMap<DateTimeZone, ISOChronology> cCache = new ConcurrentHashMap<DateTimeZone, ISOChronology>();
+    /** Cache of the chronology in the most recently requested default zone */
+    private static volatile ISOChronology cDefaultInstance;
+
     static {
         INSTANCE_UTC = new ISOChronology(GregorianChronology.getInstanceUTC());
         cCache.put(DateTimeZone.UTC, INSTANCE_UTC);
@@ -76,7 +79,13 @@ public final class ISOChronology extends AssembledChronology {
      * @return a chronology in the default time zone
      */
     public static ISOChronology getInstance() {
-        return getInstance(DateTimeZone.getDefault());
+        DateTimeZone zone = DateTimeZone.getDefault();
+        ISOChronology chrono = cDefaultInstance;
+        if (chrono == null || chrono.getZone() != zone) {
+            chrono = getInstance(zone);
+            cDefaultInstance = chrono;
+        }
+        return chrono;
     }
 
     /**
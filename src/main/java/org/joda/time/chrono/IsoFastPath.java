@@ -0,0 +1,364 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+
+/**
+ * IsoFastPath calculates the common fields of {@link ISOChronology} arithmetically.
+ * <p>
+ * A field of an assembled chronology is obtained by a chain of virtual calls,
+ * via the zoned field, the zone and the field of the base chronology.
+ * When the chronology is ISO, in any zone, the methods of this class instead
+ * apply the offset of the zone and calculate the field directly.
+ * Any other chronology, or an instant more than about a million years from 1970,
+ * is passed to the fields of the chronology, thus the result is always
+ * the same as that of the field.
+ * <p>
+ * This class is used by the date-time classes and formatters.
+ * It is not intended for use by applications.
+ * <p>
+ * IsoFastPath is thread-safe and immutable.
+ *
+ * @since 2.15
+ */
+public final class IsoFastPath {
+
+    /** The limit of the millis handled arithmetically, exclusive, about a million years. */
+    private static final long MAX_MILLIS = 1000000L * 365 * DateTimeConstants.MILLIS_PER_DAY;
+    /** The value indicating that the arithmetic cannot be used. */
+    private static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    /**
+     * Restricted constructor.
+     */
+    private IsoFastPath() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of a field at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param type  the field type, not null
+     * @param instant  the millisecond instant
+     * @return the field value, as returned by the field of the chronology
+     */
+    public static int get(Chronology chrono, DateTimeFieldType type, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            if (type == DateTimeFieldType.year()) {
+                return year(local);
+            }
+            if (type == DateTimeFieldType.monthOfYear()) {
+                return monthOfYear(local);
+            }
+            if (type == DateTimeFieldType.dayOfMonth()) {
+                return dayOfMonth(local);
+            }
+            if (type == DateTimeFieldType.hourOfDay()) {
+                return millisOfDay(local) / DateTimeConstants.MILLIS_PER_HOUR;
+            }
+            if (type == DateTimeFieldType.minuteOfHour()) {
+                return millisOfDay(local) / DateTimeConstants.MILLIS_PER_MINUTE % 60;
+            }
+            if (type == DateTimeFieldType.secondOfMinute()) {
+                return millisOfDay(local) / DateTimeConstants.MILLIS_PER_SECOND % 60;
+            }
+            if (type == DateTimeFieldType.millisOfSecond()) {
+                return millisOfDay(local) % DateTimeConstants.MILLIS_PER_SECOND;
+            }
+            if (type == DateTimeFieldType.dayOfWeek()) {
+                return dayOfWeek(local);
+            }
+            if (type == DateTimeFieldType.dayOfYear()) {
+                return dayOfYear(local);
+            }
+            if (type == DateTimeFieldType.millisOfDay()) {
+                return millisOfDay(local);
+            }
+            if (type == DateTimeFieldType.minuteOfDay()) {
+                return millisOfDay(local) / DateTimeConstants.MILLIS_PER_MINUTE;
+            }
+            if (type == DateTimeFieldType.secondOfDay()) {
+                return millisOfDay(local) / DateTimeConstants.MILLIS_PER_SECOND;
+            }
+        }
+        return type.getField(chrono).get(instant);
+    }
+
+    /**
+     * Gets the year at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the year
+     */
+    public static int getYear(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return year(local);
+        }
+        return chrono.year().get(instant);
+    }
+
+    /**
+     * Gets the month of year at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the month of year
+     */
+    public static int getMonthOfYear(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return monthOfYear(local);
+        }
+        return chrono.monthOfYear().get(instant);
+    }
+
+    /**
+     * Gets the day of month at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the day of month
+     */
+    public static int getDayOfMonth(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return dayOfMonth(local);
+        }
+        return chrono.dayOfMonth().get(instant);
+    }
+
+    /**
+     * Gets the day of year at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the day of year
+     */
+    public static int getDayOfYear(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return dayOfYear(local);
+        }
+        return chrono.dayOfYear().get(instant);
+    }
+
+    /**
+     * Gets the day of week at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the day of week
+     */
+    public static int getDayOfWeek(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return dayOfWeek(local);
+        }
+        return chrono.dayOfWeek().get(instant);
+    }
+
+    /**
+     * Gets the hour of day at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the hour of day
+     */
+    public static int getHourOfDay(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return millisOfDay(local) / DateTimeConstants.MILLIS_PER_HOUR;
+        }
+        return chrono.hourOfDay().get(instant);
+    }
+
+    /**
+     * Gets the minute of day at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the minute of day
+     */
+    public static int getMinuteOfDay(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return millisOfDay(local) / DateTimeConstants.MILLIS_PER_MINUTE;
+        }
+        return chrono.minuteOfDay().get(instant);
+    }
+
+    /**
+     * Gets the minute of hour at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the minute of hour
+     */
+    public static int getMinuteOfHour(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return millisOfDay(local) / DateTimeConstants.MILLIS_PER_MINUTE % 60;
+        }
+        return chrono.minuteOfHour().get(instant);
+    }
+
+    /**
+     * Gets the second of day at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the second of day
+     */
+    public static int getSecondOfDay(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return millisOfDay(local) / DateTimeConstants.MILLIS_PER_SECOND;
+        }
+        return chrono.secondOfDay().get(instant);
+    }
+
+    /**
+     * Gets the second of minute at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the second of minute
+     */
+    public static int getSecondOfMinute(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return millisOfDay(local) / DateTimeConstants.MILLIS_PER_SECOND % 60;
+        }
+        return chrono.secondOfMinute().get(instant);
+    }
+
+    /**
+     * Gets the millis of day at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the millis of day
+     */
+    public static int getMillisOfDay(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return millisOfDay(local);
+        }
+        return chrono.millisOfDay().get(instant);
+    }
+
+    /**
+     * Gets the millis of second at an instant.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the millis of second
+     */
+    public static int getMillisOfSecond(Chronology chrono, long instant) {
+        long local = localMillis(chrono, instant);
+        if (local != UNSUPPORTED) {
+            return millisOfDay(local) % DateTimeConstants.MILLIS_PER_SECOND;
+        }
+        return chrono.millisOfSecond().get(instant);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the local millis of an instant if the arithmetic can be used.
+     *
+     * @param chrono  the chronology, not null
+     * @param instant  the millisecond instant
+     * @return the local millis, or {@code UNSUPPORTED}
+     */
+    private static long localMillis(Chronology chrono, long instant) {
+        if (instant <= -MAX_MILLIS || instant >= MAX_MILLIS) {
+            return UNSUPPORTED;
+        }
+        if (chrono == ISOChronology.getInstanceUTC()) {
+            return instant;
+        }
+        if (chrono instanceof ISOChronology) {
+            DateTimeZone zone = chrono.getZone();
+            return (zone == DateTimeZone.UTC ? instant : instant + zone.getOffset(instant));
+        }
+        return UNSUPPORTED;
+    }
+
+    private static int millisOfDay(long localMillis) {
+        int millisOfDay = (int) (localMillis % DateTimeConstants.MILLIS_PER_DAY);
+        return (millisOfDay < 0 ? millisOfDay + DateTimeConstants.MILLIS_PER_DAY : millisOfDay);
+    }
+
+    private static long toEpochDay(long localMillis) {
+        long days = localMillis / DateTimeConstants.MILLIS_PER_DAY;
+        return (localMillis < 0 && days * DateTimeConstants.MILLIS_PER_DAY != localMillis ? days - 1 : days);
+    }
+
+    private static int year(long localMillis) {
+        return yearMonthDay(toEpochDay(localMillis)) >> 9;
+    }
+
+    private static int monthOfYear(long localMillis) {
+        return (yearMonthDay(toEpochDay(localMillis)) >> 5) & 0x0F;
+    }
+
+    private static int dayOfMonth(long localMillis) {
+        return yearMonthDay(toEpochDay(localMillis)) & 0x1F;
+    }
+
+    // the year, within a million years, in the top bits, then four bits of month and five of day
+    private static int yearMonthDay(long epochDay) {
+        long z = epochDay + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (int) ((5 * dayOfYear + 2) / 153);
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return ((int) year << 9) | (month << 5) | day;
+    }
+
+    private static long epochDay(long year, int month, int day) {
+        long y = (month <= 2 ? year - 1 : year);
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int dayOfWeek(long localMillis) {
+        long dow = (toEpochDay(localMillis) + 3) % 7;
+        return (int) (dow < 0 ? dow + 8 : dow + 1);
+    }
+
+    private static int dayOfYear(long localMillis) {
+        long epochDay = toEpochDay(localMillis);
+        int year = yearMonthDay(epochDay) >> 9;
+        return (int) (epochDay - epochDay(year, 1, 1)) + 1;
+    }
+
+}
@@ -28,6 +28,7 @@ import org.joda.time.IllegalInstantException;
 import org.joda.time.ReadablePartial;
 import org.joda.time.field.BaseDateTimeField;
 import org.joda.time.field.BaseDurationField;
+import org.joda.time.field.FieldUtils;
 
 /**
  * Wraps another Chronology to add support for time zones.
@@ -599,6 +600,56 @@ public final class ZonedChronology extends AssembledChronology {
             }
         }
 
+        @Override
+        public void roundFloor(long[] instants, long[] results) {
+            if (instants == null || results == null) {
+                throw new IllegalArgumentException("Arrays must not be null");
+            }
+            if (results.length < instants.length) {
+                throw new IllegalArgumentException("Results array must be at least as long as the instants array");
+            }
+            // the result depends only on the local floor and the offset of the instant
+            int offset = 0;
+            long floorLocal = 0;
+            long ceilingLocal = 0;
+            long floor = 0;
+            for (int i = 0; i < instants.length; i++) {
+                long instant = instants[i];
+                int instantOffset = getOffsetToAdd(instant);
+                long localInstant = instant + instantOffset;
+                if (instantOffset != offset || localInstant < floorLocal || localInstant >= ceilingLocal) {
+                    offset = instantOffset;
+                    floorLocal = iField.roundFloor(localInstant);
+                    ceilingLocal = nextFloorLocal(floorLocal);
+                    if (iTimeField) {
+                        floor = floorLocal - offset;
+                    } else {
+                        floor = iZone.convertLocalToUTC(floorLocal, false, instant);
+                    }
+                }
+                results[i] = floor;
+            }
+        }
+
+        /**
+         * Gets the next whole local unit after a whole local unit.
+         *
+         * @param floorLocal  the rounded local milliseconds
+         * @return the next whole unit, or the floor if there is none
+         */
+        private long nextFloorLocal(long floorLocal) {
+            if (floorLocal == Long.MAX_VALUE) {
+                return floorLocal;
+            }
+            try {
+                return iField.roundCeiling(floorLocal + 1);
+            } catch (ArithmeticException ex) {
+                return floorLocal;
+            } catch (IllegalArgumentException ex) {
+                return floorLocal;
+            }
+        }
+
         @Override
         public long roundCeiling(long instant) {
             if (iTimeField) {
@@ -15,7 +15,12 @@
  */
 package org.joda.time.convert;
 
+import java.util.Date;
+
 import org.joda.time.JodaTimePermission;
+import org.joda.time.ReadableInstant;
+import org.joda.time.ReadablePartial;
+import org.joda.time.base.AbstractInstant;
 
 /**
  * ConverterManager controls the date and time converters.
@@ -96,6 +101,11 @@ public final class ConverterManager {
     private ConverterSet iDurationConverters;
     private ConverterSet iPeriodConverters;
     private ConverterSet iIntervalConverters;
+    // The default sets, used to check whether the fast path can be used
+    private final ConverterSet iDefaultInstantConverters;
+    private final ConverterSet iDefaultPartialConverters;
+    private boolean iInstantFastPath = true;
+    private boolean iPartialFastPath = true;
     
     /**
      * Restricted constructor.
@@ -111,6 +121,7 @@ public final class ConverterManager {
             LongConverter.INSTANCE,
             NullConverter.INSTANCE,
         });
+        iDefaultInstantConverters = iInstantConverters;
 
         iPartialConverters = new ConverterSet(new Converter[] {
             ReadablePartialConverter.INSTANCE,
@@ -121,6 +132,7 @@ public final class ConverterManager {
             LongConverter.INSTANCE,
             NullConverter.INSTANCE,
         });
+        iDefaultPartialConverters = iPartialConverters;
 
         iDurationConverters = new ConverterSet(new Converter[] {
             ReadableDurationConverter.INSTANCE,
@@ -156,6 +168,12 @@ public final class ConverterManager {
      * equally well
      */
     public InstantConverter getInstantConverter(Object object) {
+        if (iInstantFastPath) {
+            Converter fast = selectDefault(object);
+            if (fast != null) {
+                return (InstantConverter) fast;
+            }
+        }
         InstantConverter converter =
             (InstantConverter)iInstantConverters.select(object == null ? null : object.getClass());
         if (converter != null) {
@@ -165,6 +183,34 @@ public final class ConverterManager {
             (object == null ? "null" : object.getClass().getName()));
     }
     
+    /**
+     * Selects the converter for the most common types without using the set.
+     * <p>
+     * This is only valid when the set of converters is unaltered.
+     * The checks exclude types that the default set would reject as ambiguous.
+     * 
+     * @param object  the object to convert
+     * @return the converter, null if the set must be used
+     */
+    private static Converter selectDefault(Object object) {
+        if (object instanceof String) {
+            return StringConverter.INSTANCE;
+        }
+        if (object instanceof Long) {
+            return LongConverter.INSTANCE;
+        }
+        if (object instanceof AbstractInstant) {
+            if (object instanceof ReadablePartial == false) {
+                return ReadableInstantConverter.INSTANCE;
+            }
+        } else if (object instanceof Date) {
+            if (object instanceof ReadableInstant == false && object instanceof ReadablePartial == false) {
+                return DateConverter.INSTANCE;
+            }
+        }
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets a copy of the set of converters.
@@ -199,6 +245,7 @@ public final class ConverterManager {
         }
         InstantConverter[] removed = new InstantConverter[1];
         iInstantConverters = iInstantConverters.add(converter, removed);
+        iInstantFastPath = iInstantConverters.containsSame(iDefaultInstantConverters);
         return removed[0];
     }
     
@@ -219,6 +266,7 @@ public final class ConverterManager {
         }
         InstantConverter[] removed = new InstantConverter[1];
         iInstantConverters = iInstantConverters.remove(converter, removed);
+        iInstantFastPath = iInstantConverters.containsSame(iDefaultInstantConverters);
         return removed[0];
     }
     
@@ -245,6 +293,12 @@ public final class ConverterManager {
      * equally well
      */
     public PartialConverter getPartialConverter(Object object) {
+        if (iPartialFastPath) {
+            Converter fast = selectDefault(object);
+            if (fast != null) {
+                return (PartialConverter) fast;
+            }
+        }
         PartialConverter converter =
             (PartialConverter)iPartialConverters.select(object == null ? null : object.getClass());
         if (converter != null) {
@@ -288,6 +342,7 @@ public final class ConverterManager {
         }
         PartialConverter[] removed = new PartialConverter[1];
         iPartialConverters = iPartialConverters.add(converter, removed);
+        iPartialFastPath = iPartialConverters.containsSame(iDefaultPartialConverters);
         return removed[0];
     }
     
@@ -308,6 +363,7 @@ public final class ConverterManager {
         }
         PartialConverter[] removed = new PartialConverter[1];
         iPartialConverters = iPartialConverters.remove(converter, removed);
+        iPartialFastPath = iPartialConverters.containsSame(iDefaultPartialConverters);
         return removed[0];
     }
     
@@ -15,6 +15,8 @@
  */
 package org.joda.time.convert;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A set of converters, which allows exact converters to be quickly
  * selected. This class is threadsafe because it is (essentially) immutable.
@@ -25,15 +27,16 @@ package org.joda.time.convert;
 class ConverterSet {
     private final Converter[] iConverters;
 
-    // A simple immutable hashtable: closed hashing, linear probing, sized
-    // power of 2, at least one null slot.
-    private Entry[] iSelectEntries;
+    // The selected converters, keyed by type, with a separate entry for null.
+    // The map is lock-free for reads and safely publishes the entries.
+    private final ConcurrentHashMap<Class<?>, Entry> iSelectEntries;
+    private volatile Entry iNullEntry;
 
     ConverterSet(Converter[] converters) {
         // Since this is a package private constructor, we trust ourselves not
         // to alter the array outside this class.
         iConverters = converters;
-        iSelectEntries = new Entry[1 << 4]; // 16
+        iSelectEntries = new ConcurrentHashMap<Class<?>, Entry>(16, 0.75f, 2);
     }
 
     /**
@@ -45,70 +48,18 @@ class ConverterSet {
      * equally well
      */
     Converter select(Class<?> type) throws IllegalStateException {
-        // Check the hashtable first.
-        Entry[] entries = iSelectEntries;
-        int length = entries.length;
-        int index = type == null ? 0 : type.hashCode() & (length - 1);
-
-        Entry e;
-        // This loop depends on there being at least one null slot.
-        while ((e = entries[index]) != null) {
-            if (e.iType == type) {
-                return e.iConverter;
-            }
-            if (++index >= length) {
-                index = 0;
+        Entry e = (type == null ? iNullEntry : iSelectEntries.get(type));
+        if (e == null) {
+            // Not found in the cache, so do actual work.
+            // If multiple threads do this at once, they reach the same result.
+            e = new Entry(type, selectSlow(this, type));
+            if (type == null) {
+                iNullEntry = e;
+            } else {
+                iSelectEntries.put(type, e);
             }
         }
-
-        // Not found in the hashtable, so do actual work.
-
-        Converter converter = selectSlow(this, type);
-        e = new Entry(type, converter);
-
-        // Save the entry for future selects. This class must be threadsafe,
-        // but there is no synchronization. Since the hashtable is being used
-        // as a cache, it is okay to destroy existing entries. This isn't
-        // likely to occur unless there is a high amount of concurrency. As
-        // time goes on, cache updates will occur less often, and the cache
-        // will fill with all the necessary entries.
-
-        // Do all updates on a copy: slots in iSelectEntries must not be
-        // updated by multiple threads as this can allow all null slots to be
-        // consumed.
-        entries = (Entry[])entries.clone();
-
-        // Add new entry.
-        entries[index] = e;
-
-        // Verify that at least one null slot exists!
-        for (int i=0; i<length; i++) {
-            if (entries[i] == null) {
-                // Found a null slot, swap in new hashtable.
-                iSelectEntries = entries;
-                return converter;
-            }
-        }
-
-        // Double capacity and re-hash.
-
-        int newLength = length << 1;
-        Entry[] newEntries = new Entry[newLength];
-        for (int i=0; i<length; i++) {
-            e = entries[i];
-            type = e.iType;
-            index = type == null ? 0 : type.hashCode() & (newLength - 1);
-            while (newEntries[index] != null) {
-                if (++index >= newLength) {
-                    index = 0;
-                }
-            }
-            newEntries[index] = e;
-        }
-
-        // Swap in new hashtable.
-        iSelectEntries = newEntries;
-        return converter;
+        return e.iConverter;
     }
 
     /**
@@ -118,6 +69,31 @@ class ConverterSet {
         return iConverters.length;
     }
 
+    /**
+     * Checks whether this set holds the same converters as another set,
+     * ignoring the order.
+     *
+     * @param other  the other set, not null
+     * @return true if the converters are the same
+     */
+    boolean containsSame(ConverterSet other) {
+        Converter[] converters = iConverters;
+        Converter[] others = other.iConverters;
+        if (converters.length != others.length) {
+            return false;
+        }
+        outer:
+        for (int i = 0; i < converters.length; i++) {
+            for (int j = 0; j < others.length; j++) {
+                if (converters[i] == others[j]) {
+                    continue outer;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Copies all the converters in the set to the given array.
      */
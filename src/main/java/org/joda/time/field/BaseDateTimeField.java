@@ -911,6 +911,72 @@ public abstract class BaseDateTimeField extends DateTimeField {
     @Override
     public abstract long roundFloor(long instant);
 
+    /**
+     * Round each instant to the lowest whole unit of this field.
+     * <p>
+     * This implementation remembers the floor and ceiling of the last unit rounded,
+     * so that instants falling in the same unit are rounded without calculation.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to store the rounded milliseconds in, at least as long as the input, not null
+     * @throws IllegalArgumentException if either array is null or the results array is too short
+     * @since 2.15
+     */
+    @Override
+    public void roundFloor(long[] instants, long[] results) {
+        checkRoundArrays(instants, results);
+        long floor = 0;
+        long ceiling = 0;
+        for (int i = 0; i < instants.length; i++) {
+            long instant = instants[i];
+            if (instant < floor || instant >= ceiling) {
+                floor = roundFloor(instant);
+                ceiling = nextFloor(this, floor);
+            }
+            results[i] = floor;
+        }
+    }
+
+    /**
+     * Validates the arrays passed to the bulk rounding method.
+     *
+     * @param instants  the instants to round
+     * @param results  the array to store the results in
+     * @throws IllegalArgumentException if either array is null or the results array is too short
+     */
+    private static void checkRoundArrays(long[] instants, long[] results) {
+        if (instants == null || results == null) {
+            throw new IllegalArgumentException("Arrays must not be null");
+        }
+        if (results.length < instants.length) {
+            throw new IllegalArgumentException("Results array must be at least as long as the instants array");
+        }
+    }
+
+    /**
+     * Gets the next whole unit after a whole unit, which is the exclusive end of
+     * the range of instants that round down to the whole unit.
+     * <p>
+     * Since rounding is monotonic, every instant between the floor and the ceiling
+     * of the instant after the floor rounds down to the floor.
+     *
+     * @param field  the field to round with, not null
+     * @param floor  the rounded milliseconds
+     * @return the next whole unit, or the floor if there is none
+     */
+    private static long nextFloor(DateTimeField field, long floor) {
+        if (floor == Long.MAX_VALUE) {
+            return floor;
+        }
+        try {
+            return field.roundCeiling(floor + 1);
+        } catch (ArithmeticException ex) {
+            return floor;
+        } catch (IllegalArgumentException ex) {
+            return floor;
+        }
+    }
+
     /**
      * Round to the highest whole unit of this field. The value of this field
      * and all fields of a higher magnitude may be incremented in order to
@@ -79,4 +79,10 @@ public class LenientDateTimeField extends DelegatedDateTimeField {
         localInstant = getType().getField(iBase.withUTC()).add(localInstant, difference);
         return iBase.getZone().convertLocalToUTC(localInstant, false, instant);
     }
+
+    @Override
+    public void roundFloor(long[] instants, long[] results) {
+        // roundFloor(long) is not overridden, so the wrapped field can round in bulk
+        getWrappedField().roundFloor(instants, results);
+    }
 }
@@ -98,6 +98,12 @@ public final class SkipUndoDateTimeField extends DelegatedDateTimeField {
         return iMinValue;
     }
 
+    @Override
+    public void roundFloor(long[] instants, long[] results) {
+        // roundFloor(long) is not overridden, so the wrapped field can round in bulk
+        getWrappedField().roundFloor(instants, results);
+    }
+
     private Object readResolve() {
         return getType().getField(iChronology);
     }
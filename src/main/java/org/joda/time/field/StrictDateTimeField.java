@@ -72,4 +72,10 @@ public class StrictDateTimeField extends DelegatedDateTimeField {
             (this, value, getMinimumValue(instant), getMaximumValue(instant));
         return super.set(instant, value);
     }
+
+    @Override
+    public void roundFloor(long[] instants, long[] results) {
+        // roundFloor(long) is not overridden, so the wrapped field can round in bulk
+        getWrappedField().roundFloor(instants, results);
+    }
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.JodaTimePermission;
 import org.joda.time.ReadablePartial;
 
 /**
@@ -148,10 +149,10 @@ public class DateTimeFormat {
     /** Type constant for DATETIME. */
     static final int DATETIME = 2;
 
-    /** Maximum size of the pattern cache. */
+    /** Default maximum size of the pattern cache. */
     private static final int PATTERN_CACHE_SIZE = 500;
-    /** Maps patterns to formatters, patterns don't vary by locale. Size capped at PATTERN_CACHE_SIZE*/
-    private static final ConcurrentHashMap<String, DateTimeFormatter> cPatternCache = new ConcurrentHashMap<String, DateTimeFormatter>();
+    /** Maps patterns to formatters, patterns don't vary by locale. */
+    private static final PatternCache cPatternCache = new PatternCache(getDefaultPatternCacheSize());
     /** Maps patterns to formatters, patterns don't vary by locale. */
     private static final AtomicReferenceArray<DateTimeFormatter> cStyleCache = new AtomicReferenceArray<DateTimeFormatter>(25);
 
@@ -177,6 +178,69 @@ public class DateTimeFormat {
         return createFormatterForPattern(pattern);
     }
 
+    /**
+     * Gets the maximum number of formatters cached by {@link #forPattern(String)}.
+     * <p>
+     * The default is 500, which may be changed using the system property
+     * {@code org.joda.time.DateTimeFormat.PatternCacheSize}.
+     *
+     * @return the maximum size, zero if caching is disabled
+     * @since 2.15
+     */
+    public static int getPatternCacheSize() {
+        return cPatternCache.getMaximumSize();
+    }
+
+    /**
+     * Sets the maximum number of formatters cached by {@link #forPattern(String)}.
+     * <p>
+     * When the cache is full, a new pattern is only cached if it is requested
+     * more frequently than a cached pattern, which is then evicted.
+     * Changing the size clears the cache, but not the statistics.
+     * <p>
+     * If a security manager is present, the caller must have the permission
+     * {@code JodaTimePermission("DateTimeFormat.setPatternCacheSize")}.
+     *
+     * @param size  the maximum size, zero to disable caching
+     * @throws IllegalArgumentException if the size is negative
+     * @throws SecurityException if the caller does not have permission
+     * @since 2.15
+     */
+    public static void setPatternCacheSize(int size) throws SecurityException {
+        SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(new JodaTimePermission("DateTimeFormat.setPatternCacheSize"));
+        }
+        cPatternCache.setMaximumSize(size);
+    }
+
+    /**
+     * Gets the statistics of the cache used by {@link #forPattern(String)}.
+     *
+     * @return a snapshot of the statistics, not null
+     * @since 2.15
+     */
+    public static PatternCacheStatistics getPatternCacheStatistics() {
+        return cPatternCache.getStatistics();
+    }
+
+    /**
+     * Gets the default size of the pattern cache, from the system property if set.
+     *
+     * @return the size, zero or greater
+     */
+    private static int getDefaultPatternCacheSize() {
+        try {
+            String size = System.getProperty("org.joda.time.DateTimeFormat.PatternCacheSize");
+            if (size != null) {
+                return Math.max(0, Integer.parseInt(size.trim()));
+            }
+        } catch (RuntimeException ex) {
+            // ignored
+        }
+        return PATTERN_CACHE_SIZE;
+    }
+
     /**
      * Factory to create a format from a two character style pattern.
      * <p>
@@ -685,15 +749,7 @@ public class DateTimeFormat {
         if (formatter == null) {
             DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
             parsePatternTo(builder, pattern);
-            formatter = builder.toFormatter();
-            if (cPatternCache.size() < PATTERN_CACHE_SIZE) {
-                // the size check is not locked against concurrent access,
-                // but is accepted to be slightly off in contention scenarios.
-                DateTimeFormatter oldFormatter = cPatternCache.putIfAbsent(pattern, formatter);
-                if (oldFormatter != null) {
-                    formatter = oldFormatter;
-                }
-            }
+            formatter = cPatternCache.put(pattern, builder.toFormatter());
         }
         return formatter;
     }
@@ -792,12 +848,43 @@ public class DateTimeFormat {
         private final int iDateStyle;
         private final int iTimeStyle;
         private final int iType;
+        /** The formatter that is not resolved for a locale, this if not resolved. */
+        private final StyleFormatter iBase;
+        /** The formatters resolved for each locale, null if this is resolved. */
+        private final ConcurrentHashMap<Locale, StyleFormatter> iResolved;
+        /** The locale this is resolved for, null if not resolved. */
+        private final Locale iLocale;
+        /** The formatter for the locale, null if not resolved or the locale has no pattern. */
+        private final DateTimeFormatter iFormatter;
+        /** The formatter with default settings using this style and locale, created when first requested. */
+        private volatile DateTimeFormatter iLocaleFormatter;
 
         StyleFormatter(int dateStyle, int timeStyle, int type) {
             super();
             iDateStyle = dateStyle;
             iTimeStyle = timeStyle;
             iType = type;
+            iBase = this;
+            iResolved = new ConcurrentHashMap<Locale, StyleFormatter>();
+            iLocale = null;
+            iFormatter = null;
+        }
+
+        private StyleFormatter(StyleFormatter base, Locale locale) {
+            super();
+            iDateStyle = base.iDateStyle;
+            iTimeStyle = base.iTimeStyle;
+            iType = base.iType;
+            iBase = base;
+            iResolved = null;
+            iLocale = locale;
+            DateTimeFormatter formatter = null;
+            try {
+                formatter = base.lookupFormatter(locale);
+            } catch (RuntimeException ex) {
+                // reported when used
+            }
+            iFormatter = formatter;
         }
 
         public int estimatePrintedLength() {
@@ -825,8 +912,60 @@ public class DateTimeFormat {
             return p.parseInto(bucket, text, position);
         }
 
+        /**
+         * Returns the style formatter with the formatter for the locale already resolved.
+         * <p>
+         * The resolved style formatters are shared, thus repeated calls with the same
+         * locale do not allocate. If the locale has no pattern, the formatter is
+         * left unresolved, and the error is reported when printing or parsing.
+         *
+         * @param locale  the locale, not null
+         * @return the style formatter, not null
+         */
+        StyleFormatter withLocale(Locale locale) {
+            if (iLocale != null && iLocale.equals(locale)) {
+                return this;
+            }
+            ConcurrentHashMap<Locale, StyleFormatter> resolvedMap = iBase.iResolved;
+            StyleFormatter resolved = resolvedMap.get(locale);
+            if (resolved == null) {
+                resolved = new StyleFormatter(iBase, locale);
+                StyleFormatter oldResolved = resolvedMap.putIfAbsent(locale, resolved);
+                if (oldResolved != null) {
+                    resolved = oldResolved;
+                }
+            }
+            return resolved;
+        }
+
+        /**
+         * Gets the formatter with default settings using this style and locale.
+         *
+         * @return the formatter, null if not yet created
+         */
+        DateTimeFormatter getLocaleFormatter() {
+            return iLocaleFormatter;
+        }
+
+        /**
+         * Sets the formatter with default settings using this style and locale.
+         *
+         * @param formatter  the formatter, not null
+         */
+        void setLocaleFormatter(DateTimeFormatter formatter) {
+            iLocaleFormatter = formatter;
+        }
+
         private DateTimeFormatter getFormatter(Locale locale) {
             locale = (locale == null ? Locale.getDefault() : locale);
+            StyleFormatter resolved = withLocale(locale);
+            if (resolved.iFormatter != null) {
+                return resolved.iFormatter;
+            }
+            return lookupFormatter(locale);
+        }
+
+        private DateTimeFormatter lookupFormatter(Locale locale) {
             StyleFormatterCacheKey key = new StyleFormatterCacheKey(iType, iDateStyle, iTimeStyle, locale);
             DateTimeFormatter f = cCache.get(key);
             if (f == null) {
@@ -223,6 +223,21 @@ public class DateTimeFormatter {
         if (locale == getLocale() || (locale != null && locale.equals(getLocale()))) {
             return this;
         }
+        if (locale != null && iPrinter instanceof DateTimeFormat.StyleFormatter && iParser == iPrinter) {
+            // resolve the style now, rather than on each print or parse
+            DateTimeFormat.StyleFormatter style = ((DateTimeFormat.StyleFormatter) iPrinter).withLocale(locale);
+            if (iOffsetParsed == false && iChrono == null && iZone == null && iPivotYear == null && iDefaultYear == 2000) {
+                // the formatter for the locale with default settings is shared
+                DateTimeFormatter formatter = style.getLocaleFormatter();
+                if (formatter == null) {
+                    formatter = new DateTimeFormatter(style, style, locale, false, null, null, null, 2000);
+                    style.setLocaleFormatter(formatter);
+                }
+                return formatter;
+            }
+            return new DateTimeFormatter(style, style, locale,
+                    iOffsetParsed, iChrono, iZone, iPivotYear, iDefaultYear);
+        }
         return new DateTimeFormatter(iPrinter, iParser, locale,
                 iOffsetParsed, iChrono, iZone, iPivotYear, iDefaultYear);
     }
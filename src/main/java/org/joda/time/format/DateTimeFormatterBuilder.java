@@ -33,6 +33,8 @@ import org.joda.time.DateTimeZone;
 import org.joda.time.MutableDateTime;
 import org.joda.time.MutableDateTime.Property;
 import org.joda.time.ReadablePartial;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.IsoFastPath;
 import org.joda.time.field.MillisDurationField;
 import org.joda.time.field.PreciseDateTimeField;
 
@@ -1392,8 +1394,7 @@ public class DateTimeFormatterBuilder {
                 Appendable appendable, long instant, Chronology chrono,
                 int displayOffset, DateTimeZone displayZone, Locale locale) throws IOException {
             try {
-                DateTimeField field = iFieldType.getField(chrono);
-                FormatUtils.appendUnpaddedInteger(appendable, field.get(instant));
+                FormatUtils.appendUnpaddedInteger(appendable, IsoFastPath.get(chrono, iFieldType, instant));
             } catch (RuntimeException e) {
                 appendable.append('\ufffd');
             }
@@ -1432,8 +1433,7 @@ public class DateTimeFormatterBuilder {
                 Appendable appendable, long instant, Chronology chrono,
                 int displayOffset, DateTimeZone displayZone, Locale locale) throws IOException {
             try {
-                DateTimeField field = iFieldType.getField(chrono);
-                FormatUtils.appendPaddedInteger(appendable, field.get(instant), iMinPrintedDigits);
+                FormatUtils.appendPaddedInteger(appendable, IsoFastPath.get(chrono, iFieldType, instant), iMinPrintedDigits);
             } catch (RuntimeException e) {
                 appendUnknownString(appendable, iMinPrintedDigits);
             }
@@ -1623,7 +1623,7 @@ public class DateTimeFormatterBuilder {
 
         private int getTwoDigitYear(long instant, Chronology chrono) {
             try {
-                int year = iType.getField(chrono).get(instant);
+                int year = IsoFastPath.get(chrono, iType, instant);
                 if (year < 0) {
                     year = -year;
                 }
@@ -1783,9 +1783,16 @@ public class DateTimeFormatterBuilder {
     static class Fraction
             implements InternalPrinter, InternalParser {
 
+        /** The millis represented by each of the first three digits of a fraction of second. */
+        private static final int[] MILLIS_DIGIT_SCALE = {100, 10, 1};
+        /** The maximum digits of a fraction of second, as the scaled value must fit in a long. */
+        private static final int MAX_SECOND_FRACTION_DIGITS = 15;
+
         private final DateTimeFieldType iFieldType;
         protected int iMinDigits;
         protected int iMaxDigits;
+        /** The field last used to save a parsed fraction of second, may be null. */
+        private volatile DateTimeField iParseField;
 
         protected Fraction(DateTimeFieldType fieldType, int minDigits, int maxDigits) {
             super();
@@ -1818,6 +1825,17 @@ public class DateTimeFormatterBuilder {
         protected void printTo(Appendable appendable, long instant, Chronology chrono)
             throws IOException
         {
+            if (iFieldType == DateTimeFieldType.secondOfDay() && chrono == ISOChronology.getInstanceUTC() &&
+                    iMaxDigits >= 3) {
+                int millis = (int) (instant % DateTimeConstants.MILLIS_PER_SECOND);
+                if (millis < 0) {
+                    millis += DateTimeConstants.MILLIS_PER_SECOND;
+                }
+                if (millis != 0) {
+                    printMillisFraction(appendable, millis);
+                    return;
+                }
+            }
             DateTimeField field = iFieldType.getField(chrono);
             int minDigits = iMinDigits;
 
@@ -1875,6 +1893,27 @@ public class DateTimeFormatterBuilder {
             appendable.append(str);
         }
         
+        /**
+         * Prints a non-zero millis-of-second fraction directly, producing the same
+         * text as the general algorithm, which pads the three digits with zeros
+         * up to the minimum number of digits.
+         */
+        private void printMillisFraction(Appendable appendable, int millis) throws IOException {
+            int significant = (millis % 10 != 0 ? 3 : (millis % 100 != 0 ? 2 : 1));
+            int length = Math.max(significant, Math.min(iMinDigits, Math.min(iMaxDigits, MAX_SECOND_FRACTION_DIGITS)));
+            int tens = millis / 10;
+            appendable.append((char) ('0' + tens / 10));
+            if (length > 1) {
+                appendable.append((char) ('0' + tens % 10));
+                if (length > 2) {
+                    appendable.append((char) ('0' + millis % 10));
+                    for (int i = 3; i < length; i++) {
+                        appendable.append('0');
+                    }
+                }
+            }
+        }
+
         private long[] getFractionData(long fraction, DateTimeField field) {
             long rangeMillis = field.getDurationField().getUnitMillis();
             long scalar;
@@ -1917,6 +1956,9 @@ public class DateTimeFormatterBuilder {
 
         public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
             DateTimeField field = iFieldType.getField(bucket.getChronology());
+            if (field.getDurationField().getUnitMillis() == DateTimeConstants.MILLIS_PER_SECOND) {
+                return parseMillisFraction(bucket, text, position, field);
+            }
             
             int limit = Math.min(iMaxDigits, text.length() - position);
 
@@ -1953,6 +1995,39 @@ public class DateTimeFormatterBuilder {
 
             return position + length;
         }
+
+        /**
+         * Parses a fraction of a field measured in seconds, where only the first
+         * three digits are significant as the result is in millis.
+         */
+        private int parseMillisFraction(DateTimeParserBucket bucket, CharSequence text, int position, DateTimeField field) {
+            int limit = Math.min(iMaxDigits, text.length() - position);
+            int value = 0;
+            int length = 0;
+            while (length < limit) {
+                char c = text.charAt(position + length);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (length < 3) {
+                    value += (c - '0') * MILLIS_DIGIT_SCALE[length];
+                }
+                length++;
+            }
+            if (length == 0) {
+                return ~position;
+            }
+            DateTimeField parseField = iParseField;
+            if (parseField == null || parseField.getRangeDurationField() != field.getDurationField()) {
+                parseField = new PreciseDateTimeField(
+                    DateTimeFieldType.millisOfSecond(),
+                    MillisDurationField.INSTANCE,
+                    field.getDurationField());
+                iParseField = parseField;
+            }
+            bucket.saveField(parseField, value);
+            return position + length;
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -28,7 +28,16 @@ import java.io.Writer;
  */
 public class FormatUtils {
 
-    private static final double LOG_10 = Math.log(10);
+    /** The tens digit of each value from 0 to 99. */
+    private static final char[] DIGIT_TENS = new char[100];
+    /** The units digit of each value from 0 to 99. */
+    private static final char[] DIGIT_ONES = new char[100];
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
 
     /**
      * Restricted constructor.
@@ -79,36 +88,26 @@ public class FormatUtils {
                 return;
             }
         }
-        if (value < 10) {
-            for (; size > 1; size--) {
-                appenadble.append('0');
-            }
-            appenadble.append((char)(value + '0'));
-        } else if (value < 100) {
-            for (; size > 2; size--) {
-                appenadble.append('0');
-            }
-            // Calculate value div/mod by 10 without using two expensive
-            // division operations. (2 ^ 27) / 10 = 13421772. Add one to
-            // value to correct rounding error.
-            int d = ((value + 1) * 13421772) >> 27;
-            appenadble.append((char) (d + '0'));
-            // Append remainder by calculating (value - d * 10).
-            appenadble.append((char) (value - (d << 3) - (d << 1) + '0'));
-        } else {
-            int digits;
-            if (value < 1000) {
-                digits = 3;
-            } else if (value < 10000) {
-                digits = 4;
+        if (value < 100 && size <= 2) {
+            if (value < 10) {
+                if (size == 2) {
+                    appenadble.append('0');
+                }
+                appenadble.append(DIGIT_ONES[value]);
             } else {
-                digits = (int)(Math.log(value) / LOG_10) + 1;
-            }
-            for (; size > digits; size--) {
-                appenadble.append('0');
+                appenadble.append(DIGIT_TENS[value]);
+                appenadble.append(DIGIT_ONES[value]);
             }
-            appenadble.append(Integer.toString(value));
+            return;
+        }
+        // write the digits and padding into a buffer, appending it in one call
+        int length = Math.max(size, calculateDigitCount(value));
+        char[] buf = new char[length];
+        int pos = writeDigits(buf, length, value);
+        while (pos > 0) {
+            buf[--pos] = '0';
         }
+        append(appenadble, buf, 0, length);
     }
 
     /**
@@ -145,8 +144,6 @@ public class FormatUtils {
         int intValue = (int)value;
         if (intValue == value) {
             appendPaddedInteger(appendable, intValue, size);
-        } else if (size <= 19) {
-            appendable.append(Long.toString(value));
         } else {
             if (value < 0) {
                 appendable.append('-');
@@ -160,7 +157,7 @@ public class FormatUtils {
                     return;
                 }
             }
-            int digits = (int)(Math.log(value) / LOG_10) + 1;
+            int digits = calculateDigitCount(value);
             for (; size > digits; size--) {
                 appendable.append('0');
             }
@@ -180,48 +177,7 @@ public class FormatUtils {
      * @throws IOException if an IO error occurs
      */
     public static void writePaddedInteger(Writer out, int value, int size) throws IOException {
-        if (value < 0) {
-            out.write('-');
-            if (value != Integer.MIN_VALUE) {
-                value = -value;
-            } else {
-                for (; size > 10; size--) {
-                    out.write('0');
-                }
-                out.write("" + -(long)Integer.MIN_VALUE);
-                return;
-            }
-        }
-        if (value < 10) {
-            for (; size > 1; size--) {
-                out.write('0');
-            }
-            out.write(value + '0');
-        } else if (value < 100) {
-            for (; size > 2; size--) {
-                out.write('0');
-            }
-            // Calculate value div/mod by 10 without using two expensive
-            // division operations. (2 ^ 27) / 10 = 13421772. Add one to
-            // value to correct rounding error.
-            int d = ((value + 1) * 13421772) >> 27;
-            out.write(d + '0');
-            // Append remainder by calculating (value - d * 10).
-            out.write(value - (d << 3) - (d << 1) + '0');
-        } else {
-            int digits;
-            if (value < 1000) {
-                digits = 3;
-            } else if (value < 10000) {
-                digits = 4;
-            } else {
-                digits = (int)(Math.log(value) / LOG_10) + 1;
-            }
-            for (; size > digits; size--) {
-                out.write('0');
-            }
-            out.write(Integer.toString(value));
-        }
+        appendPaddedInteger(out, value, size);
     }
 
     /**
@@ -236,30 +192,7 @@ public class FormatUtils {
      * @throws IOException if an IO error occurs
      */
     public static void writePaddedInteger(Writer out, long value, int size) throws IOException {
-        int intValue = (int)value;
-        if (intValue == value) {
-            writePaddedInteger(out, intValue, size);
-        } else if (size <= 19) {
-            out.write(Long.toString(value));
-        } else {
-            if (value < 0) {
-                out.write('-');
-                if (value != Long.MIN_VALUE) {
-                    value = -value;
-                } else {
-                    for (; size > 19; size--) {
-                        out.write('0');
-                    }
-                    out.write("9223372036854775808");
-                    return;
-                }
-            }
-            int digits = (int)(Math.log(value) / LOG_10) + 1;
-            for (; size > digits; size--) {
-                out.write('0');
-            }
-            out.write(Long.toString(value));
-        }
+        appendPaddedInteger(out, value, size);
     }
 
     /**
@@ -299,17 +232,14 @@ public class FormatUtils {
             }
         }
         if (value < 10) {
-            appendable.append((char)(value + '0'));
+            appendable.append(DIGIT_ONES[value]);
         } else if (value < 100) {
-            // Calculate value div/mod by 10 without using two expensive
-            // division operations. (2 ^ 27) / 10 = 13421772. Add one to
-            // value to correct rounding error.
-            int d = ((value + 1) * 13421772) >> 27;
-            appendable.append((char) (d + '0'));
-            // Append remainder by calculating (value - d * 10).
-            appendable.append((char) (value - (d << 3) - (d << 1) + '0'));
+            appendable.append(DIGIT_TENS[value]);
+            appendable.append(DIGIT_ONES[value]);
         } else {
-            appendable.append(Integer.toString(value));
+            char[] buf = new char[10];
+            int pos = writeDigits(buf, 10, value);
+            append(appendable, buf, pos, 10 - pos);
         }
     }
 
@@ -357,28 +287,7 @@ public class FormatUtils {
      * @throws IOException if an IO error occurs
      */
     public static void writeUnpaddedInteger(Writer out, int value) throws IOException {
-        if (value < 0) {
-            out.write('-');
-            if (value != Integer.MIN_VALUE) {
-                value = -value;
-            } else {
-                out.write("" + -(long)Integer.MIN_VALUE);
-                return;
-            }
-        }
-        if (value < 10) {
-            out.write(value + '0');
-        } else if (value < 100) {
-            // Calculate value div/mod by 10 without using two expensive
-            // division operations. (2 ^ 27) / 10 = 13421772. Add one to
-            // value to correct rounding error.
-            int d = ((value + 1) * 13421772) >> 27;
-            out.write(d + '0');
-            // Append remainder by calculating (value - d * 10).
-            out.write(value - (d << 3) - (d << 1) + '0');
-        } else {
-            out.write(Integer.toString(value));
-        }
+        appendUnpaddedInteger(out, value);
     }
 
     /**
@@ -414,12 +323,59 @@ public class FormatUtils {
                 return 20;
             }
         }
-        return 
-            (value < 10 ? 1 :
-             (value < 100 ? 2 :
-              (value < 1000 ? 3 :
-               (value < 10000 ? 4 :
-                ((int)(Math.log(value) / LOG_10) + 1)))));
+        if (value < 10000) {
+            return (value < 100 ? (value < 10 ? 1 : 2) : (value < 1000 ? 3 : 4));
+        }
+        int digits = 5;
+        for (long limit = 100000; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Writes the digits of a non-negative value into the end of a buffer, two at a time.
+     *
+     * @param buf  the buffer to write to
+     * @param end  the index after the last digit
+     * @param value  the value, zero or greater
+     * @return the index of the first digit
+     */
+    private static int writeDigits(char[] buf, int end, int value) {
+        int pos = end;
+        while (value >= 100) {
+            int quotient = value / 100;
+            int pair = value - quotient * 100;
+            buf[--pos] = DIGIT_ONES[pair];
+            buf[--pos] = DIGIT_TENS[pair];
+            value = quotient;
+        }
+        buf[--pos] = DIGIT_ONES[value];
+        if (value >= 10) {
+            buf[--pos] = DIGIT_TENS[value];
+        }
+        return pos;
+    }
+
+    /**
+     * Appends part of a buffer in one call where the appendable allows.
+     *
+     * @param appendable  the appendable to append to
+     * @param buf  the buffer
+     * @param start  the start index
+     * @param length  the number of characters
+     * @throws IOException if an IO error occurs
+     */
+    private static void append(Appendable appendable, char[] buf, int start, int length) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(buf, start, length);
+        } else if (appendable instanceof StringBuffer) {
+            ((StringBuffer) appendable).append(buf, start, length);
+        } else if (appendable instanceof Writer) {
+            ((Writer) appendable).write(buf, start, length);
+        } else {
+            appendable.append(new String(buf, start, length));
+        }
     }
 
     static int parseTwoDigits(CharSequence text, int position) {
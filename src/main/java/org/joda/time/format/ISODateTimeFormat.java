@@ -1471,9 +1471,10 @@ public class ISODateTimeFormat {
                     .append(timeElementParser())
                     .appendOptional(offsetElement().getParser())
                     .toParser();
-                return new DateTimeFormatterBuilder()
+                InternalParser tree = new DateTimeFormatterBuilder()
                     .append(null, new DateTimeParser[] {time, dateOptionalTimeParser().getParser()})
-                    .toFormatter();
+                    .toFormatter().getParser0();
+                return new DateTimeFormatter(null, new IsoDateTimeParser(tree, true, true));
             }
             return dtp;
         }
@@ -1485,10 +1486,11 @@ public class ISODateTimeFormat {
                     .appendOptional(timeElementParser().getParser())
                     .appendOptional(offsetElement().getParser())
                     .toParser();
-                return new DateTimeFormatterBuilder()
+                InternalParser tree = new DateTimeFormatterBuilder()
                     .append(dateElementParser())
                     .appendOptional(timeOrOffset)
-                    .toFormatter();
+                    .toFormatter().getParser0();
+                return new DateTimeFormatter(null, new IsoDateTimeParser(tree, false, true));
             }
             return dotp;
         }
@@ -1499,10 +1501,11 @@ public class ISODateTimeFormat {
                     .appendLiteral('T')
                     .append(timeElementParser())
                     .toParser();
-                return new DateTimeFormatterBuilder()
+                InternalParser tree = new DateTimeFormatterBuilder()
                     .append(dateElementParser())
                     .appendOptional(time)
-                    .toFormatter().withZoneUTC();
+                    .toFormatter().getParser0();
+                return new DateTimeFormatter(null, new IsoDateTimeParser(tree, false, false)).withZoneUTC();
             }
             return ldotp;
         }
@@ -15,6 +15,16 @@
  */
 package org.joda.time.format;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DurationFieldType;
+import org.joda.time.PeriodType;
+import org.joda.time.ReadWritablePeriod;
+import org.joda.time.ReadablePeriod;
+
 /**
  * Factory that creates instances of PeriodFormatter for the ISO8601 standard.
  * <p>
@@ -63,7 +73,7 @@ public class ISOPeriodFormat {
      */
     public static PeriodFormatter standard() {
         if (cStandard == null) {
-            cStandard = new PeriodFormatterBuilder()
+            PeriodFormatter general = new PeriodFormatterBuilder()
                 .appendLiteral("P")
                 .appendYears()
                 .appendSuffix("Y")
@@ -81,6 +91,8 @@ public class ISOPeriodFormat {
                 .appendSecondsWithOptionalMillis()
                 .appendSuffix("S")
                 .toFormatter();
+            StandardFormat format = new StandardFormat(general.getPrinter(), general.getParser());
+            cStandard = new PeriodFormatter(format, format);
         }
         return cStandard;
     }
@@ -203,4 +215,338 @@ public class ISOPeriodFormat {
         return cAlternateExtendedWihWeeks;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Printer and parser for the standard format, optimised for the common case.
+     * <p>
+     * Text in the common form, such as 'P1Y2M3W4DT5H6M7.008S', is parsed in a single
+     * pass without creating any objects. Anything else, such as lower case letters,
+     * a plus sign or a number too large for an int, is passed to the general purpose
+     * formatter, which defines the behaviour of the format.
+     * Periods are printed directly to the buffer, except when printing to a writer.
+     */
+    static final class StandardFormat implements PeriodPrinter, PeriodParser {
+
+        /** The index of the years field. */
+        private static final int YEARS = 0;
+        /** The index of the months field. */
+        private static final int MONTHS = 1;
+        /** The index of the weeks field. */
+        private static final int WEEKS = 2;
+        /** The index of the days field. */
+        private static final int DAYS = 3;
+        /** The index of the hours field. */
+        private static final int HOURS = 4;
+        /** The index of the minutes field. */
+        private static final int MINUTES = 5;
+        /** The index of the seconds field, which includes the millis. */
+        private static final int SECONDS = 6;
+        /** The suffix of each field. */
+        private static final char[] SUFFIXES = {'Y', 'M', 'W', 'D', 'H', 'M', 'S'};
+
+        /** The general purpose printer. */
+        private final PeriodPrinter iPrinter;
+        /** The general purpose parser. */
+        private final PeriodParser iParser;
+
+        StandardFormat(PeriodPrinter printer, PeriodParser parser) {
+            iPrinter = printer;
+            iParser = parser;
+        }
+
+        //-----------------------------------------------------------------------
+        public int countFieldsToPrint(ReadablePeriod period, int stopAt, Locale locale) {
+            return iPrinter.countFieldsToPrint(period, stopAt, locale);
+        }
+
+        public int calculatePrintedLength(ReadablePeriod period, Locale locale) {
+            int zeroField = findZeroField(period);
+            int sum = 1;
+            boolean time = false;
+            for (int field = YEARS; field <= SECONDS; field++) {
+                long value = getFieldValue(period, field, zeroField);
+                if (value == Long.MAX_VALUE) {
+                    continue;
+                }
+                if (field >= HOURS && time == false) {
+                    time = true;
+                    sum++;
+                }
+                int length = FormatUtils.calculateDigitCount(value);
+                if (field == SECONDS) {
+                    // the combined seconds and millis, with the millis only if non-zero
+                    length = (value < 0 ? Math.max(length, 5) : Math.max(length, 4)) + 1;
+                    if ((Math.abs(value) % DateTimeConstants.MILLIS_PER_SECOND) == 0) {
+                        length -= 4;
+                    }
+                }
+                sum += length + 1;
+            }
+            return sum;
+        }
+
+        public void printTo(StringBuffer buf, ReadablePeriod period, Locale locale) {
+            int zeroField = findZeroField(period);
+            buf.append('P');
+            boolean time = false;
+            for (int field = YEARS; field <= SECONDS; field++) {
+                long value = getFieldValue(period, field, zeroField);
+                if (value == Long.MAX_VALUE) {
+                    continue;
+                }
+                if (field >= HOURS && time == false) {
+                    time = true;
+                    buf.append('T');
+                }
+                if (field == SECONDS) {
+                    int bufLen = buf.length();
+                    FormatUtils.appendUnpaddedInteger(buf, (int) (value / DateTimeConstants.MILLIS_PER_SECOND));
+                    int dp = (int) (Math.abs(value) % DateTimeConstants.MILLIS_PER_SECOND);
+                    if (dp > 0) {
+                        if (value < 0 && value > -DateTimeConstants.MILLIS_PER_SECOND) {
+                            buf.insert(bufLen, '-');
+                        }
+                        buf.append('.');
+                        FormatUtils.appendPaddedInteger(buf, dp, 3);
+                    }
+                } else {
+                    FormatUtils.appendUnpaddedInteger(buf, (int) value);
+                }
+                buf.append(SUFFIXES[field]);
+            }
+        }
+
+        public void printTo(Writer out, ReadablePeriod period, Locale locale) throws IOException {
+            iPrinter.printTo(out, period, locale);
+        }
+
+        /**
+         * Finds the field that is printed when the period is zero.
+         * 
+         * @param period  the period to print
+         * @return the last supported field if the period is zero, otherwise -1
+         */
+        private static int findZeroField(ReadablePeriod period) {
+            for (int i = 0, isize = period.size(); i < isize; i++) {
+                if (period.getValue(i) != 0) {
+                    return -1;
+                }
+            }
+            PeriodType type = period.getPeriodType();
+            for (int field = SECONDS; field >= YEARS; field--) {
+                if (isSupported(type, field)) {
+                    return field;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Gets the value to print for a field.
+         * 
+         * @param period  the period to print
+         * @param field  the field index
+         * @param zeroField  the field to print if the period is zero
+         * @return the value, with seconds and millis combined, Long.MAX_VALUE if not printed
+         */
+        private static long getFieldValue(ReadablePeriod period, int field, int zeroField) {
+            if (field == zeroField) {
+                return 0;
+            }
+            if (isSupported(period.getPeriodType(), field) == false) {
+                return Long.MAX_VALUE;
+            }
+            long value;
+            switch (field) {
+                case YEARS:
+                    value = period.get(DurationFieldType.years());
+                    break;
+                case MONTHS:
+                    value = period.get(DurationFieldType.months());
+                    break;
+                case WEEKS:
+                    value = period.get(DurationFieldType.weeks());
+                    break;
+                case DAYS:
+                    value = period.get(DurationFieldType.days());
+                    break;
+                case HOURS:
+                    value = period.get(DurationFieldType.hours());
+                    break;
+                case MINUTES:
+                    value = period.get(DurationFieldType.minutes());
+                    break;
+                default:
+                    value = period.get(DurationFieldType.seconds()) * ((long) DateTimeConstants.MILLIS_PER_SECOND) +
+                                period.get(DurationFieldType.millis());
+                    break;
+            }
+            return (value == 0 ? Long.MAX_VALUE : value);
+        }
+
+        private static boolean isSupported(PeriodType type, int field) {
+            switch (field) {
+                case YEARS:
+                    return type.isSupported(DurationFieldType.years());
+                case MONTHS:
+                    return type.isSupported(DurationFieldType.months());
+                case WEEKS:
+                    return type.isSupported(DurationFieldType.weeks());
+                case DAYS:
+                    return type.isSupported(DurationFieldType.days());
+                case HOURS:
+                    return type.isSupported(DurationFieldType.hours());
+                case MINUTES:
+                    return type.isSupported(DurationFieldType.minutes());
+                default:
+                    return type.isSupported(DurationFieldType.seconds()) ||
+                           type.isSupported(DurationFieldType.millis());
+            }
+        }
+
+        //-----------------------------------------------------------------------
+        public int parseInto(ReadWritablePeriod period, String periodStr, int position, Locale locale) {
+            int length = periodStr.length();
+            if (position < 0 || position >= length || periodStr.charAt(position) != 'P') {
+                return iParser.parseInto(period, periodStr, position, locale);
+            }
+            int years = 0, months = 0, weeks = 0, days = 0, hours = 0, minutes = 0, seconds = 0, millis = 0;
+            int lastField = -1;
+            int fieldsFound = 0;
+            boolean time = false;
+            int pos = position + 1;
+            while (pos < length) {
+                char c = periodStr.charAt(pos);
+                if (c == 'T') {
+                    if (time) {
+                        return iParser.parseInto(period, periodStr, position, locale);
+                    }
+                    time = true;
+                    pos++;
+                    continue;
+                }
+                boolean negative = (c == '-');
+                if (negative) {
+                    pos++;
+                }
+                int start = pos;
+                int value = 0;
+                while (pos < length && (c = periodStr.charAt(pos)) >= '0' && c <= '9') {
+                    value = ((value << 3) + (value << 1)) + c - '0';
+                    pos++;
+                }
+                int digits = pos - start;
+                if (digits == 0 || digits > 9 || pos >= length) {
+                    return iParser.parseInto(period, periodStr, position, locale);
+                }
+                value = (negative ? -value : value);
+                int fraction = 0;
+                if (c == '.' || c == ',') {
+                    start = ++pos;
+                    while (pos < length && (c = periodStr.charAt(pos)) >= '0' && c <= '9') {
+                        if (pos - start < 3) {
+                            fraction = ((fraction << 3) + (fraction << 1)) + c - '0';
+                        }
+                        pos++;
+                    }
+                    int fractionDigits = pos - start;
+                    if (time == false || c != 'S' || fractionDigits == 0 ||
+                            digits + fractionDigits > 10 || pos >= length) {
+                        return iParser.parseInto(period, periodStr, position, locale);
+                    }
+                    if (fractionDigits == 1) {
+                        fraction *= 100;
+                    } else if (fractionDigits == 2) {
+                        fraction *= 10;
+                    }
+                    if (negative) {
+                        fraction = -fraction;
+                    }
+                }
+                int field;
+                switch (c) {
+                    case 'Y':
+                        field = (time ? -1 : YEARS);
+                        break;
+                    case 'M':
+                        field = (time ? MINUTES : MONTHS);
+                        break;
+                    case 'W':
+                        field = (time ? -1 : WEEKS);
+                        break;
+                    case 'D':
+                        field = (time ? -1 : DAYS);
+                        break;
+                    case 'H':
+                        field = (time ? HOURS : -1);
+                        break;
+                    case 'S':
+                        field = (time ? SECONDS : -1);
+                        break;
+                    default:
+                        field = -1;
+                        break;
+                }
+                if (field <= lastField) {
+                    return iParser.parseInto(period, periodStr, position, locale);
+                }
+                switch (field) {
+                    case YEARS:
+                        years = value;
+                        break;
+                    case MONTHS:
+                        months = value;
+                        break;
+                    case WEEKS:
+                        weeks = value;
+                        break;
+                    case DAYS:
+                        days = value;
+                        break;
+                    case HOURS:
+                        hours = value;
+                        break;
+                    case MINUTES:
+                        minutes = value;
+                        break;
+                    default:
+                        seconds = value;
+                        millis = fraction;
+                        break;
+                }
+                fieldsFound |= (1 << field);
+                lastField = field;
+                pos++;
+            }
+            if (lastField < 0 || (time && lastField < HOURS)) {
+                return iParser.parseInto(period, periodStr, position, locale);
+            }
+            
+            // set the fields in the same order as the general purpose parser
+            if ((fieldsFound & (1 << YEARS)) != 0) {
+                period.setYears(years);
+            }
+            if ((fieldsFound & (1 << MONTHS)) != 0) {
+                period.setMonths(months);
+            }
+            if ((fieldsFound & (1 << WEEKS)) != 0) {
+                period.setWeeks(weeks);
+            }
+            if ((fieldsFound & (1 << DAYS)) != 0) {
+                period.setDays(days);
+            }
+            if ((fieldsFound & (1 << HOURS)) != 0) {
+                period.setHours(hours);
+            }
+            if ((fieldsFound & (1 << MINUTES)) != 0) {
+                period.setMinutes(minutes);
+            }
+            if ((fieldsFound & (1 << SECONDS)) != 0) {
+                period.setSeconds(seconds);
+                period.setMillis(millis);
+            }
+            return length;
+        }
+    }
+
 }
@@ -0,0 +1,247 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.field.MillisDurationField;
+import org.joda.time.field.PreciseDateTimeField;
+
+/**
+ * Single pass parser for the common forms of the generic ISO date-time parsers.
+ * <p>
+ * The generic parsers in {@link ISODateTimeFormat} are trees of alternatives,
+ * where each alternative is tried in turn, saving and restoring the state of the bucket.
+ * This parser instead recognises the usual extended format by looking ahead, such as
+ * {@code 2004-06-09}, {@code 2004-06-09T10:20:30.123} and {@code 2004-06-09T10:20+01:00},
+ * and only writes to the bucket once the whole text has been matched.
+ * <p>
+ * Any other text, including text that is invalid, is passed to the tree of alternatives.
+ * The fields saved for the recognised forms are the same as those saved by the tree,
+ * thus the results of parsing are identical.
+ * <p>
+ * IsoDateTimeParser is thread-safe and immutable.
+ *
+ * @since 2.15
+ */
+final class IsoDateTimeParser implements InternalParser {
+
+    /** The parser of the full grammar. */
+    private final InternalParser iFallback;
+    /** Whether the date may be omitted when the text starts with 'T'. */
+    private final boolean iTimeOnly;
+    /** Whether an offset may follow the time. */
+    private final boolean iOffset;
+
+    /**
+     * Constructor.
+     *
+     * @param fallback  the parser of the full grammar, not null
+     * @param timeOnly  whether the date may be omitted when the text starts with 'T'
+     * @param offset  whether an offset may follow the time
+     */
+    IsoDateTimeParser(InternalParser fallback, boolean timeOnly, boolean offset) {
+        iFallback = fallback;
+        iTimeOnly = timeOnly;
+        iOffset = offset;
+    }
+
+    /**
+     * Gets the parser of the full grammar.
+     *
+     * @return the parser, not null
+     */
+    InternalParser getFallback() {
+        return iFallback;
+    }
+
+    //-----------------------------------------------------------------------
+    public int estimateParsedLength() {
+        return iFallback.estimateParsedLength();
+    }
+
+    public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
+        int length = text.length();
+        int pos = position;
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        boolean date = true;
+        if (iTimeOnly && pos < length && text.charAt(pos) == 'T') {
+            date = false;
+        } else {
+            if (length - pos < 10 || text.charAt(pos + 4) != '-' || text.charAt(pos + 7) != '-') {
+                return iFallback.parseInto(bucket, text, position);
+            }
+            year = digits(text, pos, 4);
+            month = digits(text, pos + 5, 2);
+            day = digits(text, pos + 8, 2);
+            if (year < 0 || month < 0 || day < 0) {
+                return iFallback.parseInto(bucket, text, position);
+            }
+            pos += 10;
+            if (pos == length) {
+                bucket.saveField(DateTimeFieldType.year(), year);
+                bucket.saveField(DateTimeFieldType.monthOfYear(), month);
+                bucket.saveField(DateTimeFieldType.dayOfMonth(), day);
+                return pos;
+            }
+            if (text.charAt(pos) != 'T') {
+                return iFallback.parseInto(bucket, text, position);
+            }
+        }
+        pos++;
+
+        // time-element, the hour is required
+        int hour = digits(text, pos, 2);
+        if (hour < 0) {
+            return iFallback.parseInto(bucket, text, position);
+        }
+        pos += 2;
+        int minute = -1;
+        int second = -1;
+        int fractionDigits = 0;
+        int fractionStart = 0;
+        if (pos < length && text.charAt(pos) == ':') {
+            minute = digits(text, pos + 1, 2);
+            if (minute < 0) {
+                return iFallback.parseInto(bucket, text, position);
+            }
+            pos += 3;
+            if (pos < length && text.charAt(pos) == ':') {
+                second = digits(text, pos + 1, 2);
+                if (second < 0) {
+                    return iFallback.parseInto(bucket, text, position);
+                }
+                pos += 3;
+                if (pos < length && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                    fractionStart = ++pos;
+                    while (pos < length && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+                        pos++;
+                    }
+                    fractionDigits = pos - fractionStart;
+                    if (fractionDigits == 0 || fractionDigits > 9) {
+                        return iFallback.parseInto(bucket, text, position);
+                    }
+                }
+            }
+        }
+
+        // offset
+        Integer offset = null;
+        if (pos < length) {
+            char c = text.charAt(pos);
+            if (iOffset == false) {
+                return iFallback.parseInto(bucket, text, position);
+            } else if (c == 'Z') {
+                offset = Integer.valueOf(0);
+                pos++;
+            } else if (c == '+' || c == '-') {
+                int offsetHours = digits(text, pos + 1, 2);
+                if (offsetHours < 0 || offsetHours > 23) {
+                    return iFallback.parseInto(bucket, text, position);
+                }
+                int millis = offsetHours * DateTimeConstants.MILLIS_PER_HOUR;
+                pos += 3;
+                if (pos < length) {
+                    int offsetMinutes = (text.charAt(pos) == ':' ? digits(text, pos + 1, 2) : -1);
+                    if (offsetMinutes < 0 || offsetMinutes > 59) {
+                        return iFallback.parseInto(bucket, text, position);
+                    }
+                    millis += offsetMinutes * DateTimeConstants.MILLIS_PER_MINUTE;
+                    pos += 3;
+                }
+                offset = Integer.valueOf(c == '-' ? -millis : millis);
+            } else {
+                return iFallback.parseInto(bucket, text, position);
+            }
+            if (pos != length) {
+                return iFallback.parseInto(bucket, text, position);
+            }
+        }
+
+        // the whole text matched, so save the fields in the order of the tree
+        if (date) {
+            bucket.saveField(DateTimeFieldType.year(), year);
+            bucket.saveField(DateTimeFieldType.monthOfYear(), month);
+            bucket.saveField(DateTimeFieldType.dayOfMonth(), day);
+        }
+        bucket.saveField(DateTimeFieldType.hourOfDay(), hour);
+        if (minute >= 0) {
+            bucket.saveField(DateTimeFieldType.minuteOfHour(), minute);
+        }
+        if (second >= 0) {
+            bucket.saveField(DateTimeFieldType.secondOfMinute(), second);
+        }
+        if (fractionDigits > 0) {
+            saveFraction(bucket, text, fractionStart, fractionDigits);
+        }
+        if (offset != null) {
+            bucket.setOffset(offset);
+        }
+        return pos;
+    }
+
+    /**
+     * Saves the fraction of second in the same way as the fraction parser.
+     */
+    private static void saveFraction(DateTimeParserBucket bucket, CharSequence text, int start, int count) {
+        DateTimeField field = DateTimeFieldType.secondOfDay().getField(bucket.getChronology());
+        long value = 0;
+        long n = field.getDurationField().getUnitMillis() * 10;
+        for (int i = 0; i < count; i++) {
+            long nn = n / 10;
+            value += (text.charAt(start + i) - '0') * nn;
+            n = nn;
+        }
+        value /= 10;
+        DateTimeField parseField = new PreciseDateTimeField(
+            DateTimeFieldType.millisOfSecond(),
+            MillisDurationField.INSTANCE,
+            field.getDurationField());
+        bucket.saveField(parseField, (int) value);
+    }
+
+    /**
+     * Parses a fixed number of digits that must not be followed by another digit.
+     *
+     * @return the value, negative if the digits are not present
+     */
+    private static int digits(CharSequence text, int position, int count) {
+        int end = position + count;
+        int length = text.length();
+        if (end > length) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = position; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (end < length) {
+            char c = text.charAt(end);
+            if (c >= '0' && c <= '9') {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded cache of formatters keyed by pattern, with frequency-aware eviction.
+ * <p>
+ * Lookups of cached patterns are lock-free. The frequency of every requested pattern,
+ * cached or not, is recorded in a small count-min sketch whose counters are halved
+ * periodically, so that the counts reflect recent use.
+ * When the cache is full, a newly built formatter is only admitted if its pattern
+ * has been requested more often than the least frequent of a sample of cached patterns,
+ * which is then evicted. Thus one-off patterns do not displace hot patterns,
+ * while a pattern that becomes hot is soon admitted.
+ * <p>
+ * Every request counts towards the periodic halving, thus a pattern that is requested
+ * more than the cached patterns is eventually admitted, even once the counters are at their maximum.
+ * <p>
+ * The frequency sketch is updated without locking, and may lose the occasional increment.
+ * A counter is only written while below its maximum, so hot patterns do not write to it.
+ * The hit and miss counts are striped by thread, and the requests are added to the shared
+ * count in batches, thus threads looking up cached patterns do not contend on the same memory.
+ * This only affects the accuracy of the eviction decisions, never the formatters returned.
+ * <p>
+ * PatternCache is thread-safe.
+ *
+ * @since 2.15
+ */
+final class PatternCache {
+
+    /** The number of cached patterns examined to find a victim. */
+    private static final int SAMPLE_SIZE = 8;
+    /** The minimum number of frequency counters, avoiding collisions in small caches. */
+    private static final int MIN_SKETCH_WIDTH = 256;
+    /** The maximum value of a frequency counter. */
+    private static final int MAX_FREQUENCY = 15;
+    /** The multipliers used to derive the sketch indices. */
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+    /** The number of stripes of request counters, a power of two. */
+    private static final int STRIPES = 16;
+    /** The spacing of the stripes in longs, placing each stripe on its own cache line. */
+    private static final int STRIPE_SPACING = 8;
+    /** The offset of the hit count within a stripe. */
+    private static final int HITS = 0;
+    /** The offset of the miss count within a stripe. */
+    private static final int MISSES = 1;
+    /** The offset of the request count within a stripe. */
+    private static final int REQUESTS = 2;
+    /** The number of requests counted by a stripe before adding them to the shared count, a power of two. */
+    private static final int REQUEST_BATCH = 16;
+
+    /** The cached formatters. */
+    private final ConcurrentHashMap<String, DateTimeFormatter> iMap = new ConcurrentHashMap<String, DateTimeFormatter>();
+    /** The hit, miss and request counts, striped by thread. */
+    private final AtomicLongArray iCounts = new AtomicLongArray(STRIPES * STRIPE_SPACING);
+    /** The number of evictions. */
+    private final AtomicLong iEvictions = new AtomicLong();
+    /** The maximum size, zero to disable caching. */
+    private volatile int iMaximumSize;
+    /** The frequency counters, guarded by this cache when replaced. */
+    private volatile int[] iSketch;
+    /** The number of requests since the counters were last halved, guarded by this cache. */
+    private int iRequests;
+    /** The cached patterns in clock order, guarded by this cache. */
+    private String[] iClock;
+    /** The clock hand, guarded by this cache. */
+    private int iHand;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize  the maximum size, zero or greater
+     */
+    PatternCache(int maximumSize) {
+        setMaximumSize(maximumSize);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the maximum size.
+     *
+     * @return the maximum size
+     */
+    int getMaximumSize() {
+        return iMaximumSize;
+    }
+
+    /**
+     * Sets the maximum size, clearing the cache.
+     *
+     * @param maximumSize  the maximum size, zero to disable caching
+     * @throws IllegalArgumentException if the size is negative
+     */
+    synchronized void setMaximumSize(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Pattern cache size must not be negative: " + maximumSize);
+        }
+        int width = MIN_SKETCH_WIDTH;
+        while (width < maximumSize * 8 && width < (1 << 24)) {
+            width <<= 1;
+        }
+        iMap.clear();
+        iClock = new String[maximumSize];
+        iHand = 0;
+        iSketch = new int[width];
+        iRequests = 0;
+        iMaximumSize = maximumSize;
+    }
+
+    /**
+     * Gets the statistics of the cache.
+     *
+     * @return the statistics, not null
+     */
+    PatternCacheStatistics getStatistics() {
+        long hits = 0;
+        long misses = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            hits += iCounts.get(i * STRIPE_SPACING + HITS);
+            misses += iCounts.get(i * STRIPE_SPACING + MISSES);
+        }
+        return new PatternCacheStatistics(iMap.size(), iMaximumSize, hits, misses, iEvictions.get());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter for a pattern, recording the request.
+     *
+     * @param pattern  the pattern, not null
+     * @return the cached formatter, null if not cached
+     */
+    DateTimeFormatter get(String pattern) {
+        increment(pattern);
+        DateTimeFormatter formatter = iMap.get(pattern);
+        int stripe = ((int) Thread.currentThread().getId() & (STRIPES - 1)) * STRIPE_SPACING;
+        iCounts.incrementAndGet(stripe + (formatter != null ? HITS : MISSES));
+        if ((iCounts.incrementAndGet(stripe + REQUESTS) & (REQUEST_BATCH - 1)) == 0) {
+            addRequests(REQUEST_BATCH);
+        }
+        return formatter;
+    }
+
+    /**
+     * Offers a newly built formatter to the cache.
+     * <p>
+     * If the cache is full, the formatter is only admitted if its pattern is
+     * more frequent than the least frequent of a sample of cached patterns.
+     *
+     * @param pattern  the pattern, not null
+     * @param formatter  the formatter, not null
+     * @return the formatter to use, which may have been cached by another thread
+     */
+    synchronized DateTimeFormatter put(String pattern, DateTimeFormatter formatter) {
+        DateTimeFormatter existing = iMap.get(pattern);
+        if (existing != null) {
+            return existing;
+        }
+        String[] clock = iClock;
+        if (clock.length == 0) {
+            return formatter;
+        }
+        int size = iMap.size();
+        if (size < clock.length) {
+            clock[size] = pattern;
+            iMap.put(pattern, formatter);
+            return formatter;
+        }
+        int victimIndex = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (int i = 0, sample = Math.min(SAMPLE_SIZE, clock.length); i < sample; i++) {
+            int index = iHand;
+            iHand = (index + 1 == clock.length ? 0 : index + 1);
+            int frequency = frequency(clock[index]);
+            if (frequency < victimFrequency) {
+                victimIndex = index;
+                victimFrequency = frequency;
+            }
+        }
+        if (frequency(pattern) > victimFrequency) {
+            iMap.remove(clock[victimIndex]);
+            iEvictions.incrementAndGet();
+            clock[victimIndex] = pattern;
+            iMap.put(pattern, formatter);
+        }
+        return formatter;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Increments the frequency of a pattern.
+     *
+     * @param pattern  the pattern, not null
+     */
+    private void increment(String pattern) {
+        int[] sketch = iSketch;
+        int hash = spread(pattern.hashCode());
+        int mask = sketch.length - 1;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = (hash * SEEDS[i]) >>> 8 & mask;
+            int count = sketch[index];
+            if (count < MAX_FREQUENCY) {
+                sketch[index] = count + 1;
+            }
+        }
+    }
+
+    /**
+     * Adds a batch of requests to the shared count, halving the frequencies
+     * once the number of requests reaches the number of counters.
+     *
+     * @param requests  the number of requests
+     */
+    private void addRequests(int requests) {
+        // only called once per batch, so the lock is rarely taken
+        synchronized (this) {
+            int[] sketch = iSketch;
+            iRequests += requests;
+            if (iRequests >= sketch.length) {
+                iRequests = 0;
+                for (int i = 0; i < sketch.length; i++) {
+                    sketch[i] >>>= 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the estimated recent frequency of a pattern.
+     *
+     * @param pattern  the pattern, not null
+     * @return the frequency, from 0 to 15
+     */
+    private int frequency(String pattern) {
+        int[] sketch = iSketch;
+        int hash = spread(pattern.hashCode());
+        int mask = sketch.length - 1;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, sketch[(hash * SEEDS[i]) >>> 8 & mask]);
+        }
+        return frequency;
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        return hash * 0x45D9F3B;
+    }
+
+}
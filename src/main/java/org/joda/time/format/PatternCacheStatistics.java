@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+/**
+ * PatternCacheStatistics is a snapshot of the statistics of the pattern cache
+ * used by {@link DateTimeFormat#forPattern(String)}.
+ * <p>
+ * The counts are cumulative since the class was loaded.
+ * <p>
+ * PatternCacheStatistics is thread-safe and immutable.
+ *
+ * @since 2.15
+ * @see DateTimeFormat#getPatternCacheStatistics()
+ */
+public final class PatternCacheStatistics {
+
+    /** The number of cached formatters. */
+    private final int iSize;
+    /** The maximum number of cached formatters. */
+    private final int iMaximumSize;
+    /** The number of requests that found a cached formatter. */
+    private final long iHitCount;
+    /** The number of requests that built a formatter. */
+    private final long iMissCount;
+    /** The number of formatters evicted. */
+    private final long iEvictionCount;
+
+    /**
+     * Constructor.
+     *
+     * @param size  the number of cached formatters
+     * @param maximumSize  the maximum number of cached formatters
+     * @param hitCount  the number of hits
+     * @param missCount  the number of misses
+     * @param evictionCount  the number of evictions
+     */
+    PatternCacheStatistics(int size, int maximumSize, long hitCount, long missCount, long evictionCount) {
+        iSize = size;
+        iMaximumSize = maximumSize;
+        iHitCount = hitCount;
+        iMissCount = missCount;
+        iEvictionCount = evictionCount;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of formatters in the cache.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return iSize;
+    }
+
+    /**
+     * Gets the maximum number of formatters that the cache holds.
+     *
+     * @return the maximum size, zero if caching is disabled
+     */
+    public int getMaximumSize() {
+        return iMaximumSize;
+    }
+
+    /**
+     * Gets the number of requests that returned a cached formatter.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return iHitCount;
+    }
+
+    /**
+     * Gets the number of requests that had to build a formatter.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return iMissCount;
+    }
+
+    /**
+     * Gets the number of formatters evicted to make room for more frequent patterns.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return iEvictionCount;
+    }
+
+    /**
+     * Gets the ratio of hits to requests.
+     *
+     * @return the hit rate, from 0 to 1, 1 if there have been no requests
+     */
+    public double getHitRate() {
+        long requests = iHitCount + iMissCount;
+        return (requests == 0 ? 1d : (double) iHitCount / requests);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the statistics as a string.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return "PatternCacheStatistics[size=" + iSize + ", maximumSize=" + iMaximumSize +
+                ", hits=" + iHitCount + ", misses=" + iMissCount + ", evictions=" + iEvictionCount + "]";
+    }
+
+}
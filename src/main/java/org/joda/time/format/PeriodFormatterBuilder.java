@@ -1197,6 +1197,11 @@ public class PeriodFormatterBuilder {
         
         private final String[] iSuffixes;
         private final Pattern[] iPatterns;
+        /**
+         * The regular expressions compiled to simple numeric rules, null where not recognised.
+         * Each rule is {mod, min, max, excludeMod, excludeMin, excludeMax}, see {@link #matchesRule}.
+         */
+        private final int[][] iRules;
 
         // The parse method has to iterate over the suffixes from the longest one to the shortest one
         // Otherwise it might consume not enough characters.
@@ -1205,7 +1210,12 @@ public class PeriodFormatterBuilder {
         RegExAffix(String[] regExes, String[] texts) {
             iSuffixes = texts.clone();
             iPatterns = new Pattern[regExes.length];
+            iRules = new int[regExes.length][];
             for (int i = 0; i < regExes.length; i++) {
+                iRules[i] = compileRule(regExes[i]);
+                if (iRules[i] != null) {
+                    continue;
+                }
                 Pattern pattern = PATTERNS.get(regExes[i]);
                 if (pattern == null) {
                     pattern = Pattern.compile(regExes[i]);
@@ -1218,15 +1228,204 @@ public class PeriodFormatterBuilder {
         }
 
         private int selectSuffixIndex(int value) {
-            String valueString = String.valueOf(value);
+            String valueString = null;
             for (int i = 0; i < iPatterns.length; i++) {
-                if (iPatterns[i].matcher(valueString).matches()) {
-                    return i;
+                int[] rule = iRules[i];
+                if (rule != null) {
+                    if (matchesRule(rule, value)) {
+                        return i;
+                    }
+                } else {
+                    if (valueString == null) {
+                        valueString = String.valueOf(value);
+                    }
+                    if (iPatterns[i].matcher(valueString).matches()) {
+                        return i;
+                    }
                 }
             }
             return iPatterns.length - 1;
         }
 
+        /**
+         * Checks whether a value matches a compiled rule.
+         * <p>
+         * All the recognised regular expressions only match digits, thus negative
+         * values never match. Otherwise the value, taken modulo the mod if non-zero,
+         * must be between min and max, and the value, taken modulo the exclude mod,
+         * must not be between the exclude min and max.
+         * 
+         * @param rule  the rule, not null
+         * @param value  the value to check
+         * @return true if the rule matches
+         */
+        static boolean matchesRule(int[] rule, int value) {
+            if (value < 0) {
+                return false;
+            }
+            int test = (rule[0] == 0 ? value : value % rule[0]);
+            if (test < rule[1] || test > rule[2]) {
+                return false;
+            }
+            if (rule[3] != 0) {
+                test = value % rule[3];
+                return test < rule[4] || test > rule[5];
+            }
+            return true;
+        }
+
+        /**
+         * Compiles the common plural rule regular expressions to a numeric rule.
+         * <p>
+         * The recognised forms, with optional '^' and '$' anchors, are a literal number
+         * such as {@code 1}, a digit range such as {@code [2-4]}, any number {@code [0-9]*},
+         * a last digit such as {@code [0-9]*1} or {@code [0-9]*[2-4]},
+         * a last digit not preceded by a digit such as {@code [0-9]*(?<!1)[2-4]}, and
+         * a last digit with a prefix excluding endings such as {@code (?![0-9]*11$)} or
+         * {@code (?![0-9]*(?:12|13|14)$)}.
+         * 
+         * @param regEx  the regular expression
+         * @return the rule, null if not recognised
+         */
+        static int[] compileRule(String regEx) {
+            int[] exclude = null;
+            if (regEx.startsWith("(?![0-9]*")) {
+                int end = regEx.indexOf("$)");
+                if (end < 0) {
+                    return null;
+                }
+                exclude = compileEndings(regEx.substring(9, end));
+                if (exclude == null) {
+                    return null;
+                }
+                regEx = regEx.substring(end + 2);
+            }
+            if (regEx.startsWith("^")) {
+                regEx = regEx.substring(1);
+            }
+            if (regEx.endsWith("$")) {
+                regEx = regEx.substring(0, regEx.length() - 1);
+            }
+            int[] rule;
+            if (regEx.equals("[0-9]*")) {
+                rule = new int[] {0, 0, Integer.MAX_VALUE, 0, 0, 0};
+            } else if (regEx.startsWith("[0-9]*(?<!") && regEx.length() > 14 && regEx.charAt(11) == ')') {
+                char preceding = regEx.charAt(10);
+                int[] range = compileDigits(regEx.substring(12));
+                if (preceding < '1' || preceding > '9' || range == null || exclude != null) {
+                    return null;
+                }
+                int tens = (preceding - '0') * 10;
+                rule = new int[] {10, range[0], range[1], 100, tens + range[0], tens + range[1]};
+            } else if (regEx.startsWith("[0-9]*")) {
+                int[] range = compileDigits(regEx.substring(6));
+                if (range == null) {
+                    return null;
+                }
+                rule = new int[] {10, range[0], range[1], 0, 0, 0};
+            } else {
+                int value = compileNumber(regEx);
+                if (value >= 0) {
+                    rule = new int[] {0, value, value, 0, 0, 0};
+                } else {
+                    int[] range = compileDigits(regEx);
+                    if (range == null) {
+                        return null;
+                    }
+                    rule = new int[] {0, range[0], range[1], 0, 0, 0};
+                }
+            }
+            if (exclude != null) {
+                if (rule[3] != 0) {
+                    return null;
+                }
+                rule[3] = exclude[0];
+                rule[4] = exclude[1];
+                rule[5] = exclude[2];
+            }
+            return rule;
+        }
+
+        /**
+         * Compiles a single digit or a digit range, such as '1' or '[2-4]'.
+         * 
+         * @param regEx  the regular expression
+         * @return the min and max, null if not recognised
+         */
+        private static int[] compileDigits(String regEx) {
+            if (regEx.length() == 1) {
+                char c = regEx.charAt(0);
+                if (c >= '0' && c <= '9') {
+                    return new int[] {c - '0', c - '0'};
+                }
+            } else if (regEx.length() == 5 && regEx.charAt(0) == '[' && regEx.charAt(2) == '-' && regEx.charAt(4) == ']') {
+                char min = regEx.charAt(1);
+                char max = regEx.charAt(3);
+                if (min >= '0' && max <= '9' && min <= max) {
+                    return new int[] {min - '0', max - '0'};
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Compiles a list of excluded endings, such as '11' or '(?:12|13|14)'.
+         * The endings must be the same length, not start with zero and form a
+         * continuous range.
+         * 
+         * @param regEx  the regular expression
+         * @return the mod, min and max, null if not recognised
+         */
+        private static int[] compileEndings(String regEx) {
+            String[] endings;
+            if (regEx.startsWith("(?:") && regEx.endsWith(")")) {
+                endings = regEx.substring(3, regEx.length() - 1).split("\\|");
+            } else {
+                endings = new String[] {regEx};
+            }
+            int length = endings[0].length();
+            int min = Integer.MAX_VALUE;
+            int max = -1;
+            for (String ending : endings) {
+                int value = compileNumber(ending);
+                if (value < 0 || ending.length() != length || ending.charAt(0) == '0') {
+                    return null;
+                }
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min + 1 != endings.length || length > 4) {
+                return null;
+            }
+            int mod = 1;
+            for (int i = 0; i < length; i++) {
+                mod *= 10;
+            }
+            return new int[] {mod, min, max};
+        }
+
+        /**
+         * Compiles a literal number of up to nine digits, without leading zeroes.
+         * 
+         * @param regEx  the regular expression
+         * @return the number, -1 if not recognised
+         */
+        private static int compileNumber(String regEx) {
+            int length = regEx.length();
+            if (length == 0 || length > 9 || (length > 1 && regEx.charAt(0) == '0')) {
+                return -1;
+            }
+            int value = 0;
+            for (int i = 0; i < length; i++) {
+                char c = regEx.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+
         public int calculatePrintedLength(int value) {
             return iSuffixes[selectSuffixIndex(value)].length();
         }
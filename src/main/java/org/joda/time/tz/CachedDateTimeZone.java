@@ -15,7 +15,9 @@
  */
 package org.joda.time.tz;
 
+import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
+import org.joda.time.JodaTimePermission;
 
 /**
  * Improves the performance of requesting time zone offsets and name keys by
@@ -32,6 +34,8 @@ public class CachedDateTimeZone extends DateTimeZone {
     private static final long serialVersionUID = 5472298452022250685L;
 
     private static final int cInfoCacheMask;
+    /** The maximum number of transitions in the range of precalculated offsets. */
+    private static final int MAX_WINDOW_TRANSITIONS = 64;
 
     static {
         Integer i;
@@ -83,6 +87,9 @@ public class CachedDateTimeZone extends DateTimeZone {
 
     private final transient Info[] iInfoCache = new Info[cInfoCacheMask + 1];
 
+    /** The precalculated offsets, null if none. */
+    private transient volatile OffsetWindow iWindow;
+
     private CachedDateTimeZone(DateTimeZone zone) {
         super(zone.getID());
         iZone = zone;
@@ -95,6 +102,111 @@ public class CachedDateTimeZone extends DateTimeZone {
         return iZone;
     }
 
+    /**
+     * Precalculates the offsets for a fixed range of instants.
+     * <p>
+     * The offset of an instant within the range is then found by scanning a small
+     * table of transitions, without looking up the cache of periods.
+     * Only one range is held, replacing any previous range.
+     * If the range contains more than a few transitions, no offsets are precalculated.
+     * <p>
+     * Zones are shared, so this requires the permission
+     * {@code CachedDateTimeZone.precalculateOffsets}.
+     *
+     * @param startMillis  the start of the range, inclusive
+     * @param endMillis  the end of the range, exclusive
+     * @throws IllegalArgumentException if the end is before the start
+     * @throws SecurityException if the application has insufficient security rights
+     * @since 2.15
+     */
+    public void precalculateOffsets(long startMillis, long endMillis) throws SecurityException {
+        checkPermission();
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("The end instant must be equal to or after the start instant");
+        }
+        setWindow(OffsetWindow.create(iZone, startMillis, endMillis, 0L));
+    }
+
+    /**
+     * Precalculates the offsets for a range either side of now, moving the range
+     * as the current time nears either end of it.
+     * <p>
+     * This is the same as {@link #precalculateOffsets(long, long)}, except that
+     * the range is recalculated around the current time once half the range
+     * has passed.
+     *
+     * @param rangeMillis  the range either side of now, greater than zero
+     * @throws IllegalArgumentException if the range is not greater than zero
+     * @throws SecurityException if the application has insufficient security rights
+     * @since 2.15
+     */
+    public void precalculateOffsetsAroundNow(long rangeMillis) throws SecurityException {
+        checkPermission();
+        if (rangeMillis <= 0) {
+            throw new IllegalArgumentException("The range must be greater than zero");
+        }
+        long now = DateTimeUtils.currentTimeMillis();
+        setWindow(OffsetWindow.create(iZone, now - rangeMillis, now + rangeMillis, rangeMillis));
+    }
+
+    /**
+     * Clears any precalculated offsets.
+     *
+     * @throws SecurityException if the application has insufficient security rights
+     * @since 2.15
+     */
+    public void clearPrecalculatedOffsets() throws SecurityException {
+        checkPermission();
+        setWindow(null);
+    }
+
+    /**
+     * Checks whether the offset of an instant has been precalculated.
+     *
+     * @param instant  the instant to check
+     * @return true if precalculated
+     */
+    boolean isPrecalculated(long instant) {
+        OffsetWindow window = iWindow;
+        return window != null && instant >= window.iStart && instant < window.iEnd;
+    }
+
+    private static void checkPermission() throws SecurityException {
+        SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(new JodaTimePermission("CachedDateTimeZone.precalculateOffsets"));
+        }
+    }
+
+    private synchronized void setWindow(OffsetWindow window) {
+        iWindow = window;
+    }
+
+    /**
+     * Recalculates a moving range if the current time is nearing either end of it.
+     *
+     * @param window  the range that did not contain the instant, not null
+     * @param instant  the instant that was not in the range
+     */
+    private void refreshWindow(OffsetWindow window, long instant) {
+        long range = window.iRange;
+        // only instants near the range suggest that the current time has moved
+        if (instant < window.iStart - range || instant >= window.iEnd + range) {
+            return;
+        }
+        long now = DateTimeUtils.currentTimeMillis();
+        if (now - window.iStart >= range / 2 && window.iEnd - now > range / 2) {
+            return;
+        }
+        OffsetWindow refreshed = OffsetWindow.create(iZone, now - range, now + range, range);
+        synchronized (this) {
+            // not if the range was replaced or cleared meanwhile
+            if (iWindow == window) {
+                iWindow = refreshed;
+            }
+        }
+    }
+
     @Override
     public String getNameKey(long instant) {
         return getInfo(instant).getNameKey(instant);
@@ -102,6 +214,15 @@ public class CachedDateTimeZone extends DateTimeZone {
 
     @Override
     public int getOffset(long instant) {
+        OffsetWindow window = iWindow;
+        if (window != null) {
+            if (instant >= window.iStart && instant < window.iEnd) {
+                return window.getOffset(instant);
+            }
+            if (window.iRange > 0) {
+                refreshWindow(window, instant);
+            }
+        }
         return getInfo(instant).getOffset(instant);
     }
 
@@ -174,6 +295,60 @@ public class CachedDateTimeZone extends DateTimeZone {
         return info;
     }
 
+    /**
+     * The offsets for a range of instants, held as the transitions within the range.
+     */
+    private final static class OffsetWindow {
+        final long iStart;
+        final long iEnd;
+        // the range either side of now, zero if the range is fixed
+        final long iRange;
+        private final long[] iTransitions;
+        private final int[] iOffsets;
+
+        static OffsetWindow create(DateTimeZone zone, long start, long end, long range) {
+            long[] transitions = new long[MAX_WINDOW_TRANSITIONS];
+            int[] offsets = new int[MAX_WINDOW_TRANSITIONS + 1];
+            offsets[0] = zone.getOffset(start);
+            int count = 0;
+            long instant = start;
+            while (true) {
+                long next = zone.nextTransition(instant);
+                if (next <= instant || next >= end) {
+                    break;
+                }
+                if (count == MAX_WINDOW_TRANSITIONS) {
+                    return null;
+                }
+                transitions[count] = next;
+                offsets[++count] = zone.getOffset(next);
+                instant = next;
+            }
+            long[] windowTransitions = new long[count];
+            int[] windowOffsets = new int[count + 1];
+            System.arraycopy(transitions, 0, windowTransitions, 0, count);
+            System.arraycopy(offsets, 0, windowOffsets, 0, count + 1);
+            return new OffsetWindow(start, end, range, windowTransitions, windowOffsets);
+        }
+
+        private OffsetWindow(long start, long end, long range, long[] transitions, int[] offsets) {
+            iStart = start;
+            iEnd = end;
+            iRange = range;
+            iTransitions = transitions;
+            iOffsets = offsets;
+        }
+
+        int getOffset(long instant) {
+            long[] transitions = iTransitions;
+            int i = 0;
+            while (i < transitions.length && instant >= transitions[i]) {
+                i++;
+            }
+            return iOffsets[i];
+        }
+    }
+
     private final static class Info {
         // For first Info in chain, iPeriodStart's lower 32 bits are clear.
         public final long iPeriodStart;
@@ -129,7 +129,17 @@ public class TestAll extends TestCase {
         suite.addTest(TestStringConvert.suite());
         suite.addTest(TestSerialization.suite());
         suite.addTest(TestIllegalFieldValueException.suite());
+        suite.addTest(TestJodaTimeWarmup.suite());
+        suite.addTest(TestBinaryCodec.suite());
+        suite.addTest(TestIntervalSet.suite());
+        suite.addTest(TestIntervalSequence.suite());
         suite.addTest(TestMinMaxLong.suite());
+        suite.addTest(TestRecurrence.suite());
+        suite.addTest(TestTimeBucketer.suite());
+        suite.addTest(TestLocalDateArray.suite());
+        suite.addTest(TestInstantArray.suite());
+        suite.addTest(TestLocalDateTimeArray.suite());
+        suite.addTest(TestPackedDate.suite());
         return suite;
     }
 
@@ -0,0 +1,312 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.CopticChronology;
+import org.joda.time.chrono.EthiopicChronology;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.GregorianChronology;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.IslamicChronology;
+import org.joda.time.chrono.JulianChronology;
+import org.joda.time.chrono.LenientChronology;
+
+/**
+ * This class is a Junit unit test for BinaryCodec.
+ */
+public class TestBinaryCodec extends TestCase {
+
+    private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+    private static final DateTimeZone TOKYO = DateTimeZone.forID("Asia/Tokyo");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestBinaryCodec.class);
+    }
+
+    public TestBinaryCodec(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    private Object[] values() {
+        return new Object[] {
+            new DateTime(2025, 6, 30, 12, 30, 40, 500, PARIS),
+            new DateTime(-123456789012L, ISOChronology.getInstanceUTC()),
+            new DateTime(2025, 6, 30, 12, 30, 40, 500, TOKYO),
+            new DateTime(2025, 6, 30, 12, 30, 40, 500, GregorianChronology.getInstance(PARIS, 2)),
+            new DateTime(2025, 6, 30, 12, 30, 40, 500, JulianChronology.getInstance(TOKYO)),
+            new DateTime(1500, 6, 30, 12, 30, 40, 500, GJChronology.getInstance(PARIS, new Instant(-10000000000000L), 3)),
+            new DateTime(2025, 6, 30, 12, 30, 40, 500, GJChronology.getInstanceUTC()),
+            new DateTime(2568, 6, 30, 12, 30, 40, 500, BuddhistChronology.getInstance(PARIS)),
+            new DateTime(1740, 6, 30, 12, 30, 40, 500, CopticChronology.getInstance(PARIS, 7)),
+            new DateTime(2017, 6, 30, 12, 30, 40, 500, EthiopicChronology.getInstanceUTC()),
+            new DateTime(1446, 6, 29, 12, 30, 40, 500,
+                    IslamicChronology.getInstance(TOKYO, IslamicChronology.LEAP_YEAR_INDIAN)),
+            new DateTime(0L, DateTimeZone.forOffsetHoursMinutes(5, 30)),
+            new MutableDateTime(2025, 6, 30, 12, 30, 40, 500, PARIS),
+            new Instant(Long.MIN_VALUE),
+            new Instant(Long.MAX_VALUE),
+            new LocalDate(2025, 6, 30),
+            new LocalDate(-2025, 1, 1),
+            new LocalDate(1500, 1, 1, GJChronology.getInstanceUTC()),
+            new LocalDateTime(2025, 6, 30, 12, 30, 40, 500),
+            new LocalDateTime(1716, 12, 30, 23, 59, 59, 999, CopticChronology.getInstanceUTC()),
+            new LocalTime(12, 30, 40, 500),
+            new LocalTime(0, 0),
+            new Interval(new DateTime(2025, 6, 30, 0, 0, PARIS), new DateTime(2025, 7, 30, 0, 0, PARIS)),
+            new Interval(Long.MIN_VALUE, Long.MAX_VALUE, ISOChronology.getInstanceUTC()),
+            new Duration(0L),
+            new Duration(-123456789L),
+            new Period(1, 2, 3, 4, 5, 6, 7, 8),
+            new Period(-1, 0, 0, -4, 5, 6, 7, -8, PeriodType.yearMonthDayTime()),
+            Period.weeks(Integer.MIN_VALUE),
+            new Period(0, 0, 0, 3, 0, 0, 0, 4, PeriodType.forFields(
+                    new DurationFieldType[] {DurationFieldType.days(), DurationFieldType.millis()})),
+            null,
+        };
+    }
+
+    private void assertRoundTrip(Object expected, Object actual) {
+        assertEquals(expected, actual);
+        if (expected instanceof Period) {
+            assertSame(((Period) expected).getPeriodType(), ((Period) actual).getPeriodType());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testRoundTrip_dataOutput() throws IOException {
+        Object[] values = values();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BinaryCodec.Encoder encoder = BinaryCodec.encoder(new DataOutputStream(baos));
+        for (int i = 0; i < values.length; i++) {
+            encoder.write(values[i]);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        BinaryCodec.Decoder decoder = BinaryCodec.decoder(in);
+        for (int i = 0; i < values.length; i++) {
+            assertRoundTrip(values[i], decoder.read());
+        }
+        assertEquals(-1, in.read());
+    }
+
+    public void testRoundTrip_byteBuffer() throws IOException {
+        Object[] values = values();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        BinaryCodec.Encoder encoder = BinaryCodec.encoder(buffer);
+        for (int i = 0; i < values.length; i++) {
+            encoder.write(values[i]);
+        }
+        buffer.flip();
+        BinaryCodec.Decoder decoder = BinaryCodec.decoder(buffer);
+        for (int i = 0; i < values.length; i++) {
+            assertRoundTrip(values[i], decoder.read());
+        }
+        assertEquals(0, buffer.remaining());
+    }
+
+    public void testSameBytes() throws IOException {
+        Object[] values = values();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BinaryCodec.Encoder encoder1 = BinaryCodec.encoder(new DataOutputStream(baos));
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        BinaryCodec.Encoder encoder2 = BinaryCodec.encoder(buffer);
+        for (int i = 0; i < values.length; i++) {
+            encoder1.write(values[i]);
+            encoder2.write(values[i]);
+        }
+        byte[] expected = baos.toByteArray();
+        assertEquals(expected.length, buffer.position());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], buffer.get(i));
+        }
+    }
+
+    public void testTypedMethods() throws IOException {
+        DateTime dt = new DateTime(2025, 6, 30, 12, 30, PARIS);
+        MutableDateTime mdt = new MutableDateTime(2025, 6, 30, 12, 30, 0, 0, TOKYO);
+        LocalDate date = new LocalDate(2025, 6, 30);
+        LocalDateTime ldt = new LocalDateTime(2025, 6, 30, 12, 30);
+        LocalTime time = new LocalTime(12, 30);
+        Interval interval = new Interval(0L, 1000L);
+        Duration duration = new Duration(1000L);
+        Period period = Period.days(2);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        BinaryCodec.Encoder encoder = BinaryCodec.encoder(buffer);
+        encoder.writeDateTime(dt);
+        encoder.writeMutableDateTime(mdt);
+        encoder.writeInstant(dt.toInstant());
+        encoder.writeLocalDate(date);
+        encoder.writeLocalDateTime(ldt);
+        encoder.writeLocalTime(time);
+        encoder.writeInterval(interval);
+        encoder.writeDuration(duration);
+        encoder.writePeriod(period);
+        encoder.writeDateTime(null);
+        encoder.writePeriod(null);
+        buffer.flip();
+        BinaryCodec.Decoder decoder = BinaryCodec.decoder(buffer);
+        assertEquals(dt, decoder.readDateTime());
+        assertEquals(mdt, decoder.readMutableDateTime());
+        assertEquals(dt.toInstant(), decoder.readInstant());
+        assertEquals(date, decoder.readLocalDate());
+        assertEquals(ldt, decoder.readLocalDateTime());
+        assertEquals(time, decoder.readLocalTime());
+        assertEquals(interval, decoder.readInterval());
+        assertEquals(duration, decoder.readDuration());
+        assertEquals(period, decoder.readPeriod());
+        assertEquals(null, decoder.readDateTime());
+        assertEquals(null, decoder.readPeriod());
+    }
+
+    //-----------------------------------------------------------------------
+    public void testCompact() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        BinaryCodec.Encoder encoder = BinaryCodec.encoder(buffer);
+        encoder.write(new DateTime(2025, 6, 30, 12, 30, PARIS));
+        int first = buffer.position();
+        encoder.write(new DateTime(2025, 7, 30, 12, 30, PARIS));
+        // tag, six byte millis and one byte chronology index
+        assertEquals(8, buffer.position() - first);
+        int mark = buffer.position();
+        encoder.write(new LocalDate(2025, 6, 30));
+        encoder.write(new LocalDate(2025, 6, 30));
+        int dates = buffer.position() - mark;
+        mark = buffer.position();
+        encoder.write(new LocalDate(2025, 6, 30));
+        // tag, three byte day count and one byte chronology index
+        assertEquals(5, buffer.position() - mark);
+        assertTrue(dates < 20);
+    }
+
+    public void testCompact_comparedToSerialization() throws IOException {
+        DateTime dt = new DateTime(2025, 6, 30, 12, 30, PARIS);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(dt);
+        oos.close();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        BinaryCodec.encoder(buffer).write(dt);
+        assertTrue(buffer.position() * 10 < baos.size());
+    }
+
+    //-----------------------------------------------------------------------
+    public void testWrite_unsupportedType() throws IOException {
+        try {
+            BinaryCodec.encoder(ByteBuffer.allocate(256)).write("2025-06-30");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testWrite_unsupportedChronology() throws IOException {
+        try {
+            BinaryCodec.encoder(ByteBuffer.allocate(256)).write(
+                    new DateTime(0L, LenientChronology.getInstance(ISOChronology.getInstanceUTC())));
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testFactory_null() {
+        try {
+            BinaryCodec.encoder((ByteBuffer) null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            BinaryCodec.decoder((ByteBuffer) null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testRead_wrongType() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        BinaryCodec.encoder(buffer).write(new LocalDate(2025, 6, 30));
+        buffer.flip();
+        try {
+            BinaryCodec.decoder(buffer).readDateTime();
+            fail();
+        } catch (IOException ex) {
+            // expected
+        }
+    }
+
+    public void testRead_unknownTag() {
+        try {
+            BinaryCodec.decoder(ByteBuffer.wrap(new byte[] {99})).read();
+            fail();
+        } catch (IOException ex) {
+            // expected
+        }
+    }
+
+    public void testRead_badChronologyIndex() {
+        try {
+            BinaryCodec.decoder(ByteBuffer.wrap(new byte[] {BinaryCodec.TAG_DATE_TIME, 0, 4})).read();
+            fail();
+        } catch (IOException ex) {
+            // expected
+        }
+    }
+
+    public void testRead_zoneIdTooLong() {
+        byte[] bytes = new byte[] {
+            BinaryCodec.TAG_DATE_TIME, 0, 0, BinaryCodec.CHRONO_ISO, 0,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        try {
+            BinaryCodec.decoder(ByteBuffer.wrap(bytes)).read();
+            fail();
+        } catch (IOException ex) {
+            // expected
+        }
+    }
+
+    public void testRead_malformedVarint() {
+        byte[] bytes = new byte[12];
+        bytes[0] = BinaryCodec.TAG_DURATION;
+        for (int i = 1; i < bytes.length; i++) {
+            bytes[i] = (byte) 0xFF;
+        }
+        try {
+            BinaryCodec.decoder(ByteBuffer.wrap(bytes)).read();
+            fail();
+        } catch (IOException ex) {
+            // expected
+        }
+    }
+
+}
@@ -142,6 +142,17 @@ public class TestDateMidnight_Constructors extends TestCase {
         assertEquals(TEST_TIME_NOW_PARIS, test.getMillis());
     }
 
+    /**
+     * Test now (DateTimeZone) shares the instance for the day.
+     */
+    public void test_now_DateTimeZone_shared() throws Throwable {
+        DateMidnight test = DateMidnight.now(PARIS);
+        DateTimeUtils.setCurrentMillisFixed(TEST_TIME_NOW_PARIS + 23 * DateTimeConstants.MILLIS_PER_HOUR);
+        assertSame(test, DateMidnight.now(PARIS));
+        DateTimeUtils.setCurrentMillisFixed(TEST_TIME_NOW_PARIS + 24 * DateTimeConstants.MILLIS_PER_HOUR);
+        assertEquals(TEST_TIME_NOW_PARIS + 24 * DateTimeConstants.MILLIS_PER_HOUR, DateMidnight.now(PARIS).getMillis());
+    }
+
     /**
      * Test now (DateTimeZone=null)
      */
@@ -26,10 +26,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.joda.time.chrono.GregorianChronology;
 import org.joda.time.chrono.ISOChronology;
 /**
  * This class is a Junit unit test for the
@@ -886,6 +888,72 @@ public class TestDateTimeComparator extends TestCase {
     } // end of testListTime
 
 
+    /**
+     * Test comparing instants matches truncating with the fields.
+     */
+    public void testCompareInstants() {
+        Chronology[] chronos = {
+            ISOChronology.getInstanceUTC(),
+            ISOChronology.getInstance(DateTimeZone.forOffsetHoursMinutes(5, 30)),
+            ISOChronology.getInstance(DateTimeZone.forOffsetHours(-8)),
+            ISOChronology.getInstance(DateTimeZone.forID("Europe/Paris")),
+            GregorianChronology.getInstanceUTC(),
+        };
+        Random random = new Random(47);
+        for (int i = 0; i < 2000; i++) {
+            Chronology chrono1 = chronos[random.nextInt(chronos.length)];
+            Chronology chrono2 = chronos[random.nextInt(chronos.length)];
+            long millis1 = (random.nextLong() % (400L * DateTimeConstants.MILLIS_PER_DAY * 365));
+            long millis2 = millis1 + (random.nextInt(5) - 2) * (long) DateTimeConstants.MILLIS_PER_DAY + random.nextInt(DateTimeConstants.MILLIS_PER_DAY);
+            DateTime dt1 = new DateTime(millis1, chrono1);
+            DateTime dt2 = new DateTime(millis2, chrono2);
+            long date1 = chrono1.dayOfYear().roundFloor(millis1);
+            long date2 = chrono2.dayOfYear().roundFloor(millis2);
+            assertEquals(Long.signum(date1 - date2), cDate.compare(dt1, dt2));
+            long time1 = chrono1.dayOfYear().remainder(millis1);
+            long time2 = chrono2.dayOfYear().remainder(millis2);
+            assertEquals(Long.signum(time1 - time2), cTime.compare(dt1, dt2));
+            long hour1 = chrono1.dayOfYear().remainder(chrono1.hourOfDay().roundFloor(millis1));
+            long hour2 = chrono2.dayOfYear().remainder(chrono2.hourOfDay().roundFloor(millis2));
+            assertEquals(Long.signum(hour1 - hour2), cHour.compare(dt1, dt2));
+        }
+    }
+
+    /**
+     * Test sorting a list of instants matches sorting with the comparator.
+     */
+    public void testSortList() {
+        DateTimeZone zone = DateTimeZone.forID("America/New_York");
+        Random random = new Random(47);
+        for (int size = 0; size < 200; size += 13) {
+            List<DateTime> expected = new ArrayList<DateTime>();
+            for (int i = 0; i < size; i++) {
+                long millis = 1700000000000L + random.nextInt(20) * (long) DateTimeConstants.MILLIS_PER_HOUR * 7;
+                expected.add(new DateTime(millis, (i % 2 == 0 ? DateTimeZone.UTC : zone)));
+            }
+            DateTimeComparator[] comparators = {
+                DateTimeComparator.getDateOnlyInstance(),
+                DateTimeComparator.getTimeOnlyInstance(),
+                DateTimeComparator.getInstance(DateTimeFieldType.hourOfDay(), DateTimeFieldType.dayOfYear()),
+                DateTimeComparator.getInstance(),
+            };
+            for (int j = 0; j < comparators.length; j++) {
+                List<DateTime> test = new ArrayList<DateTime>(expected);
+                Collections.sort(expected, comparators[j]);
+                comparators[j].sort(test);
+                for (int i = 0; i < size; i++) {
+                    assertSame(expected.get(i), test.get(i));
+                }
+            }
+        }
+        try {
+            DateTimeComparator.getDateOnlyInstance().sort(null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
     /**
      * Test comparator operation with null object(s).
      */
@@ -299,6 +299,61 @@ public class TestDateTimeUtils extends TestCase {
         }
     }
 
+    public void testCoarseMillisProvider() throws Exception {
+        DateTimeUtils.CoarseMillisProvider provider = new DateTimeUtils.CoarseMillisProvider(5);
+        try {
+            DateTimeUtils.setCurrentMillisProvider(provider);
+            assertEquals(5, provider.getResolutionMillis());
+            assertEquals(false, provider.isStopped());
+            long start = System.currentTimeMillis();
+            assertTrue(Math.abs(DateTimeUtils.currentTimeMillis() - start) < 1000);
+            Thread.sleep(50);
+            assertTrue(DateTimeUtils.currentTimeMillis() > start);
+            provider.stop();
+            assertEquals(true, provider.isStopped());
+            long before = System.currentTimeMillis();
+            long now = DateTimeUtils.currentTimeMillis();
+            assertTrue(now >= before && now <= System.currentTimeMillis());
+        } finally {
+            provider.stop();
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+    }
+
+    public void testCoarseMillisProvider_badResolution() {
+        try {
+            new DateTimeUtils.CoarseMillisProvider(0);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testCurrentHourOfDay() {
+        DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+        DateTimeZone kolkata = DateTimeZone.forID("Asia/Kolkata");
+        try {
+            // 2005-03-27T01:59:59.999+01:00, then 2005-03-27T03:00+02:00
+            long transition = new DateTime(2005, 3, 27, 3, 0, 0, 0, paris).getMillis();
+            DateTimeUtils.setCurrentMillisFixed(transition - 1);
+            assertEquals(1, DateTimeUtils.currentHourOfDay(paris));
+            assertEquals(6, DateTimeUtils.currentHourOfDay(kolkata));
+            DateTimeUtils.setCurrentMillisFixed(transition);
+            assertEquals(3, DateTimeUtils.currentHourOfDay(paris));
+            assertEquals(6, DateTimeUtils.currentHourOfDay(kolkata));
+            DateTimeUtils.setCurrentMillisFixed(transition + 30 * DateTimeConstants.MILLIS_PER_MINUTE - 1);
+            assertEquals(6, DateTimeUtils.currentHourOfDay(kolkata));
+            DateTimeUtils.setCurrentMillisFixed(transition + 30 * DateTimeConstants.MILLIS_PER_MINUTE);
+            assertEquals(7, DateTimeUtils.currentHourOfDay(kolkata));
+            assertEquals(3, DateTimeUtils.currentHourOfDay(paris));
+            DateTimeUtils.setCurrentMillisFixed(transition - 1);
+            assertEquals(1, DateTimeUtils.currentHourOfDay(paris));
+            assertEquals(DateTimeUtils.currentHourOfDay(DateTimeZone.getDefault()), DateTimeUtils.currentHourOfDay(null));
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+    }
+
     public void testMillisProvider_null() {
         try {
             DateTimeUtils.setCurrentMillisProvider(null);
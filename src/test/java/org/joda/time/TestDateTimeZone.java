@@ -38,6 +38,8 @@ import java.util.Random;
 import java.util.Set;
 import java.util.TimeZone;
 
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.tz.CachedDateTimeZone;
 import org.joda.time.tz.DefaultNameProvider;
 import org.joda.time.tz.NameProvider;
 import org.joda.time.tz.Provider;
@@ -178,6 +180,30 @@ public class TestDateTimeZone extends TestCase {
         } catch (IllegalArgumentException ex) {}
     }
             
+    public void testDefaultPinned() {
+        DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+        try {
+            assertEquals(false, DateTimeZone.isDefaultPinned());
+            DateTimeZone.setDefault(newYork);
+            DateTimeZone.setDefaultPinned(true);
+            assertEquals(true, DateTimeZone.isDefaultPinned());
+            assertSame(newYork, DateTimeZone.getDefault());
+            assertEquals(ISOChronology.getInstance(newYork), ISOChronology.getInstance());
+            DateTimeZone uncached = ((CachedDateTimeZone) newYork).getUncachedZone();
+            long now = DateTimeUtils.currentTimeMillis();
+            for (long instant = now - 800L * DateTimeConstants.MILLIS_PER_DAY;
+                    instant < now + 800L * DateTimeConstants.MILLIS_PER_DAY; instant += 3599999L) {
+                assertEquals(uncached.getOffset(instant), newYork.getOffset(instant));
+            }
+            DateTimeZone.setDefault(PARIS);
+            assertSame(PARIS, DateTimeZone.getDefault());
+            assertEquals(ISOChronology.getInstance(PARIS), ISOChronology.getInstance());
+        } finally {
+            DateTimeZone.setDefaultPinned(false);
+        }
+        assertEquals(false, DateTimeZone.isDefaultPinned());
+    }
+
     public void testDefaultSecurity() {
         if (OLD_JDK) {
             return;
@@ -96,6 +96,25 @@ public class TestDays extends TestCase {
         assertEquals(6, Days.daysBetween(start, end2).getDays());
     }
 
+    public void testFactory_daysBetween_RInstant_fixedOffset() {
+        DateTimeZone zone = DateTimeZone.forOffsetHoursMinutes(5, 30);
+        DateTime start = new DateTime(2006, 6, 9, 12, 0, 0, 0, zone);
+        DateTime end1 = new DateTime(2006, 6, 12, 11, 59, 59, 999, zone);
+        DateTime end2 = new DateTime(2006, 6, 12, 12, 0, 0, 0, zone);
+        
+        assertEquals(2, Days.daysBetween(start, end1).getDays());
+        assertEquals(3, Days.daysBetween(start, end2).getDays());
+        assertEquals(-2, Days.daysBetween(end1, start).getDays());
+        assertEquals(-3, Days.daysBetween(end2, start).getDays());
+        assertEquals(3, Days.daysBetween(start.withZone(DateTimeZone.UTC), end2).getDays());
+        try {
+            Days.daysBetween(new DateTime(Long.MIN_VALUE / 2, DateTimeZone.UTC), new DateTime(Long.MAX_VALUE / 2, DateTimeZone.UTC));
+            fail();
+        } catch (ArithmeticException ex) {
+            // expected
+        }
+    }
+
     //-----------------------------------------------------------------------
     @SuppressWarnings("deprecation")
     public void testFactory_daysBetween_RPartial_LocalDate() {
@@ -110,6 +129,17 @@ public class TestDays extends TestCase {
         assertEquals(6, Days.daysBetween(start, end2).getDays());
     }
 
+    public void testFactory_daysBetween_RPartial_LocalDateTime() {
+        LocalDateTime start = new LocalDateTime(2006, 6, 9, 12, 0);
+        LocalDateTime end1 = new LocalDateTime(2006, 6, 12, 11, 59, 59, 999);
+        LocalDateTime end2 = new LocalDateTime(2006, 6, 12, 12, 0);
+        
+        assertEquals(2, Days.daysBetween(start, end1).getDays());
+        assertEquals(3, Days.daysBetween(start, end2).getDays());
+        assertEquals(-2, Days.daysBetween(end1, start).getDays());
+        assertEquals(0, Days.daysBetween(start, start).getDays());
+    }
+
     public void testFactory_daysBetween_RPartial_YearMonth() {
         YearMonth start1 = new YearMonth(2011, 1);
         YearMonth start2 = new YearMonth(2012, 1);
@@ -111,6 +111,28 @@ public class TestHours extends TestCase {
         assertEquals(6, Hours.hoursBetween(start, end2).getHours());
     }
 
+    public void testFactory_hoursBetween_RInstant_fixedOffset() {
+        DateTimeZone zone = DateTimeZone.forOffsetHours(-3);
+        DateTime start = new DateTime(2006, 6, 9, 12, 0, 0, 0, zone);
+        DateTime end1 = new DateTime(2006, 6, 9, 14, 59, 59, 999, zone);
+        DateTime end2 = new DateTime(2006, 6, 10, 15, 0, 0, 0, zone);
+        
+        assertEquals(2, Hours.hoursBetween(start, end1).getHours());
+        assertEquals(27, Hours.hoursBetween(start, end2).getHours());
+        assertEquals(-2, Hours.hoursBetween(end1, start).getHours());
+        assertEquals(27, Hours.hoursBetween(start.withZone(DateTimeZone.UTC), end2).getHours());
+    }
+
+    public void testFactory_hoursBetween_RPartial_LocalDateTime() {
+        LocalDateTime start = new LocalDateTime(2006, 6, 9, 12, 0);
+        LocalDateTime end1 = new LocalDateTime(2006, 6, 9, 14, 59, 59, 999);
+        LocalDateTime end2 = new LocalDateTime(2006, 6, 10, 15, 0);
+        
+        assertEquals(2, Hours.hoursBetween(start, end1).getHours());
+        assertEquals(27, Hours.hoursBetween(start, end2).getHours());
+        assertEquals(-27, Hours.hoursBetween(end2, start).getHours());
+    }
+
     public void testFactory_hoursIn_RInterval() {
         DateTime start = new DateTime(2006, 6, 9, 12, 0, 0, 0, PARIS);
         DateTime end1 = new DateTime(2006, 6, 9, 15, 0, 0, 0, PARIS);
@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * This class is a Junit unit test for InstantArray.
+ */
+public class TestInstantArray extends TestCase {
+
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestInstantArray.class);
+    }
+
+    public TestInstantArray(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetSet() {
+        InstantArray test = new InstantArray(2, ISOChronology.getInstance(LONDON));
+        test.set(0, new Instant(1000L));
+        test.setMillis(1, 2000L);
+        assertEquals(1000L, test.getMillis(0));
+        assertEquals(new DateTime(2000L, LONDON), test.get(1));
+        assertEquals(true, Arrays.equals(new long[] {1000L, 2000L}, test.toMillisArray()));
+        try {
+            test.set(0, null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testFields_comparedToDateTime() {
+        Random random = new Random(139);
+        long[] millis = new long[5000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = (random.nextLong() >> 20);
+        }
+        Chronology[] chronos = {ISOChronology.getInstance(LONDON), ISOChronology.getInstanceUTC(),
+            ISOChronology.getInstance(DateTimeZone.forOffsetHours(-5)), BuddhistChronology.getInstance(LONDON)};
+        for (Chronology chrono : chronos) {
+            InstantArray test = InstantArray.ofMillis(millis, chrono);
+            int[] years = test.getYears();
+            int[] months = test.getMonthsOfYear();
+            int[] doms = test.getDaysOfMonth();
+            int[] dows = test.getDaysOfWeek();
+            int[] hours = test.get(DateTimeFieldType.hourOfDay());
+            int[] minutes = test.get(DateTimeFieldType.minuteOfHour());
+            int[] mods = test.get(DateTimeFieldType.millisOfDay());
+            for (int i = 0; i < millis.length; i++) {
+                DateTime dt = test.get(i);
+                assertEquals(dt.getYear(), years[i]);
+                assertEquals(dt.getMonthOfYear(), months[i]);
+                assertEquals(dt.getDayOfMonth(), doms[i]);
+                assertEquals(dt.getDayOfWeek(), dows[i]);
+                assertEquals(dt.getHourOfDay(), hours[i]);
+                assertEquals(dt.getMinuteOfHour(), minutes[i]);
+                assertEquals(dt.getMillisOfDay(), mods[i]);
+            }
+        }
+        try {
+            new InstantArray(1).get(null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testSortSearchPrint() throws Exception {
+        InstantArray test = InstantArray.ofMillis(new long[] {3000L, 1000L, 2000L}, ISOChronology.getInstanceUTC());
+        assertEquals(1, test.compare(0, 1));
+        test.sort();
+        assertEquals(true, Arrays.equals(new long[] {1000L, 2000L, 3000L}, test.toMillisArray()));
+        assertEquals(1, test.binarySearch(new Instant(2000L)));
+        assertEquals(-1, test.binarySearch(new Instant(0L)));
+        assertEquals("1970-01-01T00:00:01.000Z", test.print(null)[0]);
+        assertEquals("1970-01-01", test.print(ISODateTimeFormat.date())[2]);
+        StringBuilder buf = new StringBuilder();
+        test.printTo(buf, ISODateTimeFormat.hourMinuteSecond(), " ");
+        assertEquals("00:00:01 00:00:02 00:00:03", buf.toString());
+        InstantArray london = InstantArray.ofMillis(new long[] {new DateTime(2025, 7, 1, 12, 0, LONDON).getMillis()},
+                ISOChronology.getInstance(LONDON));
+        assertEquals("[2025-07-01T12:00:00.000+01:00]", london.toString());
+    }
+
+    public void testSortByDateTime() {
+        Random random = new Random(47);
+        for (int size = 0; size < 300; size += 37) {
+            long[] millis = new long[size];
+            for (int i = 0; i < size; i++) {
+                millis[i] = 1700000000000L + random.nextInt(1000) * 3607000L - (i % 3 == 0 ? 1800000000000L : 0);
+            }
+            List<DateTime> expected = new ArrayList<DateTime>();
+            for (int i = 0; i < size; i++) {
+                expected.add(new DateTime(millis[i], LONDON));
+            }
+            InstantArray test = InstantArray.ofMillis(millis, ISOChronology.getInstance(LONDON));
+            Collections.sort(expected, DateTimeComparator.getDateOnlyInstance());
+            test.sortByDate();
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected.get(i).getMillis(), test.getMillis(i));
+            }
+            Collections.sort(expected, DateTimeComparator.getTimeOnlyInstance());
+            test.sortByTime();
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected.get(i).getMillis(), test.getMillis(i));
+            }
+        }
+    }
+
+    public void testEqualsHashCode() {
+        InstantArray a = InstantArray.ofMillis(new long[] {1L, 2L}, ISOChronology.getInstanceUTC());
+        InstantArray b = InstantArray.of(new Instant(1L), new DateTime(2L));
+        InstantArray c = InstantArray.ofMillis(new long[] {1L, 2L}, ISOChronology.getInstanceUTC());
+        assertEquals(a, c);
+        assertEquals(a.hashCode(), c.hashCode());
+        assertEquals(ISOChronology.getInstance(), b.getChronology());
+        assertEquals(false, a.equals(InstantArray.ofMillis(new long[] {1L}, ISOChronology.getInstanceUTC())));
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for IntervalSequence.
+ */
+public class TestIntervalSequence extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestIntervalSequence.class);
+    }
+
+    public TestIntervalSequence(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testCursor() {
+        IntervalSequence test = IntervalSequence.of(new long[] {0, 5, 20}, new long[] {10, 8, 30});
+        assertEquals(true, test.next());
+        assertEquals(0, test.getStartMillis());
+        assertEquals(10, test.getEndMillis());
+        assertEquals(true, test.next());
+        assertEquals(new Interval(5, 8), test.toInterval());
+        assertEquals(true, test.next());
+        assertEquals(false, test.next());
+    }
+
+    public void testOf_range() {
+        IntervalSequence test = IntervalSequence.of(new long[] {0, 5, 20}, new long[] {10, 8, 30}, 1, 2);
+        assertEquals(true, test.next());
+        assertEquals(5, test.getStartMillis());
+        assertEquals(false, test.next());
+        try {
+            IntervalSequence.of(new long[2], new long[2], 1, 3);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
+    public void testOf_iterator() {
+        List<Interval> list = Arrays.asList(new Interval(0, 10), new Interval(5, 20));
+        IntervalSequence test = IntervalSequence.of(list.iterator()).merge();
+        assertEquals(true, test.next());
+        assertEquals(new Interval(0, 20), test.toInterval());
+        assertEquals(false, test.next());
+    }
+
+    public void testOf_set() {
+        IntervalSet set = IntervalSet.of(new Interval(0, 10), new Interval(20, 30));
+        assertEquals(set, IntervalSequence.of(set).toIntervalSet());
+    }
+
+    public void testOf_invalid() {
+        try {
+            IntervalSequence.of(new long[] {5, 0}, new long[] {10, 10}).coverageMillis();
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            IntervalSequence.of(new long[] {5}, new long[] {4}).next();
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            IntervalSequence.of(new long[1], new long[2]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            IntervalSequence.of((Iterator<Interval>) null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testOperations() {
+        long[] aStarts = {0, 5, 20, 40};
+        long[] aEnds = {10, 15, 30, 40};
+        long[] bStarts = {10, 25};
+        long[] bEnds = {12, 50};
+        assertEquals(IntervalSet.of(new Interval(0, 15), new Interval(20, 30)),
+                IntervalSequence.of(aStarts, aEnds).merge().toIntervalSet());
+        assertEquals(IntervalSet.of(new Interval(0, 15), new Interval(20, 50)),
+                IntervalSequence.of(aStarts, aEnds).union(IntervalSequence.of(bStarts, bEnds)).toIntervalSet());
+        assertEquals(IntervalSet.of(new Interval(10, 12), new Interval(25, 30)),
+                IntervalSequence.of(aStarts, aEnds).intersection(IntervalSequence.of(bStarts, bEnds)).toIntervalSet());
+        assertEquals(IntervalSet.of(new Interval(0, 10), new Interval(12, 15), new Interval(20, 25)),
+                IntervalSequence.of(aStarts, aEnds).subtract(IntervalSequence.of(bStarts, bEnds)).toIntervalSet());
+        assertEquals(IntervalSet.of(new Interval(-5, 0), new Interval(15, 20), new Interval(30, 35)),
+                IntervalSequence.of(aStarts, aEnds).complement(-5, 35).toIntervalSet());
+        assertEquals(IntervalSet.of(new Interval(8, 15), new Interval(20, 22)),
+                IntervalSequence.of(aStarts, aEnds).clip(8, 22).toIntervalSet());
+        assertEquals(25, IntervalSequence.of(aStarts, aEnds).coverageMillis());
+    }
+
+    public void testAsIterator() {
+        Iterator<Interval> it = IntervalSequence.of(new long[] {0, 20}, new long[] {10, 30}).asIterator();
+        assertEquals(true, it.hasNext());
+        assertEquals(true, it.hasNext());
+        assertEquals(new Interval(0, 10), it.next());
+        assertEquals(new Interval(20, 30), it.next());
+        assertEquals(false, it.hasNext());
+        try {
+            it.next();
+            fail();
+        } catch (NoSuchElementException ex) {
+            // expected
+        }
+        try {
+            it.remove();
+            fail();
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+    }
+
+    public void testCoverage_overflow() {
+        try {
+            IntervalSequence.of(new long[] {Long.MIN_VALUE}, new long[] {Long.MAX_VALUE}).coverageMillis();
+            fail();
+        } catch (ArithmeticException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testRandom_comparedToIntervalSet() {
+        Random random = new Random(4321);
+        for (int run = 0; run < 300; run++) {
+            long[][] a = randomSorted(random);
+            long[][] b = randomSorted(random);
+            IntervalSet aSet = IntervalSet.ofMillis(a[0], a[1]);
+            IntervalSet bSet = IntervalSet.ofMillis(b[0], b[1]);
+            assertEquals(aSet, seq(a).toIntervalSet());
+            assertEquals(aSet.getCoverageMillis(), seq(a).coverageMillis());
+            assertEquals(aSet.union(bSet), seq(a).union(seq(b)).toIntervalSet());
+            assertEquals(aSet.intersection(bSet), seq(a).intersection(seq(b)).toIntervalSet());
+            assertEquals(aSet.subtract(bSet), seq(a).subtract(seq(b)).toIntervalSet());
+            long start = random.nextInt(100);
+            Interval window = new Interval(start, start + random.nextInt(40));
+            assertEquals(aSet.gaps(window),
+                    seq(a).complement(window.getStartMillis(), window.getEndMillis()).toIntervalSet());
+            assertEquals(aSet.overlap(window),
+                    seq(a).clip(window.getStartMillis(), window.getEndMillis()).toIntervalSet());
+            assertNormalized(seq(a).subtract(seq(b)));
+            assertNormalized(seq(a).intersection(seq(b)));
+            assertNormalized(seq(a).complement(0, 100));
+        }
+    }
+
+    private IntervalSequence seq(long[][] arrays) {
+        return IntervalSequence.of(arrays[0], arrays[1]);
+    }
+
+    private long[][] randomSorted(Random random) {
+        int count = random.nextInt(8);
+        long[] starts = new long[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = random.nextInt(100);
+        }
+        Arrays.sort(starts);
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            ends[i] = starts[i] + random.nextInt(15);
+        }
+        return new long[][] {starts, ends};
+    }
+
+    private void assertNormalized(IntervalSequence sequence) {
+        List<Interval> list = new ArrayList<Interval>();
+        Iterator<Interval> it = sequence.asIterator();
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        for (int i = 0; i < list.size(); i++) {
+            assertTrue(list.get(i).toDurationMillis() > 0);
+            if (i > 0) {
+                assertTrue(list.get(i - 1).getEndMillis() < list.get(i).getStartMillis());
+            }
+        }
+    }
+
+}
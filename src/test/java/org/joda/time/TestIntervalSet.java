@@ -0,0 +1,272 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for IntervalSet.
+ */
+public class TestIntervalSet extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestIntervalSet.class);
+    }
+
+    public TestIntervalSet(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testOf_merges() {
+        IntervalSet test = IntervalSet.of(
+            new Interval(30, 40), new Interval(0, 10), new Interval(5, 15), new Interval(15, 20), new Interval(50, 50));
+        assertEquals(2, test.size());
+        assertEquals(0, test.getStartMillis(0));
+        assertEquals(20, test.getEndMillis(0));
+        assertEquals(30, test.getStartMillis(1));
+        assertEquals(40, test.getEndMillis(1));
+        assertEquals(new Interval(30, 40), test.getInterval(1));
+        assertEquals(Arrays.asList(new Interval(0, 20), new Interval(30, 40)), test.toIntervals());
+        assertEquals(30, test.getCoverageMillis());
+    }
+
+    public void testOf_empty() {
+        assertSame(IntervalSet.empty(), IntervalSet.of());
+        assertSame(IntervalSet.empty(), IntervalSet.of(new Interval(5, 5)));
+        assertEquals(true, IntervalSet.empty().isEmpty());
+        assertEquals(0, IntervalSet.empty().size());
+        assertEquals(0, IntervalSet.empty().getCoverageMillis());
+        assertEquals(false, IntervalSet.empty().contains(0L));
+        assertEquals(false, IntervalSet.empty().overlaps(new Interval(0, 10)));
+    }
+
+    public void testOf_null() {
+        try {
+            IntervalSet.of((ReadableInterval[]) null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            IntervalSet.of(new Interval(0, 10), null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testOfMillis() {
+        long[] starts = {20, 0};
+        long[] ends = {30, 20};
+        IntervalSet test = IntervalSet.ofMillis(starts, ends);
+        assertEquals(IntervalSet.of(new Interval(0, 30)), test);
+        assertEquals(20, starts[0]);
+        try {
+            IntervalSet.ofMillis(new long[] {10}, new long[] {5});
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            IntervalSet.ofMillis(new long[] {10}, new long[0]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testQueries() {
+        IntervalSet test = IntervalSet.of(new Interval(10, 20), new Interval(30, 40));
+        assertEquals(false, test.contains(9L));
+        assertEquals(true, test.contains(10L));
+        assertEquals(true, test.contains(19L));
+        assertEquals(false, test.contains(20L));
+        assertEquals(true, test.contains(new Instant(35)));
+
+        assertEquals(true, test.contains(new Interval(10, 20)));
+        assertEquals(true, test.contains(new Interval(12, 12)));
+        assertEquals(false, test.contains(new Interval(20, 20)));
+        assertEquals(false, test.contains(new Interval(15, 35)));
+
+        assertEquals(false, test.overlaps(new Interval(20, 30)));
+        assertEquals(true, test.overlaps(new Interval(19, 30)));
+        assertEquals(true, test.overlaps(new Interval(20, 31)));
+        assertEquals(true, test.overlaps(new Interval(0, 100)));
+        assertEquals(false, test.overlaps(new Interval(10, 10)));
+        assertEquals(true, test.overlaps(new Interval(11, 11)));
+
+        assertEquals(IntervalSet.of(new Interval(15, 20), new Interval(30, 35)), test.overlap(new Interval(15, 35)));
+        assertEquals(IntervalSet.empty(), test.overlap(new Interval(20, 30)));
+        assertEquals(IntervalSet.empty(), test.overlap(new Interval(15, 15)));
+
+        assertEquals(IntervalSet.of(new Interval(5, 10), new Interval(20, 30), new Interval(40, 45)),
+                test.gaps(new Interval(5, 45)));
+        assertEquals(IntervalSet.empty(), test.gaps(new Interval(12, 18)));
+        assertEquals(IntervalSet.of(new Interval(22, 28)), test.gaps(new Interval(22, 28)));
+
+        assertEquals(20, test.getCoverageMillis());
+        assertEquals(10, test.getCoverageMillis(new Interval(15, 35)));
+        assertEquals(0, test.getCoverageMillis(new Interval(20, 30)));
+        assertEquals(20, test.getCoverageMillis(new Interval(0, 100)));
+        assertEquals(0, test.getCoverageMillis(new Interval(15, 15)));
+    }
+
+    public void testQueries_null() {
+        DateTimeUtils.setCurrentMillisFixed(15);
+        try {
+            IntervalSet test = IntervalSet.of(new Interval(10, 20));
+            assertEquals(true, test.contains((ReadableInstant) null));
+            assertEquals(true, test.contains((ReadableInterval) null));
+            assertEquals(true, test.overlaps(null));
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+        try {
+            IntervalSet.empty().gaps(null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testCoverage_overflow() {
+        IntervalSet test = IntervalSet.of(new Interval(Long.MIN_VALUE, 0), new Interval(1, Long.MAX_VALUE));
+        try {
+            test.getCoverageMillis();
+            fail();
+        } catch (ArithmeticException ex) {
+            // expected
+        }
+        assertEquals(20, test.getCoverageMillis(new Interval(-10, 11)));
+    }
+
+    //-----------------------------------------------------------------------
+    public void testSetOperations() {
+        IntervalSet a = IntervalSet.of(new Interval(0, 10), new Interval(20, 30));
+        IntervalSet b = IntervalSet.of(new Interval(5, 20), new Interval(30, 35));
+        assertEquals(IntervalSet.of(new Interval(0, 35)), a.union(b));
+        assertEquals(IntervalSet.of(new Interval(5, 10)), a.intersection(b));
+        assertEquals(IntervalSet.of(new Interval(0, 5), new Interval(20, 30)), a.subtract(b));
+        assertEquals(IntervalSet.of(new Interval(10, 20), new Interval(30, 35)), b.subtract(a));
+        assertEquals(a, a.union(IntervalSet.empty()));
+        assertEquals(IntervalSet.empty(), a.intersection(IntervalSet.empty()));
+        assertEquals(IntervalSet.empty(), a.subtract(a));
+        try {
+            a.union(null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testRandom() {
+        Random random = new Random(1234);
+        for (int run = 0; run < 200; run++) {
+            List<Interval> aList = randomIntervals(random);
+            List<Interval> bList = randomIntervals(random);
+            IntervalSet a = IntervalSet.of(aList);
+            IntervalSet b = IntervalSet.of(bList);
+            IntervalSet union = a.union(b);
+            IntervalSet intersection = a.intersection(b);
+            IntervalSet subtract = a.subtract(b);
+            assertNormalized(a);
+            assertNormalized(union);
+            assertNormalized(intersection);
+            assertNormalized(subtract);
+            for (long t = -1; t <= 101; t++) {
+                boolean inA = brute(aList, t);
+                boolean inB = brute(bList, t);
+                assertEquals(inA, a.contains(t));
+                assertEquals(inA || inB, union.contains(t));
+                assertEquals(inA && inB, intersection.contains(t));
+                assertEquals(inA && !inB, subtract.contains(t));
+            }
+            for (int i = 0; i < 20; i++) {
+                long start = random.nextInt(100);
+                Interval window = new Interval(start, start + random.nextInt(30));
+                boolean overlaps = false;
+                boolean contains = false;
+                for (Interval interval : a.toIntervals()) {
+                    overlaps |= interval.overlaps(window);
+                    contains |= interval.contains(window);
+                }
+                assertEquals(overlaps, a.overlaps(window));
+                assertEquals(contains, a.contains(window));
+                long covered = 0;
+                for (long t = window.getStartMillis(); t < window.getEndMillis(); t++) {
+                    if (a.contains(t)) {
+                        covered++;
+                    }
+                }
+                assertEquals(covered, a.getCoverageMillis(window));
+                assertEquals(covered, a.overlap(window).getCoverageMillis());
+                assertEquals(window.toDurationMillis() - covered, a.gaps(window).getCoverageMillis());
+            }
+        }
+    }
+
+    private List<Interval> randomIntervals(Random random) {
+        List<Interval> list = new ArrayList<Interval>();
+        int count = random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            long start = random.nextInt(100);
+            list.add(new Interval(start, start + random.nextInt(15)));
+        }
+        return list;
+    }
+
+    private boolean brute(List<Interval> list, long instant) {
+        for (Interval interval : list) {
+            if (interval.contains(instant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void assertNormalized(IntervalSet set) {
+        for (int i = 0; i < set.size(); i++) {
+            assertTrue(set.getStartMillis(i) < set.getEndMillis(i));
+            if (i > 0) {
+                assertTrue(set.getEndMillis(i - 1) < set.getStartMillis(i));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testEqualsHashCodeToString() {
+        IntervalSet a = IntervalSet.of(new Interval(0, 10), new Interval(20, 30));
+        IntervalSet b = IntervalSet.of(new Interval(20, 30), new Interval(0, 5), new Interval(5, 10));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(false, a.equals(IntervalSet.empty()));
+        assertEquals(false, a.equals(null));
+        assertEquals(a.toIntervals().toString(), a.toString());
+    }
+
+}
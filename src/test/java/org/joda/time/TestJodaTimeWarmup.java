@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for JodaTimeWarmup.
+ */
+public class TestJodaTimeWarmup extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestJodaTimeWarmup.class);
+    }
+
+    public TestJodaTimeWarmup(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testWarmup() {
+        JodaTimeWarmup.Report report = JodaTimeWarmup.warmup(
+            Arrays.asList("Europe/London", "America/New_York", "Asia/Tokyo"),
+            Arrays.asList(Locale.UK, Locale.FRANCE),
+            Arrays.asList("yyyy-MM-dd", "dd MMM yyyy HH:mm"));
+        assertEquals(3, report.getZoneCount());
+        assertEquals(2, report.getLocaleCount());
+        assertEquals(2, report.getPatternCount());
+        assertTrue(report.getZoneNanos() >= 0);
+        assertTrue(report.getLocaleNanos() >= 0);
+        assertTrue(report.getPatternNanos() >= 0);
+        assertEquals(report.getZoneNanos() + report.getLocaleNanos() + report.getPatternNanos(), report.getTotalNanos());
+        assertTrue(report.toString().startsWith("JodaTimeWarmup[zones=3 in "));
+    }
+
+    public void testWarmup_nulls() {
+        JodaTimeWarmup.Report report = JodaTimeWarmup.warmup(null, null, null);
+        assertEquals(0, report.getZoneCount());
+        assertEquals(0, report.getLocaleCount());
+        assertEquals(0, report.getPatternCount());
+    }
+
+    public void testWarmup_invalidZone() {
+        try {
+            JodaTimeWarmup.warmup(Arrays.asList("Europe/London", "Not/AZone"), null, null);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testWarmup_invalidPattern() {
+        try {
+            JodaTimeWarmup.warmup(null, null, Arrays.asList("yyyy-MM-dd bb"));
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.IOException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.CopticChronology;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormat;
+
+/**
+ * This class is a Junit unit test for LocalDateArray.
+ */
+public class TestLocalDateArray extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestLocalDateArray.class);
+    }
+
+    public TestLocalDateArray(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetSet() {
+        LocalDateArray test = LocalDateArray.of(new LocalDate(2025, 3, 1), new LocalDate(1969, 12, 31));
+        assertEquals(2, test.size());
+        assertEquals(ISOChronology.getInstanceUTC(), test.getChronology());
+        assertEquals(new LocalDate(2025, 3, 1), test.get(0));
+        assertEquals(-1, test.getEpochDay(1));
+        test.setEpochDay(1, 0);
+        assertEquals(new LocalDate(1970, 1, 1), test.get(1));
+        test.set(1, new LocalDate(2000, 2, 29));
+        assertEquals(11016, test.getEpochDay(1));
+        try {
+            test.set(0, new LocalDate(2000, 1, 1, CopticChronology.getInstanceUTC()));
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            test.set(0, new LocalDate(8000000, 1, 1));
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            test.get(2);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+        try {
+            new LocalDateArray(-1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testFields_comparedToLocalDate() {
+        Random random = new Random(39);
+        int[] days = new int[5000];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = (i % 2 == 0 ? random.nextInt(200000) - 100000 : random.nextInt());
+        }
+        Chronology[] chronos = {ISOChronology.getInstanceUTC(), CopticChronology.getInstanceUTC()};
+        for (Chronology chrono : chronos) {
+            if (chrono != chronos[0]) {
+                // Coptic only supports dates from its epoch
+                for (int i = 0; i < days.length; i++) {
+                    days[i] = random.nextInt(3000000);
+                }
+            }
+            LocalDateArray test = LocalDateArray.ofEpochDays(days, chrono);
+            int[] years = test.getYears();
+            int[] months = test.getMonthsOfYear();
+            int[] doms = test.getDaysOfMonth();
+            int[] dows = test.getDaysOfWeek();
+            int[] doys = test.get(DateTimeFieldType.dayOfYear());
+            for (int i = 0; i < days.length; i++) {
+                LocalDate date = test.get(i);
+                assertEquals(date.getYear(), years[i]);
+                assertEquals(date.getMonthOfYear(), months[i]);
+                assertEquals(date.getDayOfMonth(), doms[i]);
+                assertEquals(date.getDayOfWeek(), dows[i]);
+                assertEquals(date.getDayOfYear(), doys[i]);
+            }
+        }
+        try {
+            new LocalDateArray(1).get(DateTimeFieldType.hourOfDay());
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testSortAndSearch() {
+        LocalDateArray test = LocalDateArray.ofEpochDays(new int[] {30, -5, 10}, null);
+        assertEquals(1, test.compare(0, 1));
+        assertEquals(-1, test.compare(1, 2));
+        assertEquals(0, test.compare(2, 2));
+        test.sort();
+        assertEquals(true, java.util.Arrays.equals(new int[] {-5, 10, 30}, test.toEpochDayArray()));
+        assertEquals(1, test.binarySearch(LocalDate.ofEpochDay(10)));
+        assertEquals(-3, test.binarySearch(LocalDate.ofEpochDay(11)));
+        assertEquals(-4, test.binarySearch(new LocalDate(9000000, 1, 1)));
+    }
+
+    public void testPrint() throws IOException {
+        LocalDateArray test = LocalDateArray.of(new LocalDate(2025, 3, 1), new LocalDate(2025, 12, 25));
+        String[] printed = test.print(DateTimeFormat.forPattern("d MMM yyyy").withLocale(java.util.Locale.ENGLISH));
+        assertEquals("1 Mar 2025", printed[0]);
+        assertEquals("25 Dec 2025", printed[1]);
+        StringBuilder buf = new StringBuilder();
+        test.printTo(buf, null, ",");
+        assertEquals("2025-03-01,2025-12-25", buf.toString());
+        assertEquals("[2025-03-01, 2025-12-25]", test.toString());
+    }
+
+    public void testEqualsHashCode() {
+        LocalDateArray a = LocalDateArray.ofEpochDays(new int[] {1, 2}, null);
+        LocalDateArray b = LocalDateArray.ofEpochDays(new int[] {1, 2}, ISOChronology.getInstance(DateTimeZone.forID("Europe/Paris")));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(false, a.equals(LocalDateArray.ofEpochDays(new int[] {1, 2}, CopticChronology.getInstanceUTC())));
+        assertEquals(false, a.equals(LocalDateArray.ofEpochDays(new int[] {1, 3}, null)));
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for LocalDateTimeArray.
+ */
+public class TestLocalDateTimeArray extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestLocalDateTimeArray.class);
+    }
+
+    public TestLocalDateTimeArray(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetSet() {
+        LocalDateTimeArray test = LocalDateTimeArray.of(new LocalDateTime(2025, 3, 1, 10, 30), new LocalDateTime(1969, 12, 31, 23, 59));
+        assertEquals(2, test.size());
+        assertEquals(new LocalDateTime(2025, 3, 1, 10, 30), test.get(0));
+        assertEquals(-60000L, test.getLocalMillis(1));
+        test.setLocalMillis(1, 0L);
+        assertEquals(new LocalDateTime(1970, 1, 1, 0, 0), test.get(1));
+        try {
+            test.set(0, new LocalDateTime(0L, GJChronology.getInstanceUTC()));
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testFields_comparedToLocalDateTime() {
+        Random random = new Random(239);
+        long[] millis = new long[5000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = (random.nextLong() >> 20);
+        }
+        Chronology[] chronos = {ISOChronology.getInstanceUTC(), GJChronology.getInstanceUTC()};
+        for (Chronology chrono : chronos) {
+            LocalDateTimeArray test = LocalDateTimeArray.ofLocalMillis(millis, chrono);
+            int[] years = test.getYears();
+            int[] months = test.getMonthsOfYear();
+            int[] doms = test.getDaysOfMonth();
+            int[] dows = test.getDaysOfWeek();
+            int[] hours = test.getHoursOfDay();
+            for (int i = 0; i < millis.length; i++) {
+                LocalDateTime ldt = test.get(i);
+                assertEquals(ldt.getYear(), years[i]);
+                assertEquals(ldt.getMonthOfYear(), months[i]);
+                assertEquals(ldt.getDayOfMonth(), doms[i]);
+                assertEquals(ldt.getDayOfWeek(), dows[i]);
+                assertEquals(ldt.getHourOfDay(), hours[i]);
+            }
+        }
+    }
+
+    public void testSortSearchPrint() throws Exception {
+        LocalDateTimeArray test = LocalDateTimeArray.ofLocalMillis(new long[] {3000L, 1000L, 2000L}, null);
+        test.sort();
+        assertEquals(true, Arrays.equals(new long[] {1000L, 2000L, 3000L}, test.toLocalMillisArray()));
+        assertEquals(0, test.binarySearch(new LocalDateTime(1000L, DateTimeZone.UTC)));
+        assertEquals("[1970-01-01T00:00:01.000, 1970-01-01T00:00:02.000, 1970-01-01T00:00:03.000]", test.toString());
+        assertEquals(test, LocalDateTimeArray.ofLocalMillis(new long[] {1000L, 2000L, 3000L}, null));
+    }
+
+}
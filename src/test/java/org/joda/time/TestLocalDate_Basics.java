@@ -24,12 +24,14 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.joda.time.chrono.AssembledChronology;
 import org.joda.time.chrono.BuddhistChronology;
 import org.joda.time.chrono.CopticChronology;
 import org.joda.time.chrono.GJChronology;
@@ -37,6 +39,7 @@ import org.joda.time.chrono.GregorianChronology;
 import org.joda.time.chrono.ISOChronology;
 import org.joda.time.chrono.LenientChronology;
 import org.joda.time.chrono.StrictChronology;
+import org.joda.time.field.OffsetDateTimeField;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
@@ -1162,6 +1165,133 @@ public class TestLocalDate_Basics extends TestCase {
         assertEquals("2002-06-09", test.toString((DateTimeFormatter) null));
     }
 
+    //-----------------------------------------------------------------------
+    public void testToEpochDay() {
+        assertEquals(0L, new LocalDate(1970, 1, 1).toEpochDay());
+        assertEquals(-1L, new LocalDate(1969, 12, 31).toEpochDay());
+        assertEquals(20089L, new LocalDate(2025, 1, 1).toEpochDay());
+        assertEquals(-719528L, new LocalDate(0, 1, 1).toEpochDay());
+        assertEquals(20089L, new LocalDate(20089L * DateTimeConstants.MILLIS_PER_DAY, COPTIC_UTC).toEpochDay());
+        assertEquals(new LocalDate(2025, 1, 1).toEpochDay(),
+                new LocalDate(2025, 1, 1).toDateTimeAtStartOfDay(DateTimeZone.UTC).getMillis() / DateTimeConstants.MILLIS_PER_DAY);
+    }
+
+    public void testOfEpochDay() {
+        assertEquals(new LocalDate(1970, 1, 1), LocalDate.ofEpochDay(0));
+        assertEquals(new LocalDate(1969, 12, 31), LocalDate.ofEpochDay(-1));
+        assertEquals(new LocalDate(2000, 2, 29), LocalDate.ofEpochDay(11016));
+        assertEquals(new LocalDate(-1, 12, 31), LocalDate.ofEpochDay(-719529));
+        LocalDate max = new LocalDate(292278993, 12, 31);
+        assertEquals(max, LocalDate.ofEpochDay(max.toEpochDay()));
+        assertEquals(292278993, LocalDate.ofEpochDay(max.toEpochDay()).getYear());
+        LocalDate min = new LocalDate(-292275054, 1, 1);
+        assertEquals(min, LocalDate.ofEpochDay(min.toEpochDay()));
+        try {
+            LocalDate.ofEpochDay(max.toEpochDay() + 1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            LocalDate.ofEpochDay(min.toEpochDay() - 1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testCachedFields_comparedToChronology() {
+        Chronology iso = ISOChronology.getInstanceUTC();
+        Random random = new Random(38);
+        for (int i = 0; i < 20000; i++) {
+            long epochDay = (i < 10000 ? random.nextInt(2000000) - 1000000 : (long) random.nextInt() * 40);
+            long millis = epochDay * DateTimeConstants.MILLIS_PER_DAY;
+            LocalDate test = LocalDate.ofEpochDay(epochDay);
+            int year = iso.year().get(millis);
+            int month = iso.monthOfYear().get(millis);
+            int day = iso.dayOfMonth().get(millis);
+            assertEquals(millis, test.getLocalMillis());
+            assertEquals(year, test.getYear());
+            assertEquals(month, test.getMonthOfYear());
+            assertEquals(day, test.getDayOfMonth());
+            assertEquals(epochDay, test.toEpochDay());
+            LocalDate fromFields = new LocalDate(year, month, day);
+            assertEquals(millis, fromFields.getLocalMillis());
+            assertEquals(test, fromFields);
+            assertEquals(year, fromFields.getValue(0));
+            assertEquals(day, fromFields.getValue(2));
+        }
+    }
+
+    public void testCachedFields_otherChronology() {
+        LocalDate test = new LocalDate(1716, 13, 5, COPTIC_UTC);
+        assertEquals(1716, test.getYear());
+        assertEquals(13, test.getMonthOfYear());
+        assertEquals(5, test.getDayOfMonth());
+        assertEquals(1716, test.getYear());
+        LocalDate big = new LocalDate(200000000, 6, 15);
+        assertEquals(200000000, big.getYear());
+        assertEquals(6, big.getMonthOfYear());
+        assertEquals(15, big.getDayOfMonth());
+    }
+
+    public void testCachedFields_unpackableChronology() {
+        Chronology chrono = new OffsetChronology(ISOChronology.getInstanceUTC());
+        long millis = new LocalDate(2024, 6, 15).getLocalMillis();
+        LocalDate test = new LocalDate(millis, chrono);
+        assertEquals(2024, test.getYear());
+        assertEquals(16, test.getMonthOfYear());
+        assertEquals(35, test.getDayOfMonth());
+        assertEquals(2024, test.getYear());
+        assertEquals(16, test.getMonthOfYear());
+    }
+
+    /** Chronology with month and day values too large to pack. */
+    static class OffsetChronology extends AssembledChronology {
+        private static final long serialVersionUID = 1L;
+
+        OffsetChronology(Chronology base) {
+            super(base, null);
+        }
+
+        @Override
+        protected void assemble(Fields fields) {
+            fields.monthOfYear = new OffsetDateTimeField(fields.monthOfYear, 10);
+            fields.dayOfMonth = new OffsetDateTimeField(fields.dayOfMonth, 20);
+        }
+
+        @Override
+        public Chronology withUTC() {
+            return this;
+        }
+
+        @Override
+        public Chronology withZone(DateTimeZone zone) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OffsetChronology";
+        }
+    }
+
+    public void testConstructor_invalidFastPath() {
+        try {
+            new LocalDate(2025, 2, 29);
+            fail();
+        } catch (IllegalFieldValueException ex) {
+            // expected
+        }
+        try {
+            new LocalDate(2025, 13, 1);
+            fail();
+        } catch (IllegalFieldValueException ex) {
+            // expected
+        }
+        assertEquals(29, new LocalDate(2024, 2, 29).getDayOfMonth());
+    }
+
     //-----------------------------------------------------------------------
     private void check(LocalDate test, int hour, int min, int sec) {
         assertEquals(hour, test.getYear());
@@ -194,6 +194,33 @@ public class TestLocalDate_Constructors extends TestCase {
         assertEquals(test, LocalDate.now(PARIS));
     }
 
+    public void testNow_DateTimeZone_changingTime() throws Throwable {
+        DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+        DateTime midnight = new DateTime(2005, 6, 9, 0, 0, 0, 0, PARIS);
+        DateTimeUtils.setCurrentMillisFixed(midnight.getMillis() - 1);
+        assertEquals(new LocalDate(2005, 6, 8), LocalDate.now(PARIS));
+        DateTimeUtils.setCurrentMillisFixed(midnight.getMillis());
+        assertEquals(new LocalDate(2005, 6, 9), LocalDate.now(PARIS));
+        assertEquals(new LocalDate(2005, 6, 8), LocalDate.now(newYork));
+        DateTimeUtils.setCurrentMillisFixed(midnight.getMillis() - 1);
+        assertEquals(new LocalDate(2005, 6, 8), LocalDate.now(PARIS));
+        DateTimeUtils.setCurrentMillisFixed(midnight.getMillis() - 10 * DateTimeConstants.MILLIS_PER_HOUR);
+        LocalDate shared = LocalDate.now(PARIS);
+        DateTimeUtils.setCurrentMillisFixed(midnight.getMillis() - 2 * DateTimeConstants.MILLIS_PER_HOUR);
+        assertSame(shared, LocalDate.now(PARIS));
+        
+        // 2005-10-30 01:59:59.999 -04:00 in New York, then 2005-10-30 01:00 -05:00
+        DateTime beforeTransition = new DateTime(2005, 10, 29, 23, 0, 0, 0, newYork);
+        DateTimeUtils.setCurrentMillisFixed(beforeTransition.getMillis());
+        assertEquals(new LocalDate(2005, 10, 29), LocalDate.now(newYork));
+        DateTimeUtils.setCurrentMillisFixed(beforeTransition.getMillis() + 2 * DateTimeConstants.MILLIS_PER_HOUR);
+        assertEquals(new LocalDate(2005, 10, 30), LocalDate.now(newYork));
+        DateTimeUtils.setCurrentMillisFixed(beforeTransition.getMillis() + 25 * DateTimeConstants.MILLIS_PER_HOUR);
+        assertEquals(new LocalDate(2005, 10, 30), LocalDate.now(newYork));
+        DateTimeUtils.setCurrentMillisFixed(beforeTransition.getMillis() + 26 * DateTimeConstants.MILLIS_PER_HOUR);
+        assertEquals(new LocalDate(2005, 10, 31), LocalDate.now(newYork));
+    }
+
     public void testConstructor_nullDateTimeZone() throws Throwable {
         DateTime dt = new DateTime(2005, 6, 8, 23, 59, 0, 0, LONDON);
         DateTimeUtils.setCurrentMillisFixed(dt.getMillis());
@@ -101,6 +101,18 @@ public class TestMinutes extends TestCase {
         assertEquals(6, Minutes.minutesBetween(start, end2).getMinutes());
     }
 
+    public void testFactory_minutesBetween_RPartial_LocalDateTime() {
+        LocalDateTime start = new LocalDateTime(2006, 6, 9, 23, 58, 30);
+        LocalDateTime end1 = new LocalDateTime(2006, 6, 10, 0, 1, 29);
+        LocalDateTime end2 = new LocalDateTime(2006, 6, 11, 0, 1, 30);
+        
+        assertEquals(2, Minutes.minutesBetween(start, end1).getMinutes());
+        assertEquals(0, Minutes.minutesBetween(start, start).getMinutes());
+        assertEquals(-2, Minutes.minutesBetween(end1, start).getMinutes());
+        assertEquals(24 * 60 + 3, Minutes.minutesBetween(start, end2).getMinutes());
+        assertEquals(-(24 * 60 + 3), Minutes.minutesBetween(end2, start).getMinutes());
+    }
+
     public void testFactory_minutesIn_RInterval() {
         DateTime start = new DateTime(2006, 6, 9, 12, 3, 0, 0, PARIS);
         DateTime end1 = new DateTime(2006, 6, 9, 12, 6, 0, 0, PARIS);
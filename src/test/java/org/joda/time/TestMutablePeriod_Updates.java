@@ -1454,4 +1454,136 @@ public class TestMutablePeriod_Updates extends TestCase {
         assertEquals(8, test.getMillis());
     }
 
+    //-----------------------------------------------------------------------
+    public void testSubtract_RP1() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, 8);
+        test.subtract(new Period(1, 1, 1, 1, 1, 1, 1, 10));
+        assertEquals(new Period(0, 1, 2, 3, 4, 5, 6, -2), test.toPeriod());
+    }
+
+    public void testSubtract_RP2() {
+        MutablePeriod test = new MutablePeriod(1, 2, 0, 4, 5, 6, 7, 8, PeriodType.yearMonthDayTime());
+        try {
+            test.subtract(new Period(1, 2, 3, 4, 5, 6, 7, 8));  // cannot set weeks
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        assertEquals(new Period(1, 2, 0, 4, 5, 6, 7, 8, PeriodType.yearMonthDayTime()), test.toPeriod());
+    }
+
+    public void testSubtract_RP3() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, 8);
+        try {
+            test.subtract(new Period(0, 0, 0, 0, 0, 0, 1, Integer.MIN_VALUE));
+            fail();
+        } catch (ArithmeticException ex) {}
+        assertEquals(new Period(1, 2, 3, 4, 5, 6, 7, 8), test.toPeriod());
+    }
+
+    public void testSubtract_RP_minValue() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, -1);
+        test.subtract(new Period(0, 0, 0, 0, 0, 0, 0, Integer.MIN_VALUE));
+        assertEquals(new Period(1, 2, 3, 4, 5, 6, 7, Integer.MAX_VALUE), test.toPeriod());
+    }
+
+    public void testSubtract_RP4() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, 8);
+        test.subtract((ReadablePeriod) null);
+        assertEquals(new Period(1, 2, 3, 4, 5, 6, 7, 8), test.toPeriod());
+    }
+
+    public void testAdd_RP_overflowUnchanged() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, Integer.MAX_VALUE);
+        try {
+            test.add(new Period(1, 1, 1, 1, 1, 1, 1, 1));
+            fail();
+        } catch (ArithmeticException ex) {}
+        assertEquals(new Period(1, 2, 3, 4, 5, 6, 7, Integer.MAX_VALUE), test.toPeriod());
+    }
+
+    //-----------------------------------------------------------------------
+    public void testMultiply() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, 8);
+        test.multiply(2);
+        assertEquals(new Period(2, 4, 6, 8, 10, 12, 14, 16), test.toPeriod());
+        test.multiply(1);
+        assertEquals(new Period(2, 4, 6, 8, 10, 12, 14, 16), test.toPeriod());
+        test.multiply(0);
+        assertEquals(new Period(), test.toPeriod());
+    }
+
+    public void testMultiply_overflow() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, Integer.MAX_VALUE / 2 + 1);
+        try {
+            test.multiply(2);
+            fail();
+        } catch (ArithmeticException ex) {}
+        assertEquals(new Period(1, 2, 3, 4, 5, 6, 7, Integer.MAX_VALUE / 2 + 1), test.toPeriod());
+    }
+
+    public void testNegate() {
+        MutablePeriod test = new MutablePeriod(1, 2, 3, 4, 5, 6, 7, 8);
+        test.negate();
+        assertEquals(new Period(-1, -2, -3, -4, -5, -6, -7, -8), test.toPeriod());
+        
+        test = new MutablePeriod(0, 0, 0, 0, 0, 0, 0, Integer.MIN_VALUE);
+        try {
+            test.negate();
+            fail();
+        } catch (ArithmeticException ex) {}
+    }
+
+    //-----------------------------------------------------------------------
+    public void testNormalizeStandard_matchesPeriod() {
+        Period[] periods = new Period[] {
+            new Period(1, 15, 0, 0, 0, 0, 0, 0),
+            new Period(0, 0, 1, 10, 25, 70, 70, 1500),
+            new Period(-1, 15, 2, -3, 4, -5, 6, -7),
+            new Period(0, 0, 0, 0, 0, 0, 0, Integer.MAX_VALUE),
+            new Period(0, 0, 0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE),
+        };
+        PeriodType[] types = new PeriodType[] {
+            PeriodType.standard(), PeriodType.yearMonthDayTime(), PeriodType.yearWeekDayTime(),
+            PeriodType.yearMonthDay(), PeriodType.standard().withMillisRemoved(), PeriodType.yearDayTime(),
+        };
+        for (int i = 0; i < periods.length; i++) {
+            for (int j = 0; j < types.length; j++) {
+                Period expected;
+                try {
+                    expected = periods[i].normalizedStandard(types[j]);
+                } catch (RuntimeException ex) {
+                    expected = null;
+                }
+                MutablePeriod test = new MutablePeriod(types[j]);
+                try {
+                    test.setPeriod(periods[i]);
+                } catch (IllegalArgumentException ex) {
+                    continue;
+                }
+                if (expected != null) {
+                    test.normalizeStandard();
+                    assertEquals(periods[i] + " " + types[j], expected, test.toPeriod());
+                } else {
+                    Period before = test.toPeriod();
+                    try {
+                        test.normalizeStandard();
+                        fail();
+                    } catch (RuntimeException ex) {}
+                    assertEquals(before, test.toPeriod());
+                }
+            }
+        }
+    }
+
+    public void testNormalizeStandard_yearsMonths() {
+        MutablePeriod test = new MutablePeriod(1, 15, 0, 40, 0, 0, 0, 0);
+        test.normalizeStandard();
+        assertEquals(new Period(2, 3, 5, 5, 0, 0, 0, 0), test.toPeriod());
+    }
+
+    public void testNormalizeStandard_noMonths() {
+        MutablePeriod test = new MutablePeriod(0, 0, 0, 1, 25, 0, 0, 0, PeriodType.dayTime());
+        test.normalizeStandard();
+        assertEquals(new Period(0, 0, 0, 2, 1, 0, 0, 0, PeriodType.dayTime()), test.toPeriod());
+    }
+
 }
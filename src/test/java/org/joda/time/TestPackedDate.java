@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for PackedDate.
+ */
+public class TestPackedDate extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestPackedDate.class);
+    }
+
+    public TestPackedDate(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testEpochDay_roundTrip() {
+        Chronology chrono = ISOChronology.getInstanceUTC();
+        Random random = new Random(1234);
+        for (int i = 0; i < 5000; i++) {
+            long epochDay = random.nextInt(2 * 1000000) - 1000000;
+            int packed = PackedDate.yearMonthDay(epochDay);
+            int year = packed >> 9;
+            int month = (packed >> 5) & 0x0F;
+            int day = packed & 0x1F;
+            long millis = epochDay * 86400000L;
+            assertEquals(chrono.year().get(millis), year);
+            assertEquals(chrono.monthOfYear().get(millis), month);
+            assertEquals(chrono.dayOfMonth().get(millis), day);
+            assertEquals(chrono.dayOfMonth().getMaximumValue(millis), PackedDate.lengthOfMonth(year, month));
+            assertEquals(epochDay, PackedDate.epochDay(year, month, day));
+            assertEquals(PackedDate.pack(year, month, day), packed);
+        }
+    }
+
+    public void testYearMonthDay_outsidePackedLimit() {
+        assertEquals(0, PackedDate.yearMonthDay(PackedDate.epochDay(PackedDate.PACKED_YEAR_LIMIT, 1, 1)));
+        assertEquals(0, PackedDate.yearMonthDay(PackedDate.epochDay(-PackedDate.PACKED_YEAR_LIMIT, 12, 31)));
+        assertEquals(PackedDate.PACKED_YEAR_LIMIT - 1,
+                PackedDate.yearMonthDay(PackedDate.epochDay(PackedDate.PACKED_YEAR_LIMIT - 1, 12, 31)) >> 9);
+    }
+
+}
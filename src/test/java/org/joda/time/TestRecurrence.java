@@ -0,0 +1,223 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for Recurrence.
+ */
+public class TestRecurrence extends TestCase {
+
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+    private static final DateTimeZone NEW_YORK = DateTimeZone.forID("America/New_York");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestRecurrence.class);
+    }
+
+    public TestRecurrence(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testWeekly_acrossDaylightSavings() {
+        LocalDateTime start = new LocalDateTime(2025, 1, 7, 9, 0);
+        Recurrence test = Recurrence.of(start, Period.weeks(2), LONDON);
+        long[] array = test.toMillisArray(260);
+        for (int i = 0; i < array.length; i++) {
+            DateTime expected = start.plusWeeks(2 * i).toDateTime(LONDON);
+            assertEquals(expected.getMillis(), array[i]);
+            assertEquals(expected, test.getDateTime(i));
+        }
+        assertEquals(new DateTime(2025, 4, 1, 9, 0, LONDON).getMillis(), array[6]);
+    }
+
+    public void testMonthly_endOfMonth() {
+        Recurrence test = Recurrence.of(new LocalDateTime(2025, 1, 31, 12, 0), Period.months(1), NEW_YORK);
+        long[] array = test.toMillisArray(4);
+        assertEquals(new DateTime(2025, 1, 31, 12, 0, NEW_YORK).getMillis(), array[0]);
+        assertEquals(new DateTime(2025, 2, 28, 12, 0, NEW_YORK).getMillis(), array[1]);
+        assertEquals(new DateTime(2025, 3, 31, 12, 0, NEW_YORK).getMillis(), array[2]);
+        assertEquals(new DateTime(2025, 4, 30, 12, 0, NEW_YORK).getMillis(), array[3]);
+    }
+
+    public void testGapAndOverlap() {
+        Recurrence test = Recurrence.of(new LocalDateTime(2025, 3, 8, 2, 30), Period.days(1), NEW_YORK);
+        long[] array = test.toMillisArray(2);
+        assertEquals(new DateTime(2025, 3, 9, 3, 0, NEW_YORK).getMillis(), array[1]);
+        assertEquals(array[1], test.getMillis(1));
+
+        test = Recurrence.of(new LocalDateTime(2025, 11, 1, 1, 30), Period.days(1), NEW_YORK);
+        array = test.toMillisArray(2);
+        assertEquals(new DateTime(2025, 11, 2, 1, 30, NEW_YORK).withEarlierOffsetAtOverlap().getMillis(), array[1]);
+    }
+
+    public void testGap_subHourStepStaysInOrder() {
+        Recurrence test = Recurrence.of(new LocalDateTime(2024, 3, 30, 0, 30), Period.minutes(30), LONDON);
+        long[] array = test.toMillisArray(new DateTime(2024, 4, 1, 0, 0, LONDON));
+        long transition = new DateTime(2024, 3, 31, 2, 0, LONDON).getMillis();
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i] >= array[i - 1]);
+            assertEquals(test.getMillis(i), array[i]);
+        }
+        // 01:00, 01:30 and 02:00 on 2024-03-31 all resolve to the end of the gap
+        assertEquals(transition - 30 * DateTimeConstants.MILLIS_PER_MINUTE, array[48]);
+        assertEquals(transition, array[49]);
+        assertEquals(transition, array[50]);
+        assertEquals(transition, array[51]);
+        assertEquals(transition + 30 * DateTimeConstants.MILLIS_PER_MINUTE, array[52]);
+        Recurrence.Cursor cursor = test.cursor(new DateTime(2024, 4, 1, 0, 0, LONDON));
+        long previous = Long.MIN_VALUE;
+        while (cursor.next()) {
+            assertTrue(cursor.getMillis() >= previous);
+            previous = cursor.getMillis();
+        }
+    }
+
+    public void testToMillisArray_end() {
+        LocalDateTime start = new LocalDateTime(2025, 1, 1, 0, 0);
+        Recurrence test = Recurrence.of(start, Period.hours(6), LONDON);
+        long[] array = test.toMillisArray(new DateTime(2025, 1, 3, 0, 0, LONDON));
+        assertEquals(8, array.length);
+        assertEquals(new DateTime(2025, 1, 2, 18, 0, LONDON).getMillis(), array[7]);
+        assertEquals(0, test.toMillisArray(new DateTime(2024, 1, 1, 0, 0, LONDON)).length);
+
+        test = Recurrence.of(start, Period.months(1), LONDON);
+        array = test.toMillisArray(new DateTime(2035, 1, 1, 0, 0, LONDON));
+        assertEquals(120, array.length);
+    }
+
+    public void testCursor() {
+        Recurrence test = Recurrence.of(new LocalDateTime(2025, 1, 1, 9, 0), Period.days(1), LONDON);
+        Recurrence.Cursor cursor = test.cursor(new DateTime(2025, 1, 3, 0, 0, LONDON));
+        try {
+            cursor.getMillis();
+            fail();
+        } catch (NoSuchElementException ex) {
+            // expected
+        }
+        assertEquals(true, cursor.next());
+        assertEquals(new DateTime(2025, 1, 1, 9, 0, LONDON), cursor.toDateTime());
+        assertEquals(true, cursor.next());
+        assertEquals(test.getMillis(1), cursor.getMillis());
+        assertEquals(false, cursor.next());
+        assertEquals(false, cursor.next());
+    }
+
+    public void testFixedZone() {
+        DateTimeZone zone = DateTimeZone.forOffsetHours(3);
+        Recurrence test = Recurrence.of(new LocalDateTime(2025, 1, 1, 9, 0), Period.minutes(90), zone);
+        long[] array = test.toMillisArray(1000);
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(test.getMillis(i), array[i]);
+        }
+    }
+
+    public void testRandom_comparedToFieldArithmetic() {
+        Random random = new Random(2025);
+        DateTimeZone[] zones = {LONDON, NEW_YORK, DateTimeZone.forID("Australia/Lord_Howe"),
+            DateTimeZone.forID("Pacific/Apia"), DateTimeZone.UTC};
+        for (int run = 0; run < 100; run++) {
+            LocalDateTime start = new LocalDateTime(1990 + random.nextInt(40), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), 15 * random.nextInt(4));
+            Period period;
+            switch (random.nextInt(4)) {
+                case 0:
+                    period = Period.hours(1 + random.nextInt(30));
+                    break;
+                case 1:
+                    period = Period.days(1 + random.nextInt(10));
+                    break;
+                case 2:
+                    period = Period.months(1 + random.nextInt(3)).withDays(random.nextInt(3));
+                    break;
+                default:
+                    period = Period.minutes(1 + random.nextInt(600));
+                    break;
+            }
+            DateTimeZone zone = zones[random.nextInt(zones.length)];
+            long[] array = Recurrence.of(start, period, zone).toMillisArray(300);
+            for (int i = 0; i < array.length; i++) {
+                long local = start.plus(period.multipliedBy(i)).getLocalMillis();
+                long expected = local - zone.getOffsetFromLocal(local);
+                if (zone.isLocalDateTimeGap(new LocalDateTime(local, ISOChronology.getInstanceUTC()))) {
+                    expected = zone.nextTransition(expected - DateTimeConstants.MILLIS_PER_DAY);
+                }
+                assertEquals(expected, array[i]);
+                assertTrue(i == 0 || array[i] >= array[i - 1]);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testOf_invalid() {
+        LocalDateTime start = new LocalDateTime(2025, 1, 1, 9, 0);
+        try {
+            Recurrence.of(null, Period.days(1), LONDON);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            Recurrence.of(start, null, LONDON);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            Recurrence.of(start, Period.ZERO, LONDON);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            Recurrence.of(start, Period.days(2).withHours(-1), LONDON);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            Recurrence.of(start, Period.days(1), LONDON).getMillis(-1);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
+    public void testEqualsHashCodeToString() {
+        Recurrence a = Recurrence.of(new LocalDateTime(2025, 1, 7, 9, 0), Period.weeks(2), LONDON);
+        Recurrence b = Recurrence.of(new LocalDateTime(2025, 1, 7, 9, 0), Period.weeks(2), LONDON);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(false, a.equals(Recurrence.of(new LocalDateTime(2025, 1, 7, 9, 0), Period.weeks(2), NEW_YORK)));
+        assertEquals(new LocalDateTime(2025, 1, 7, 9, 0), a.getStart());
+        assertEquals(Period.weeks(2), a.getPeriod());
+        assertEquals(LONDON, a.getZone());
+        assertEquals("2025-01-07T09:00:00.000/P2W[Europe/London]", a.toString());
+    }
+
+}
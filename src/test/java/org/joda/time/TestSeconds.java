@@ -101,6 +101,18 @@ public class TestSeconds extends TestCase {
         assertEquals(6, Seconds.secondsBetween(start, end2).getSeconds());
     }
 
+    public void testFactory_secondsBetween_RPartial_LocalDateTime() {
+        LocalDateTime start = new LocalDateTime(2006, 6, 9, 23, 59, 58, 500);
+        LocalDateTime end1 = new LocalDateTime(2006, 6, 10, 0, 0, 1, 499);
+        LocalDateTime end2 = new LocalDateTime(2006, 6, 11, 0, 0, 1, 500);
+        
+        assertEquals(2, Seconds.secondsBetween(start, end1).getSeconds());
+        assertEquals(0, Seconds.secondsBetween(start, start).getSeconds());
+        assertEquals(-2, Seconds.secondsBetween(end1, start).getSeconds());
+        assertEquals(24 * 60 * 60 + 3, Seconds.secondsBetween(start, end2).getSeconds());
+        assertEquals(-(24 * 60 * 60 + 3), Seconds.secondsBetween(end2, start).getSeconds());
+    }
+
     public void testFactory_secondsIn_RInterval() {
         DateTime start = new DateTime(2006, 6, 9, 12, 0, 3, 0, PARIS);
         DateTime end1 = new DateTime(2006, 6, 9, 12, 0, 6, 0, PARIS);
@@ -18,6 +18,7 @@ package org.joda.time;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
@@ -33,6 +34,7 @@ import org.joda.time.chrono.GJChronology;
 import org.joda.time.chrono.GregorianChronology;
 import org.joda.time.chrono.ISOChronology;
 import org.joda.time.chrono.JulianChronology;
+import org.joda.time.chrono.LenientChronology;
 import org.joda.time.field.UnsupportedDateTimeField;
 import org.joda.time.field.UnsupportedDurationField;
 
@@ -291,6 +293,102 @@ public class TestSerialization extends TestCase {
         inlineCompare(test, true);
     }
 
+    //-----------------------------------------------------------------------
+    public void testCompactSerialization() throws Exception {
+        Serializable[] values = {
+            new DateTime(2002, 6, 9, 12, 30, 40, 500, PARIS),
+            new DateTime(2002, 6, 9, 12, 30, 40, 500, ISOChronology.getInstanceUTC()),
+            new DateTime(2002, 6, 9, 12, 30, 40, 500, GregorianChronology.getInstance(TOKYO, 2)),
+            new DateTime(2002, 6, 9, 12, 30, 40, 500, GJChronology.getInstance(LONDON, new Instant(0L), 3)),
+            new DateTime(2002, 6, 9, 12, 30, 40, 500, GJChronology.getInstanceUTC()),
+            new DateTime(2545, 6, 9, 12, 30, 40, 500, BuddhistChronology.getInstanceUTC()),
+            new DateTime(0L, DateTimeZone.forOffsetHours(5)),
+            new Instant(-123456789L),
+            new LocalDate(2002, 6, 9),
+            new LocalDate(1718, 6, 9, CopticChronology.getInstanceUTC()),
+            new LocalDateTime(2002, 6, 9, 12, 30, 40, 500),
+            new Interval(new DateTime(2002, 6, 9, 0, 0, PARIS), new DateTime(2002, 7, 9, 0, 0, PARIS)),
+            new Duration(123456789L),
+            new Period(1, 2, 3, 4, 5, 6, 7, 8),
+            new Period(1, 2, 0, 4, 0, 0, 0, 0, PeriodType.yearMonthDay()),
+        };
+        for (int i = 0; i < values.length; i++) {
+            Serializable compact = compact(values[i]);
+            assertTrue(compact instanceof Ser);
+            byte[] bytes = serialize(compact);
+            assertTrue(bytes.length < serialize(values[i]).length);
+            assertEquals(values[i], deserialize(bytes));
+            assertEquals(values[i], deserialize(bytes));
+        }
+        // standard form can still be read
+        loadAndCompare(new DateTime(), "DateTime", false);
+        loadAndCompare(new LocalDate(), "LocalDate", false);
+    }
+
+    public void testCompactSerialization_disabled() throws Exception {
+        DateTime test = new DateTime(0L, ISOChronology.getInstanceUTC());
+        assertSame(test, Ser.replace(false, BinaryCodec.TAG_DATE_TIME, test, test.getChronology()));
+    }
+
+    public void testCompactSerialization_unsupportedChronology() throws Exception {
+        DateTime test = new DateTime(0L, LenientChronology.getInstance(ISOChronology.getInstanceUTC()));
+        assertSame(test, compact(test));
+        assertEquals(test, deserialize(serialize(compact(test))));
+    }
+
+    private static Serializable compact(Object value) {
+        return (Serializable) compactObject(value);
+    }
+
+    private static Object compactObject(Object value) {
+        if (value instanceof DateTime) {
+            return Ser.replace(true, BinaryCodec.TAG_DATE_TIME, value, ((DateTime) value).getChronology());
+        } else if (value instanceof Instant) {
+            return Ser.replace(true, BinaryCodec.TAG_INSTANT, value, null);
+        } else if (value instanceof LocalDate) {
+            return Ser.replace(true, BinaryCodec.TAG_LOCAL_DATE, value, ((LocalDate) value).getChronology());
+        } else if (value instanceof LocalDateTime) {
+            return Ser.replace(true, BinaryCodec.TAG_LOCAL_DATE_TIME, value, ((LocalDateTime) value).getChronology());
+        } else if (value instanceof Interval) {
+            return Ser.replace(true, BinaryCodec.TAG_INTERVAL, value, ((Interval) value).getChronology());
+        } else if (value instanceof Duration) {
+            return Ser.replace(true, BinaryCodec.TAG_DURATION, value, null);
+        } else if (value instanceof Period) {
+            return Ser.replace(true, BinaryCodec.TAG_PERIOD, value, null);
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public void testCompactSerialization_unknownVersion() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeByte(2);
+        oos.writeByte(1);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        try {
+            new Ser().readExternal(ois);
+            fail();
+        } catch (InvalidObjectException ex) {
+            // expected
+        }
+    }
+
+    private byte[] serialize(Serializable test) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        return baos.toByteArray();
+    }
+
+    private Object deserialize(byte[] bytes) throws Exception {
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        Object obj = ois.readObject();
+        ois.close();
+        return obj;
+    }
+
     private void loadAndCompare(Serializable test, String filename, boolean same) throws Exception {
         FileInputStream fis = new FileInputStream("src/test/resources/" + filename + ".dat");
         ObjectInputStream ois = new ObjectInputStream(fis);
@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for TimeBucketer.
+ */
+public class TestTimeBucketer extends TestCase {
+
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+    private static final DateTimeZone NEW_YORK = DateTimeZone.forID("America/New_York");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestTimeBucketer.class);
+    }
+
+    public TestTimeBucketer(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testHours_springForward() {
+        Interval day = new Interval(new DateTime(2025, 3, 30, 0, 0, LONDON), new DateTime(2025, 3, 31, 0, 0, LONDON));
+        TimeBucketer test = TimeBucketer.of(day, Period.hours(1), LONDON);
+        assertEquals(24, test.size());
+        assertEquals(day.getStartMillis(), test.getStartMillis(0));
+        assertEquals(0, test.getBucket(1).toDurationMillis());
+        assertEquals(new DateTime(2025, 3, 30, 2, 0, LONDON).getMillis(), test.getStartMillis(2));
+        assertEquals(day.getEndMillis(), test.getEndMillis(23));
+        assertEquals(2, test.indexOf(new DateTime(2025, 3, 30, 2, 0, LONDON).getMillis()));
+        assertEquals(-1, test.indexOf(day.getEndMillis()));
+        assertEquals(-1, test.indexOf(day.getStartMillis() - 1));
+    }
+
+    public void testMinutes_springForward() {
+        DateTime start = new DateTime(2024, 3, 31, 0, 0, LONDON);
+        TimeBucketer test = TimeBucketer.of(new Interval(start, start.plusHours(6)), Period.minutes(30), LONDON);
+        long transition = new DateTime(2024, 3, 31, 2, 0, LONDON).getMillis();
+        for (int i = 0; i < test.size(); i++) {
+            assertTrue(test.getStartMillis(i) <= test.getEndMillis(i));
+            assertEquals(test.getEndMillis(i) - test.getStartMillis(i), test.getBucket(i).toDurationMillis());
+        }
+        long instant = transition + 15 * DateTimeConstants.MILLIS_PER_MINUTE;
+        int index = test.indexOf(instant);
+        assertEquals(transition, test.getStartMillis(index));
+        assertEquals(transition + 30 * DateTimeConstants.MILLIS_PER_MINUTE, test.getEndMillis(index));
+        assertEquals(index, test.indexOf(transition));
+        int[] results = new int[1];
+        test.indexOf(new long[] {instant}, results);
+        assertEquals(index, results[0]);
+        assertEquals(0, test.getBucket(index - 1).toDurationMillis());
+    }
+
+    public void testDays_fallBack() {
+        Interval month = new Interval(new DateTime(2025, 11, 1, 0, 0, NEW_YORK), new DateTime(2025, 12, 1, 0, 0, NEW_YORK));
+        TimeBucketer test = TimeBucketer.of(month, Period.days(1), NEW_YORK);
+        assertEquals(30, test.size());
+        assertEquals(25 * DateTimeConstants.MILLIS_PER_HOUR, test.getBucket(1).toDurationMillis());
+        assertEquals(new Interval(new DateTime(2025, 11, 2, 0, 0, NEW_YORK), new DateTime(2025, 11, 3, 0, 0, NEW_YORK)),
+                test.getBucket(1));
+    }
+
+    public void testAlignment() {
+        DateTime start = new DateTime(2025, 1, 15, 9, 30, LONDON);
+        TimeBucketer test = TimeBucketer.of(new Interval(start, start.plusDays(1)), Period.hours(6), LONDON);
+        assertEquals(new DateTime(2025, 1, 15, 9, 0, LONDON).getMillis(), test.getStartMillis(0));
+        assertEquals(new DateTime(2025, 1, 15, 15, 0, LONDON).getMillis(), test.getStartMillis(1));
+        assertEquals(5, test.size());
+
+        test = TimeBucketer.of(new Interval(start, start.plusMonths(3)), Period.months(1), LONDON);
+        assertEquals(new DateTime(2025, 1, 1, 0, 0, LONDON).getMillis(), test.getStartMillis(0));
+        assertEquals(4, test.size());
+
+        test = TimeBucketer.of(new Interval(start, start), Period.weeks(1), LONDON);
+        assertEquals(new DateTime(2025, 1, 13, 0, 0, LONDON).getMillis(), test.getStartMillis(0));
+        assertEquals(1, test.size());
+    }
+
+    public void testOf_recurrence() {
+        Recurrence recurrence = Recurrence.of(new LocalDateTime(2025, 1, 1, 0, 0), Period.months(1), NEW_YORK);
+        TimeBucketer test = TimeBucketer.of(recurrence, new DateTime(2025, 12, 31, 0, 0, NEW_YORK));
+        assertEquals(12, test.size());
+        assertEquals(new DateTime(2026, 1, 1, 0, 0, NEW_YORK).getMillis(), test.getEndMillis(11));
+        try {
+            TimeBucketer.of(null, new Instant());
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testIndexOf_bulk() {
+        Interval range = new Interval(new DateTime(2025, 1, 1, 0, 0, LONDON), new DateTime(2026, 1, 1, 0, 0, LONDON));
+        TimeBucketer test = TimeBucketer.of(range, Period.hours(1), LONDON);
+        Random random = new Random(99);
+        long[] instants = new long[5000];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = range.getStartMillis() - DateTimeConstants.MILLIS_PER_DAY +
+                    (long) (random.nextDouble() * (range.toDurationMillis() + 2L * DateTimeConstants.MILLIS_PER_DAY));
+        }
+        int[] results = new int[instants.length];
+        test.indexOf(instants, results);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(test.indexOf(instants[i]), results[i]);
+        }
+        Arrays.sort(instants);
+        test.indexOf(instants, results);
+        int total = 0;
+        for (int i = 0; i < instants.length; i++) {
+            int index = test.indexOf(instants[i]);
+            assertEquals(index, results[i]);
+            if (index >= 0) {
+                assertEquals(true, test.getBucket(index).contains(instants[i]));
+                assertEquals(new DateTime(instants[i], LONDON).hourOfDay().roundFloorCopy().toLocalDateTime(),
+                        new LocalDateTime(test.getStartMillis(index), LONDON));
+                total++;
+            }
+        }
+        int[] counts = test.counts(instants);
+        int sum = 0;
+        for (int count : counts) {
+            sum += count;
+        }
+        assertEquals(total, sum);
+    }
+
+    public void testInvalid() {
+        TimeBucketer test = TimeBucketer.of(new Interval(0, DateTimeConstants.MILLIS_PER_DAY), Period.hours(1), DateTimeZone.UTC);
+        try {
+            test.getStartMillis(24);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+        try {
+            test.indexOf(new long[2], new int[1]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            TimeBucketer.of(new Interval(0, 1), null, DateTimeZone.UTC);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        assertEquals("TimeBucketer[24 buckets from 1970-01-01T00:00:00.000Z]", test.toString());
+    }
+
+}
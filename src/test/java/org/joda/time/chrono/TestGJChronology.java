@@ -163,6 +163,32 @@ public class TestGJChronology extends TestCase {
         } catch (IllegalArgumentException ex) {}
     }
 
+    public void testFactory_cached() {
+        assertSame(GJChronology.getInstance(TOKYO, new Instant(0L), 2), GJChronology.getInstance(TOKYO, 0L, 2));
+        assertSame(GJChronology.getInstance(TOKYO, new DateTime(0L), 2), GJChronology.getInstance(TOKYO, 0L, 2));
+        assertNotSame(GJChronology.getInstance(TOKYO, 0L, 2), GJChronology.getInstance(TOKYO, 0L, 3));
+        assertNotSame(GJChronology.getInstance(TOKYO, 0L, 2), GJChronology.getInstance(TOKYO, 1L, 2));
+        assertNotSame(GJChronology.getInstance(TOKYO, 0L, 2), GJChronology.getInstance(PARIS, 0L, 2));
+        assertEquals(1L, GJChronology.getInstance(TOKYO, 1L, 2).getGregorianCutover().getMillis());
+        assertEquals(3, GJChronology.getInstance(TOKYO, 0L, 3).getMinimumDaysInFirstWeek());
+        
+        long cutover = new DateTime(1582, 10, 15, 0, 0, 0, 0, DateTimeZone.UTC).getMillis();
+        assertSame(GJChronology.getInstance(TOKYO), GJChronology.getInstance(TOKYO, cutover, 4));
+        assertSame(GJChronology.getInstance(TOKYO), GJChronology.getInstance(TOKYO, new Instant(cutover), 4));
+    }
+
+    public void testFactory_cutoverTooEarly() {
+        long cutover = new DateTime(-1, 1, 1, 0, 0, 0, 0, DateTimeZone.UTC).getMillis();
+        try {
+            GJChronology.getInstance(TOKYO, cutover, 4);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            GJChronology.getInstance(TOKYO, new Instant(cutover));
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
     //-----------------------------------------------------------------------
     public void testEquality() {
         assertSame(GJChronology.getInstance(TOKYO), GJChronology.getInstance(TOKYO));
@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * This class is a Junit unit test for IsoFastPath.
+ */
+public class TestIsoFastPath extends TestCase {
+
+    private static final DateTimeFieldType[] TYPES = {
+        DateTimeFieldType.year(),
+        DateTimeFieldType.monthOfYear(),
+        DateTimeFieldType.dayOfMonth(),
+        DateTimeFieldType.dayOfYear(),
+        DateTimeFieldType.dayOfWeek(),
+        DateTimeFieldType.hourOfDay(),
+        DateTimeFieldType.minuteOfDay(),
+        DateTimeFieldType.minuteOfHour(),
+        DateTimeFieldType.secondOfDay(),
+        DateTimeFieldType.secondOfMinute(),
+        DateTimeFieldType.millisOfDay(),
+        DateTimeFieldType.millisOfSecond(),
+        DateTimeFieldType.weekyear(),
+        DateTimeFieldType.centuryOfEra(),
+    };
+    private static final Chronology[] CHRONOS = {
+        ISOChronology.getInstanceUTC(),
+        ISOChronology.getInstance(DateTimeZone.forOffsetHoursMinutes(5, 30)),
+        ISOChronology.getInstance(DateTimeZone.forOffsetHours(-8)),
+        ISOChronology.getInstance(DateTimeZone.forID("Europe/London")),
+        ISOChronology.getInstance(DateTimeZone.forID("America/New_York")),
+        GregorianChronology.getInstanceUTC(),
+        GJChronology.getInstance(DateTimeZone.forID("Europe/Paris")),
+        JulianChronology.getInstanceUTC(),
+    };
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestIsoFastPath.class);
+    }
+
+    public TestIsoFastPath(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGet_matchesFields() {
+        Random random = new Random(7654);
+        for (int i = 0; i < 20000; i++) {
+            long instant;
+            switch (i % 3) {
+                case 0:
+                    instant = random.nextLong() % (5000L * 365 * 86400000L);
+                    break;
+                case 1:
+                    instant = random.nextLong() % (60L * 365 * 86400000L);
+                    break;
+                default:
+                    instant = random.nextLong() % (2000000L * 365 * 86400000L);
+                    break;
+            }
+            assertMatches(CHRONOS[i % CHRONOS.length], instant);
+        }
+    }
+
+    public void testGet_boundaries() {
+        long[] instants = {
+            0L, -1L, 1L, 86399999L, -86400000L, -86400001L,
+            951782400000L, 951868800000L, -62135596800000L, -62167219200000L, -62167219200001L,
+            1000000L * 365 * 86400000L - 1, -1000000L * 365 * 86400000L + 1,
+            1000000L * 365 * 86400000L, -1000000L * 365 * 86400000L,
+        };
+        for (Chronology chrono : CHRONOS) {
+            for (long instant : instants) {
+                assertMatches(chrono, instant);
+            }
+        }
+    }
+
+    private void assertMatches(Chronology chrono, long instant) {
+        String msg = chrono + " " + instant;
+        for (DateTimeFieldType type : TYPES) {
+            assertEquals(msg + " " + type, type.getField(chrono).get(instant), IsoFastPath.get(chrono, type, instant));
+        }
+        assertEquals(msg, chrono.year().get(instant), IsoFastPath.getYear(chrono, instant));
+        assertEquals(msg, chrono.monthOfYear().get(instant), IsoFastPath.getMonthOfYear(chrono, instant));
+        assertEquals(msg, chrono.dayOfMonth().get(instant), IsoFastPath.getDayOfMonth(chrono, instant));
+        assertEquals(msg, chrono.dayOfYear().get(instant), IsoFastPath.getDayOfYear(chrono, instant));
+        assertEquals(msg, chrono.dayOfWeek().get(instant), IsoFastPath.getDayOfWeek(chrono, instant));
+        assertEquals(msg, chrono.hourOfDay().get(instant), IsoFastPath.getHourOfDay(chrono, instant));
+        assertEquals(msg, chrono.minuteOfDay().get(instant), IsoFastPath.getMinuteOfDay(chrono, instant));
+        assertEquals(msg, chrono.minuteOfHour().get(instant), IsoFastPath.getMinuteOfHour(chrono, instant));
+        assertEquals(msg, chrono.secondOfDay().get(instant), IsoFastPath.getSecondOfDay(chrono, instant));
+        assertEquals(msg, chrono.secondOfMinute().get(instant), IsoFastPath.getSecondOfMinute(chrono, instant));
+        assertEquals(msg, chrono.millisOfDay().get(instant), IsoFastPath.getMillisOfDay(chrono, instant));
+        assertEquals(msg, chrono.millisOfSecond().get(instant), IsoFastPath.getMillisOfSecond(chrono, instant));
+    }
+
+    //-----------------------------------------------------------------------
+    public void testCallers() {
+        DateTimeZone zone = DateTimeZone.forOffsetHours(2);
+        DateTime dt = new DateTime(2024, 2, 29, 23, 59, 58, 999, zone);
+        assertEquals(2024, dt.getYear());
+        assertEquals(2, dt.getMonthOfYear());
+        assertEquals(29, dt.getDayOfMonth());
+        assertEquals(60, dt.getDayOfYear());
+        assertEquals(4, dt.getDayOfWeek());
+        assertEquals(23, dt.getHourOfDay());
+        assertEquals(59, dt.getMinuteOfHour());
+        assertEquals(58, dt.getSecondOfMinute());
+        assertEquals(999, dt.getMillisOfSecond());
+        assertEquals("2024-02-29T23:59:58.999+02:00", ISODateTimeFormat.dateTime().print(dt));
+        LocalDate date = new LocalDate(0, 12, 31);
+        assertEquals(366, date.getDayOfYear());
+        assertEquals(ISOChronology.getInstanceUTC().dayOfWeek().get(date.toEpochDay() * 86400000L), date.getDayOfWeek());
+    }
+
+}
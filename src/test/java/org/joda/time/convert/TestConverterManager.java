@@ -174,6 +174,38 @@ public class TestConverterManager extends TestCase {
         assertEquals(6, ConverterManager.getInstance().getInstantConverters().length);
     }
 
+    public void testGetInstantConverterReplacedString() {
+        InstantConverter c = new InstantConverter() {
+            public long getInstantMillis(Object object, Chronology chrono) {return 0;}
+            public Chronology getChronology(Object object, DateTimeZone zone) {return null;}
+            public Chronology getChronology(Object object, Chronology chrono) {return null;}
+            public Class getSupportedType() {return String.class;}
+        };
+        try {
+            ConverterManager.getInstance().addInstantConverter(c);
+            assertSame(c, ConverterManager.getInstance().getInstantConverter(""));
+            assertSame(LongConverter.INSTANCE, ConverterManager.getInstance().getInstantConverter(new Long(0L)));
+        } finally {
+            ConverterManager.getInstance().addInstantConverter(StringConverter.INSTANCE);
+        }
+        assertSame(StringConverter.INSTANCE, ConverterManager.getInstance().getInstantConverter(""));
+        assertEquals(6, ConverterManager.getInstance().getInstantConverters().length);
+    }
+
+    public void testGetInstantConverterRemovedDate() {
+        try {
+            ConverterManager.getInstance().removeInstantConverter(DateConverter.INSTANCE);
+            try {
+                ConverterManager.getInstance().getInstantConverter(new Date());
+                fail();
+            } catch (IllegalArgumentException ex) {}
+        } finally {
+            ConverterManager.getInstance().addInstantConverter(DateConverter.INSTANCE);
+        }
+        assertSame(DateConverter.INSTANCE, ConverterManager.getInstance().getInstantConverter(new Date()));
+        assertSame(DateConverter.INSTANCE, ConverterManager.getInstance().getInstantConverter(new java.sql.Date(0L)));
+    }
+
     public void testGetInstantConverterOKMultipleMatches() {
         InstantConverter c = new InstantConverter() {
             public long getInstantMillis(Object object, Chronology chrono) {return 0;}
@@ -379,6 +411,20 @@ public class TestConverterManager extends TestCase {
         assertEquals(PARTIAL_SIZE, ConverterManager.getInstance().getPartialConverters().length);
     }
 
+    public void testGetPartialConverterRemovedLong() {
+        try {
+            ConverterManager.getInstance().removePartialConverter(LongConverter.INSTANCE);
+            try {
+                ConverterManager.getInstance().getPartialConverter(new Long(0L));
+                fail();
+            } catch (IllegalArgumentException ex) {}
+        } finally {
+            ConverterManager.getInstance().addPartialConverter(LongConverter.INSTANCE);
+        }
+        assertSame(LongConverter.INSTANCE, ConverterManager.getInstance().getPartialConverter(new Long(0L)));
+        assertSame(ReadableInstantConverter.INSTANCE, ConverterManager.getInstance().getPartialConverter(new DateTime()));
+    }
+
     public void testGetPartialConverterOKMultipleMatches() {
         PartialConverter c = new PartialConverter() {
             public int[] getPartialValues(ReadablePartial partial, Object object, Chronology chrono) {return null;}
@@ -110,6 +110,29 @@ public class TestConverterSet extends TestCase {
         assertEquals(4, set.size());
     }
 
+    public void testSelectCached() {
+        Converter[] array = new Converter[] {
+            c1, c2, c3, c4,
+        };
+        ConverterSet set = new ConverterSet(array);
+        assertSame(c1, set.select(Boolean.class));
+        assertSame(c2, set.select(Character.class));
+        assertSame(c1, set.select(Boolean.class));
+        assertSame(c2, set.select(Character.class));
+        assertSame(null, set.select(null));
+        assertSame(null, set.select(null));
+        assertSame(null, set.select(Integer.class));
+        assertSame(null, set.select(Integer.class));
+    }
+
+    public void testContainsSame() {
+        ConverterSet set = new ConverterSet(new Converter[] {c1, c2, c3, c4});
+        assertEquals(true, set.containsSame(set));
+        assertEquals(true, set.containsSame(new ConverterSet(new Converter[] {c4, c3, c2, c1})));
+        assertEquals(false, set.containsSame(new ConverterSet(new Converter[] {c1, c2, c3})));
+        assertEquals(false, set.containsSame(set.remove(c4, null).add(c5, null)));
+    }
+
     //-----------------------------------------------------------------------
     public void testAddNullRemoved1() {
         Converter[] array = new Converter[] {
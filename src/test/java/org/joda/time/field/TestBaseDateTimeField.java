@@ -17,17 +17,22 @@ package org.joda.time.field;
 
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.Random;
 
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.joda.time.Chronology;
+import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeField;
 import org.joda.time.DateTimeFieldType;
 import org.joda.time.DurationField;
+import org.joda.time.DateTimeZone;
 import org.joda.time.DurationFieldType;
 import org.joda.time.TimeOfDay;
 import org.joda.time.base.BasePartial;
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.GJChronology;
 import org.joda.time.chrono.ISOChronology;
 
 /**
@@ -472,6 +477,74 @@ public class TestBaseDateTimeField extends TestCase {
         assertEquals(60L, field.roundFloor(60L));
     }
 
+    public void test_roundFloor_longArray() {
+        BaseDateTimeField field = new MockBaseDateTimeField();
+        long[] instants = {0L, 29L, 31L, 60L, 59L, 125L};
+        long[] results = new long[6];
+        field.roundFloor(instants, results);
+        assertEquals(true, Arrays.equals(new long[] {0L, 0L, 0L, 60L, 0L, 120L}, results));
+        field.roundFloor(instants, instants);
+        assertEquals(true, Arrays.equals(results, instants));
+        try {
+            field.roundFloor(new long[2], new long[1]);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            field.roundFloor(null, new long[1]);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    public void test_roundFloor_longArray_chronologies() {
+        Chronology[] chronos = {
+            ISOChronology.getInstanceUTC(),
+            ISOChronology.getInstance(DateTimeZone.forID("Europe/London")),
+            ISOChronology.getInstance(DateTimeZone.forID("America/Havana")),
+            GJChronology.getInstance(DateTimeZone.forID("Australia/Lord_Howe")),
+            BuddhistChronology.getInstance(DateTimeZone.forOffsetHours(5)),
+        };
+        DateTimeFieldType[] types = {
+            DateTimeFieldType.year(), DateTimeFieldType.monthOfYear(), DateTimeFieldType.weekOfWeekyear(),
+            DateTimeFieldType.dayOfMonth(), DateTimeFieldType.hourOfDay(), DateTimeFieldType.minuteOfHour(),
+            DateTimeFieldType.centuryOfEra(), DateTimeFieldType.yearOfCentury(), DateTimeFieldType.halfdayOfDay(),
+        };
+        Random random = new Random(37);
+        for (Chronology chrono : chronos) {
+            for (DateTimeFieldType type : types) {
+                DateTimeField field = type.getField(chrono);
+                long[] instants = new long[2000];
+                long instant = -12219292800000L - 50L * DateTimeConstants.MILLIS_PER_DAY;
+                for (int i = 0; i < instants.length; i++) {
+                    instant += random.nextInt(20 * DateTimeConstants.MILLIS_PER_HOUR);
+                    instants[i] = instant;
+                    if (i == 1000) {
+                        instant = 1711760400000L - 5L * DateTimeConstants.MILLIS_PER_DAY;
+                    }
+                }
+                instants[500] = instants[100];
+                long[] results = new long[instants.length];
+                field.roundFloor(instants, results);
+                for (int i = 0; i < instants.length; i++) {
+                    assertEquals(chrono + " " + type, field.roundFloor(instants[i]), results[i]);
+                }
+            }
+        }
+    }
+
+    public void test_roundFloor_longArray_delegatedOverride() {
+        DateTimeField field = new DelegatedDateTimeField(ISOChronology.getInstanceUTC().hourOfDay()) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            public long roundFloor(long instant) {
+                return super.roundFloor(instant) + 1;
+            }
+        };
+        long[] instants = {0L, 1L, DateTimeConstants.MILLIS_PER_HOUR + 5L};
+        long[] results = new long[3];
+        field.roundFloor(instants, results);
+        assertEquals(true, Arrays.equals(new long[] {1L, 1L, DateTimeConstants.MILLIS_PER_HOUR + 1L}, results));
+    }
+
     public void test_roundCeiling_long() {
         BaseDateTimeField field = new MockBaseDateTimeField();
         assertEquals(0L, field.roundCeiling(0L));
@@ -50,6 +50,9 @@ public class TestAll extends TestCase {
         suite.addTest(TestISOPeriodFormatParsing.suite());
         suite.addTest(TestPeriodFormatParsing.suite());
         suite.addTest(TestPeriodFormatterBuilder.suite());
+        suite.addTest(TestPatternCache.suite());
+        suite.addTest(TestIsoDateTimeParser.suite());
+        suite.addTest(TestFormatUtils.suite());
 
         suite.addTest(TestTextFields.suite());
 
@@ -221,6 +221,41 @@ public class TestDateTimeFormatStyle extends TestCase {
         assertEquals(expect, f.withLocale(FRANCE).print(dt));
     }
 
+    public void testForStyle_alternatingLocales() throws Exception {
+        DateTimeFormatter f = DateTimeFormat.mediumDateTime();
+        DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 0);
+        String uk = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM, UK).format(dt.toDate());
+        String fr = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM, FRANCE).format(dt.toDate());
+        DateTimeFormatter french = f.withLocale(FRANCE);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(uk, f.print(dt));
+            assertEquals(fr, french.print(dt));
+            assertEquals(uk, french.withLocale(UK).print(dt));
+            assertEquals(fr, f.withLocale(FRANCE).print(dt));
+        }
+        assertEquals(dt, french.withZone(dt.getZone()).parseDateTime(fr));
+    }
+
+    public void testForStyle_withLocaleShared() throws Exception {
+        DateTimeFormatter f = DateTimeFormat.mediumDateTime();
+        DateTimeFormatter french = f.withLocale(FRANCE);
+        assertSame(french, f.withLocale(FRANCE));
+        assertSame(french, f.withLocale(UK).withLocale(FRANCE));
+        assertEquals(FRANCE, french.getLocale());
+        DateTimeFormatter zoned = f.withZoneUTC().withLocale(FRANCE);
+        assertNotSame(french, zoned);
+        assertEquals(DateTimeZone.UTC, zoned.getZone());
+        assertEquals(FRANCE, zoned.getLocale());
+    }
+
+    public void testForStyle_withLocaleResolved_usedByBuilder() throws Exception {
+        DateTimeFormatter french = DateTimeFormat.shortDate().withLocale(FRANCE);
+        DateTimeFormatter f = new DateTimeFormatterBuilder().append(french).toFormatter().withLocale(US);
+        DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 0);
+        String expect = DateFormat.getDateInstance(DateFormat.SHORT, US).format(dt.toDate());
+        assertEquals(expect, f.print(dt));
+    }
+
     //-----------------------------------------------------------------------
     public void testForStyle_longDate() throws Exception {
         DateTimeFormatter f = DateTimeFormat.longDate();
@@ -21,10 +21,13 @@ import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 
+import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeFieldType;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDateTime;
+import org.joda.time.chrono.GregorianChronology;
+import org.joda.time.chrono.ISOChronology;
 
 import junit.framework.AssertionFailedError;
 import junit.framework.TestCase;
@@ -800,6 +803,48 @@ public class TestDateTimeFormatterBuilder extends TestCase {
         }
     }
 
+    //-----------------------------------------------------------------------
+    public void test_printFractionOfSecond_matchesGeneral() {
+        Chronology iso = ISOChronology.getInstanceUTC();
+        Chronology gregorian = GregorianChronology.getInstanceUTC();
+        int[] millis = {0, 1, 5, 9, 10, 50, 99, 100, 120, 123, 500, 999};
+        for (int minDigits = 0; minDigits <= 20; minDigits++) {
+            for (int maxDigits = Math.max(minDigits, 1); maxDigits <= 20; maxDigits++) {
+                DateTimeFormatter f = new DateTimeFormatterBuilder()
+                    .appendFractionOfSecond(minDigits, maxDigits).toFormatter();
+                for (int i = 0; i < millis.length; i++) {
+                    long instant = 1234567890000L + millis[i];
+                    String expected = f.withChronology(gregorian).print(instant);
+                    assertEquals(minDigits + "," + maxDigits + "," + millis[i], expected, f.withChronology(iso).print(instant));
+                    expected = f.withChronology(gregorian).print(-instant);
+                    assertEquals(minDigits + "," + maxDigits + "," + millis[i], expected, f.withChronology(iso).print(-instant));
+                }
+            }
+        }
+    }
+
+    public void test_parseFractionOfSecond() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendSecondOfMinute(2).appendLiteral('.').appendFractionOfSecond(1, 9).toFormatter().withZoneUTC();
+        assertEquals(30500, f.parseMillis("30.5"));
+        assertEquals(30050, f.parseMillis("30.05"));
+        assertEquals(30123, f.parseMillis("30.123"));
+        assertEquals(30123, f.parseMillis("30.123456789"));
+        assertEquals(30999, f.parseMillis("30.999999"));
+        try {
+            f.parseMillis("30.");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            f.parseMillis("30.1234567890");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
     private static void assertPrint(String expected, DateTimeFormatter f, DateTime dt) {
         assertEquals(expected, f.print(dt));
         StringWriter out = new StringWriter();
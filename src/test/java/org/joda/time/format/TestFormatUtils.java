@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for FormatUtils.
+ */
+public class TestFormatUtils extends TestCase {
+
+    private static final int[] VALUES = {
+        0, 1, 9, 10, 11, 99, 100, 101, 999, 1000, 9999, 10000, 12345, 99999, 100000, 999999,
+        1000000, 123456789, 999999999, 1000000000, Integer.MAX_VALUE, -1, -10, -99, -100, -12345,
+        -Integer.MAX_VALUE, Integer.MIN_VALUE,
+    };
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestFormatUtils.class);
+    }
+
+    public TestFormatUtils(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testAppendPaddedInteger_int() throws IOException {
+        Random random = new Random(1357);
+        for (int i = 0; i < 2000; i++) {
+            int value = (i < VALUES.length ? VALUES[i] : random.nextInt() >> random.nextInt(32));
+            for (int size = 0; size <= 12; size++) {
+                String expected = padded(Long.toString(value), size);
+                StringBuilder builder = new StringBuilder();
+                FormatUtils.appendPaddedInteger(builder, value, size);
+                assertEquals(expected, builder.toString());
+                StringBuffer buffer = new StringBuffer();
+                FormatUtils.appendPaddedInteger(buffer, value, size);
+                assertEquals(expected, buffer.toString());
+                StringWriter writer = new StringWriter();
+                FormatUtils.writePaddedInteger(writer, value, size);
+                assertEquals(expected, writer.toString());
+                Appendable other = new PlainAppendable();
+                FormatUtils.appendPaddedInteger(other, value, size);
+                assertEquals(expected, other.toString());
+            }
+        }
+    }
+
+    public void testAppendPaddedInteger_long() throws IOException {
+        long[] values = {0, 5, 123456789012L, -123456789012L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : values) {
+            for (int size = 0; size <= 22; size++) {
+                StringBuilder builder = new StringBuilder();
+                FormatUtils.appendPaddedInteger(builder, value, size);
+                assertEquals(padded(Long.toString(value), size), builder.toString());
+            }
+        }
+    }
+
+    public void testAppendUnpaddedInteger() throws IOException {
+        Random random = new Random(2468);
+        for (int i = 0; i < 2000; i++) {
+            int value = (i < VALUES.length ? VALUES[i] : random.nextInt() >> random.nextInt(32));
+            StringBuilder builder = new StringBuilder();
+            FormatUtils.appendUnpaddedInteger(builder, value);
+            assertEquals(Integer.toString(value), builder.toString());
+            StringWriter writer = new StringWriter();
+            FormatUtils.writeUnpaddedInteger(writer, value);
+            assertEquals(Integer.toString(value), writer.toString());
+            Appendable other = new PlainAppendable();
+            FormatUtils.appendUnpaddedInteger(other, value);
+            assertEquals(Integer.toString(value), other.toString());
+        }
+    }
+
+    public void testCalculateDigitCount() {
+        long value = 1;
+        for (int digits = 1; digits <= 19; digits++) {
+            assertEquals(digits, FormatUtils.calculateDigitCount(value));
+            assertEquals(digits, FormatUtils.calculateDigitCount(value * 10 - 1 > 0 ? value * 10 - 1 : Long.MAX_VALUE));
+            assertEquals(digits + 1, FormatUtils.calculateDigitCount(-value));
+            value *= 10;
+        }
+        assertEquals(1, FormatUtils.calculateDigitCount(0));
+        assertEquals(20, FormatUtils.calculateDigitCount(Long.MIN_VALUE));
+    }
+
+    //-----------------------------------------------------------------------
+    private static String padded(String str, int size) {
+        boolean negative = str.startsWith("-");
+        StringBuilder buf = new StringBuilder(negative ? str.substring(1) : str);
+        while (buf.length() < size) {
+            buf.insert(0, '0');
+        }
+        return (negative ? "-" : "") + buf;
+    }
+
+    static class PlainAppendable implements Appendable {
+        private final StringBuilder iBuf = new StringBuilder();
+        public Appendable append(CharSequence csq) {
+            iBuf.append(csq);
+            return this;
+        }
+        public Appendable append(CharSequence csq, int start, int end) {
+            iBuf.append(csq, start, end);
+            return this;
+        }
+        public Appendable append(char c) {
+            iBuf.append(c);
+            return this;
+        }
+        public String toString() {
+            return iBuf.toString();
+        }
+    }
+
+}
@@ -137,6 +137,28 @@ public class TestISOPeriodFormat extends TestCase {
         assertEquals("PT-0.008S", ISOPeriodFormat.standard().print(p));
     }
 
+    public void testFormatStandard_matchesGeneralPrinter() {
+        PeriodFormatter general = TestISOPeriodFormatParsing.buildGeneralStandard();
+        PeriodFormatter printer = ISOPeriodFormat.standard();
+        Period[] periods = new Period[] {
+            new Period(1, 2, 3, 4, 5, 6, 7, 8), new Period(0), new Period(0, PeriodType.days()),
+            new Period(0, PeriodType.years()), new Period(0, PeriodType.millis()), new Period(1500),
+            new Period(0, 0, 0, 0, 0, 0, 1, -1500), new Period(0, 0, 0, 0, 0, 0, 0, -999),
+            new Period(0, 0, 0, 0, 0, 0, Integer.MAX_VALUE, 999), new Period(0, 0, 0, 0, 0, 0, Integer.MIN_VALUE, -999),
+            new Period(Integer.MIN_VALUE, 0, 0, Integer.MAX_VALUE, 0, 0, 0, 0), Period.millis(Integer.MAX_VALUE),
+            YEAR_DAY_PERIOD, EMPTY_YEAR_DAY_PERIOD, DATE_PERIOD, TIME_PERIOD,
+            new Period(0, PeriodType.standard().withMillisRemoved().withSecondsRemoved()),
+        };
+        for (int i = 0; i < periods.length; i++) {
+            String expected = general.print(periods[i]);
+            assertEquals(expected, printer.print(periods[i]));
+            assertEquals(expected, printer.getPrinter().calculatePrintedLength(periods[i], null),
+                general.getPrinter().calculatePrintedLength(periods[i], null));
+            assertEquals(general.getPrinter().countFieldsToPrint(periods[i], Integer.MAX_VALUE, null),
+                printer.getPrinter().countFieldsToPrint(periods[i], Integer.MAX_VALUE, null));
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void testFormatAlternate() {
         Period p = new Period(1, 2, 3, 4, 5, 6 ,7, 8);
@@ -24,6 +24,7 @@ import junit.framework.TestSuite;
 import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
+import org.joda.time.MutablePeriod;
 import org.joda.time.Period;
 import org.joda.time.PeriodType;
 
@@ -203,4 +204,85 @@ public class TestISOPeriodFormatParsing extends TestCase {
         } catch (IllegalArgumentException ex) {}
     }
 
+    //-----------------------------------------------------------------------
+    public void testParseStandard_matchesGeneralParser() {
+        PeriodFormatter general = buildGeneralStandard();
+        PeriodFormatter parser = ISOPeriodFormat.standard();
+        String[] texts = new String[] {
+            "P1Y2M3W4DT5H6M7.008S", "P1Y", "P2M", "P3W", "P4D", "PT5H", "PT6M", "PT7S", "PT7.8S", "PT7.89S",
+            "PT7,008S", "PT7.0089S", "PT-0.5S", "PT-1.5S", "P-1Y-2M", "P1M", "PT1M", "P1MT1M", "PT0S", "P0D",
+            "P123456789D", "P1234567890D", "P2147483648D", "PT123456789.1S", "PT12345678.12S", "PT1234567.123S",
+            "PT1.1234567S", "PT1.123456789S", "P", "PT", "P1DT", "p1d", "P1d", "P+1D", "P1D2Y", "P1Y1Y", "PT1D", "P1H",
+            "P1.5D", "PT1.5H", "PT1.S", "PT.5S", "P1DX", "P1D5", "X", "", "P1Y2M3W4DT5H6M7S/P1D", "P--1D", "P-D",
+        };
+        for (int i = 0; i < texts.length; i++) {
+            assertSameParse(general, parser, texts[i], PeriodType.standard());
+            assertSameParse(general, parser, texts[i], PeriodType.yearMonthDayTime());
+            assertSameParse(general, parser, texts[i], PeriodType.dayTime());
+        }
+    }
+
+    public void testParseStandard_parseIntoPosition() {
+        PeriodFormatter general = buildGeneralStandard();
+        PeriodFormatter parser = ISOPeriodFormat.standard();
+        String text = "xxP1DT2H";
+        MutablePeriod expected = new MutablePeriod();
+        MutablePeriod test = new MutablePeriod();
+        assertEquals(general.parseInto(expected, text, 2), parser.parseInto(test, text, 2));
+        assertEquals(expected, test);
+        assertEquals(new Period(0, 0, 0, 1, 2, 0, 0, 0), test.toPeriod());
+    }
+
+    private void assertSameParse(PeriodFormatter general, PeriodFormatter parser, String text, PeriodType type) {
+        Object expected;
+        try {
+            expected = general.withParseType(type).parsePeriod(text);
+        } catch (RuntimeException ex) {
+            expected = ex.getClass().getName() + ": " + ex.getMessage();
+        }
+        Object actual;
+        try {
+            actual = parser.withParseType(type).parsePeriod(text);
+        } catch (RuntimeException ex) {
+            actual = ex.getClass().getName() + ": " + ex.getMessage();
+        }
+        assertEquals(text + " " + type, expected, actual);
+        
+        MutablePeriod expectedPeriod = new MutablePeriod(type);
+        MutablePeriod actualPeriod = new MutablePeriod(type);
+        try {
+            expected = Integer.valueOf(general.parseInto(expectedPeriod, text, 0));
+        } catch (RuntimeException ex) {
+            expected = ex.getClass().getName() + ": " + ex.getMessage();
+        }
+        try {
+            actual = Integer.valueOf(parser.parseInto(actualPeriod, text, 0));
+        } catch (RuntimeException ex) {
+            actual = ex.getClass().getName() + ": " + ex.getMessage();
+        }
+        assertEquals(text + " " + type, expected, actual);
+        assertEquals(text + " " + type, expectedPeriod, actualPeriod);
+    }
+
+    static PeriodFormatter buildGeneralStandard() {
+        return new PeriodFormatterBuilder()
+            .appendLiteral("P")
+            .appendYears()
+            .appendSuffix("Y")
+            .appendMonths()
+            .appendSuffix("M")
+            .appendWeeks()
+            .appendSuffix("W")
+            .appendDays()
+            .appendSuffix("D")
+            .appendSeparatorIfFieldsAfter("T")
+            .appendHours()
+            .appendSuffix("H")
+            .appendMinutes()
+            .appendSuffix("M")
+            .appendSecondsWithOptionalMillis()
+            .appendSuffix("S")
+            .toFormatter();
+    }
+
 }
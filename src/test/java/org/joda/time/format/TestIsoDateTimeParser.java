@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDateTime;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for IsoDateTimeParser.
+ */
+public class TestIsoDateTimeParser extends TestCase {
+
+    private static final String[] SAMPLES = {
+        "2004-06-09", "2004-06-09T10", "2004-06-09T10:20", "2004-06-09T10:20:30",
+        "2004-06-09T10:20:30.1", "2004-06-09T10:20:30.123", "2004-06-09T10:20:30,123456789",
+        "2004-06-09T10:20:30.1234567890", "2004-06-09T10:20:30.123Z", "2004-06-09T10:20Z",
+        "2004-06-09T10:20:30+01:00", "2004-06-09T10:20:30-05:30", "2004-06-09T10:20:30+01",
+        "2004-06-09T10:20:30+0100", "2004-06-09T10:20:30+24:00", "2004-06-09T10:20:30+01:60",
+        "2004-06-09T10:20:30+01:00:00", "2004-06-09T10:20:30z", "2004-06-09t10:20:30",
+        "2004-06-09T", "2004-06-09TZ", "2004-06-09T10.5", "2004-06-09T10:20.5",
+        "2004-06-09T25:00", "2004-06-09T24:00", "2004-13-09", "2004-02-30", "2004-6-9",
+        "2004-06-09T1:2:3", "2004-06-091", "2004-06-09X", "2004-06", "2004", "2004-161",
+        "2004-W24-3", "2004-W24-3T10:20", "+2004-06-09", "-0001-06-09", "12004-06-09",
+        "T10:20:30", "T10:20:30.123Z", "T10", "T10:20+02:00", "T", "t10:20", "10:20",
+        "", "X", "2004-06-09T10:20:30.", "2004-06-09T10:20:30.Z", "2004-06-09T10:20:", "2004-06-09T10:2",
+    };
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestIsoDateTimeParser.class);
+    }
+
+    public TestIsoDateTimeParser(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testSamples() {
+        for (String text : SAMPLES) {
+            assertSameResult(text);
+        }
+    }
+
+    public void testRandom() {
+        Random random = new Random(2468);
+        char[] alphabet = "0123456789-:T.,Z+W".toCharArray();
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder buf = new StringBuilder(SAMPLES[random.nextInt(SAMPLES.length)]);
+            int edits = random.nextInt(3);
+            for (int j = 0; j < edits && buf.length() > 0; j++) {
+                buf.setCharAt(random.nextInt(buf.length()), alphabet[random.nextInt(alphabet.length)]);
+            }
+            assertSameResult(buf.toString());
+        }
+    }
+
+    public void testFormatters() {
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 123, DateTimeZone.forOffsetHours(1)).getMillis(),
+                ISODateTimeFormat.dateTimeParser().parseMillis("2004-06-09T10:20:30.123+01:00"));
+        assertEquals(new LocalDateTime(2004, 6, 9, 10, 20, 30, 123),
+                ISODateTimeFormat.localDateOptionalTimeParser().parseLocalDateTime("2004-06-09T10:20:30.123"));
+        assertEquals(DateTimeZone.forOffsetHoursMinutes(-5, -30),
+                ISODateTimeFormat.dateOptionalTimeParser().withOffsetParsed()
+                    .parseDateTime("2004-06-09T10:20:30-05:30").getZone());
+        try {
+            ISODateTimeFormat.localDateOptionalTimeParser().parseLocalDateTime("2004-06-09T10:20:30Z");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals("Invalid format: \"2004-06-09T10:20:30Z\" is malformed at \"Z\"", ex.getMessage());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertSameResult(String text) {
+        DateTimeFormatter[] formatters = {
+            ISODateTimeFormat.dateTimeParser(),
+            ISODateTimeFormat.dateOptionalTimeParser(),
+            ISODateTimeFormat.localDateOptionalTimeParser(),
+        };
+        Chronology[] chronos = {ISOChronology.getInstanceUTC(), GJChronology.getInstance(DateTimeZone.forID("Europe/Paris"))};
+        for (DateTimeFormatter formatter : formatters) {
+            InternalParser fast = formatter.getParser0();
+            InternalParser tree = ((IsoDateTimeParser) fast).getFallback();
+            for (Chronology chrono : chronos) {
+                assertEquals(text, parse(fast, chrono, text), parse(tree, chrono, text));
+            }
+        }
+    }
+
+    private String parse(InternalParser parser, Chronology chrono, String text) {
+        DateTimeParserBucket bucket = new DateTimeParserBucket(0L, chrono, Locale.UK, 2000, 2000);
+        int pos = parser.parseInto(bucket, text, 0);
+        if (pos < 0) {
+            return "error " + ~pos;
+        }
+        try {
+            return pos + " " + bucket.computeMillis(true, text) + " " + bucket.getOffsetInteger();
+        } catch (IllegalArgumentException ex) {
+            return pos + " " + ex.getMessage();
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2001-2025 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for PatternCache.
+ */
+public class TestPatternCache extends TestCase {
+
+    private static final DateTimeFormatter FORMATTER = ISODateTimeFormat.date();
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestPatternCache.class);
+    }
+
+    public TestPatternCache(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetPut() {
+        PatternCache test = new PatternCache(10);
+        assertEquals(null, test.get("yyyy"));
+        assertSame(FORMATTER, test.put("yyyy", FORMATTER));
+        assertSame(FORMATTER, test.get("yyyy"));
+        DateTimeFormatter other = ISODateTimeFormat.time();
+        assertSame(FORMATTER, test.put("yyyy", other));
+        PatternCacheStatistics stats = test.getStatistics();
+        assertEquals(1, stats.getSize());
+        assertEquals(10, stats.getMaximumSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(0.5d, stats.getHitRate(), 0.0001d);
+        assertEquals("PatternCacheStatistics[size=1, maximumSize=10, hits=1, misses=1, evictions=0]", stats.toString());
+    }
+
+    public void testHotPatternsSurviveOneOffPatterns() {
+        PatternCache test = new PatternCache(4);
+        String[] hot = {"yyyy", "MM", "dd", "HH"};
+        for (int i = 0; i < 5; i++) {
+            for (String pattern : hot) {
+                if (test.get(pattern) == null) {
+                    test.put(pattern, FORMATTER);
+                }
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            String pattern = "'x" + i + "'";
+            if (test.get(pattern) == null) {
+                test.put(pattern, FORMATTER);
+            }
+            if (i % 10 == 0) {
+                for (String h : hot) {
+                    assertNotNull(test.get(h));
+                }
+            }
+        }
+        for (String pattern : hot) {
+            assertNotNull(pattern, test.get(pattern));
+        }
+        assertEquals(0, test.getStatistics().getEvictionCount());
+    }
+
+    public void testNewHotPatternIsAdmitted() {
+        PatternCache test = new PatternCache(2);
+        for (String pattern : new String[] {"a", "b"}) {
+            test.get(pattern);
+            test.put(pattern, FORMATTER);
+        }
+        int calls = 0;
+        while (test.get("c") == null) {
+            test.put("c", FORMATTER);
+            calls++;
+            assertTrue(calls < 10);
+        }
+        assertEquals(2, test.getStatistics().getSize());
+        assertEquals(1, test.getStatistics().getEvictionCount());
+    }
+
+    public void testNewHotPatternIsAdmittedWhenCountersSaturated() {
+        PatternCache test = new PatternCache(2);
+        for (int i = 0; i < 1000; i++) {
+            for (String pattern : new String[] {"a", "b"}) {
+                if (test.get(pattern) == null) {
+                    test.put(pattern, FORMATTER);
+                }
+            }
+        }
+        int rebuilds = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (test.get("c") == null) {
+                test.put("c", FORMATTER);
+                rebuilds++;
+            }
+        }
+        assertTrue("rebuilds: " + rebuilds, rebuilds < 1000);
+        assertEquals(1, test.getStatistics().getEvictionCount());
+        assertNotNull(test.get("c"));
+    }
+
+    public void testSizeZero() {
+        PatternCache test = new PatternCache(0);
+        assertSame(FORMATTER, test.put("yyyy", FORMATTER));
+        assertEquals(null, test.get("yyyy"));
+        assertEquals(0, test.getStatistics().getSize());
+    }
+
+    public void testSetMaximumSize() {
+        PatternCache test = new PatternCache(5);
+        test.put("yyyy", FORMATTER);
+        test.setMaximumSize(3);
+        assertEquals(3, test.getMaximumSize());
+        assertEquals(null, test.get("yyyy"));
+        try {
+            test.setMaximumSize(-1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testDateTimeFormat_statistics() {
+        int size = DateTimeFormat.getPatternCacheSize();
+        try {
+            DateTimeFormat.setPatternCacheSize(20);
+            assertEquals(20, DateTimeFormat.getPatternCacheSize());
+            PatternCacheStatistics before = DateTimeFormat.getPatternCacheStatistics();
+            DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH");
+            assertSame(f, DateTimeFormat.forPattern("yyyy-MM-dd'T'HH"));
+            PatternCacheStatistics after = DateTimeFormat.getPatternCacheStatistics();
+            assertEquals(before.getMissCount() + 1, after.getMissCount());
+            assertEquals(before.getHitCount() + 1, after.getHitCount());
+            assertEquals(20, after.getMaximumSize());
+        } finally {
+            DateTimeFormat.setPatternCacheSize(size);
+        }
+    }
+
+}
@@ -429,6 +429,43 @@ public class TestPeriodFormatterBuilder extends TestCase {
         assertEquals(Period.days(2), period);
     }
 
+    public void testRegExAffixCompiledRules() {
+        String[] regExes = new String[] {
+            "^1$", "1", "^0$", "^[2-4]$", "[2-4]", "[0-9]*", "^[0-9]*$", "[0-9]*1$", "[0-9]*[2-4]$",
+            "[0-9]*(?<!1)[2-4]$", "[0-9]*(?<!2)[0-9]$", "(?![0-9]*11$)[0-9]*1$", "(?![0-9]*(?:12|13|14)$)[0-9]*[2-4]$",
+            "(?![0-9]*(?:14|12|13)$)[0-9]*[2-4]$", "(?![0-9]*111$)[0-9]*", "^123456789$",
+        };
+        for (String regEx : regExes) {
+            int[] rule = PeriodFormatterBuilder.RegExAffix.compileRule(regEx);
+            assertNotNull(regEx, rule);
+            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(regEx);
+            for (int value = -150; value <= 1500; value++) {
+                boolean expected = pattern.matcher(String.valueOf(value)).matches();
+                assertEquals(regEx + " " + value, expected, PeriodFormatterBuilder.RegExAffix.matchesRule(rule, value));
+            }
+            int[] values = new int[] {123456789, Integer.MAX_VALUE, Integer.MIN_VALUE, 1000011, 1000012, 2000004};
+            for (int value : values) {
+                boolean expected = pattern.matcher(String.valueOf(value)).matches();
+                assertEquals(regEx + " " + value, expected, PeriodFormatterBuilder.RegExAffix.matchesRule(rule, value));
+            }
+        }
+    }
+
+    public void testRegExAffixUnrecognisedRules() {
+        String[] regExes = new String[] {
+            "^.*$", "^01$", "[0-9]*(?<!0)[2-4]$", "(?![0-9]*(?:12|14)$)[0-9]*[2-4]$", "(?![0-9]*01$)[0-9]*1$",
+            "(?![0-9]*11$)[0-9]*(?<!1)[2-4]$", "[0-9]+", "^-1$",
+        };
+        for (String regEx : regExes) {
+            assertNull(regEx, PeriodFormatterBuilder.RegExAffix.compileRule(regEx));
+        }
+        PeriodFormatter f = builder.appendDays()
+                .appendSuffix(new String[]{"^01$", "^.*1$", "[0-9]*"}, new String[]{" a", " b", " c"}).toFormatter();
+        assertEquals("1 b", Period.days(1).toString(f));
+        assertEquals("21 b", Period.days(21).toString(f));
+        assertEquals("2 c", Period.days(2).toString(f));
+    }
+
     public void testFormatPrefixRegEx1() {
         PeriodFormatter f = builder.appendPrefix(new String[] { "^1$", "^.*$" }, new String[] { "Year:", "Years:" }).appendYears()
                 .toFormatter();
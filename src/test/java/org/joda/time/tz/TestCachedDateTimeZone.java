@@ -23,6 +23,9 @@ import java.io.ObjectOutputStream;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
 
 /**
@@ -63,6 +66,95 @@ public class TestCachedDateTimeZone extends TestCase {
         assertSame(zone1, zone2);
     }
 
+    public void test_precalculateOffsets() throws Exception {
+        CachedDateTimeZone zone = (CachedDateTimeZone) DateTimeZone.forID("Europe/Paris");
+        DateTimeZone uncached = zone.getUncachedZone();
+        long start = new DateTime(2020, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+        long end = new DateTime(2022, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+        try {
+            zone.precalculateOffsets(start, end);
+            assertEquals(true, zone.isPrecalculated(start));
+            assertEquals(false, zone.isPrecalculated(end));
+            for (long instant = start - 100L * DateTimeConstants.MILLIS_PER_DAY;
+                    instant < end + 100L * DateTimeConstants.MILLIS_PER_DAY; instant += 1800001L) {
+                assertEquals(uncached.getOffset(instant), zone.getOffset(instant));
+            }
+            long transition = uncached.nextTransition(start);
+            assertEquals(uncached.getOffset(transition - 1), zone.getOffset(transition - 1));
+            assertEquals(uncached.getOffset(transition), zone.getOffset(transition));
+            
+            // too many transitions to precalculate
+            zone.precalculateOffsets(start - 1000L * 365 * DateTimeConstants.MILLIS_PER_DAY, end);
+            assertEquals(false, zone.isPrecalculated(start));
+            assertEquals(uncached.getOffset(start), zone.getOffset(start));
+            try {
+                zone.precalculateOffsets(end, start);
+                fail();
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+        } finally {
+            zone.clearPrecalculatedOffsets();
+        }
+        assertEquals(false, zone.isPrecalculated(start));
+    }
+
+    public void test_precalculateOffsetsAroundNow() throws Exception {
+        CachedDateTimeZone zone = (CachedDateTimeZone) DateTimeZone.forID("Europe/Paris");
+        DateTimeZone uncached = zone.getUncachedZone();
+        long range = 100L * DateTimeConstants.MILLIS_PER_DAY;
+        long now = new DateTime(2020, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+        try {
+            DateTimeUtils.setCurrentMillisFixed(now);
+            zone.precalculateOffsetsAroundNow(range);
+            assertEquals(true, zone.isPrecalculated(now));
+            assertEquals(false, zone.isPrecalculated(now + range));
+            
+            // not refreshed until half the range has passed
+            long later = now + range / 4;
+            DateTimeUtils.setCurrentMillisFixed(later);
+            assertEquals(uncached.getOffset(now + range), zone.getOffset(now + range));
+            assertEquals(false, zone.isPrecalculated(now + range));
+            
+            // refreshed once the current time nears the end of the range
+            later = now + range * 3 / 4;
+            DateTimeUtils.setCurrentMillisFixed(later);
+            assertEquals(uncached.getOffset(now + range), zone.getOffset(now + range));
+            assertEquals(true, zone.isPrecalculated(later + range - 1));
+            assertEquals(false, zone.isPrecalculated(now - range / 2));
+            for (long instant = later - range; instant < later + range; instant += 1800001L) {
+                assertEquals(uncached.getOffset(instant), zone.getOffset(instant));
+            }
+            try {
+                zone.precalculateOffsetsAroundNow(0L);
+                fail();
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+            zone.clearPrecalculatedOffsets();
+        }
+        assertEquals(false, zone.isPrecalculated(now));
+    }
+
+    public void test_defaultPinned() throws Exception {
+        CachedDateTimeZone paris = (CachedDateTimeZone) DateTimeZone.forID("Europe/Paris");
+        CachedDateTimeZone newYork = (CachedDateTimeZone) DateTimeZone.forID("America/New_York");
+        long now = DateTimeUtils.currentTimeMillis();
+        try {
+            DateTimeZone.setDefault(paris);
+            DateTimeZone.setDefaultPinned(true);
+            assertEquals(true, paris.isPrecalculated(now));
+            DateTimeZone.setDefault(newYork);
+            assertEquals(false, paris.isPrecalculated(now));
+            assertEquals(true, newYork.isPrecalculated(now));
+        } finally {
+            DateTimeZone.setDefaultPinned(false);
+        }
+        assertEquals(false, newYork.isPrecalculated(now));
+    }
+
     //-----------------------------------------------------------------------
     public void testSerialization() throws Exception {
         CachedDateTimeZone test = CachedDateTimeZone.forZone(DateTimeZone.forID("Europe/Paris"));